@@ -0,0 +1,223 @@
+package com.csse3200.game.ai.movement;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.csse3200.game.areas.terrain.TileGrid;
+
+import java.util.Arrays;
+
+/**
+ * The cost of getting from every tile near a goal to the goal, so any number of entities heading
+ * for the same goal can find their way around obstacles by looking at the tiles next to them.
+ * <p>
+ * Costs are worked out with Dijkstra's algorithm over a map's {@link TileGrid}, moving between
+ * neighbouring tiles in eight directions. Non-traversable tiles can't be entered, slow tiles cost
+ * more to enter in proportion to their speed modifier, and diagonal moves may not cut the corner of a
+ * non-traversable tile. The search stops once costs reach a limit, so the time taken depends on the
+ * limit rather than the size of the map.
+ * <p>
+ * The field only has to be worked out again when the goal moves to a different tile or the grid
+ * changes, see {@link #update(TileGrid, int, int)}. Each search is given a new stamp, and costs from
+ * older searches are treated as unreached, so nothing has to be cleared between searches.
+ */
+public class FlowField {
+	/**
+	 * Offsets of the eight tiles around a tile, with the four straight moves first
+	 */
+	private static final int[] NEIGHBOUR_X = {1, -1, 0, 0, 1, 1, -1, -1};
+	private static final int[] NEIGHBOUR_Y = {0, 0, 1, -1, 1, -1, 1, -1};
+	private static final int STRAIGHT_MOVES = 4;
+	private static final float DIAGONAL_COST = (float) Math.sqrt(2);
+	private static final float MIN_SPEED_MODIFIER = 0.01f;
+	private static final int NO_GOAL = -1;
+
+	private final float maxCost;
+	private TileGrid grid;
+	private int gridVersion;
+	private int goalX = NO_GOAL;
+	private int goalY = NO_GOAL;
+	private int width;
+
+	private float[] costs = new float[0];
+	private int[] stamps = new int[0];
+	private int stamp;
+
+	/**
+	 * Binary min-heap of tile indexes to visit, ordered by their cost when they were added. Tiles
+	 * can be added more than once, in which case the older, more expensive entries are skipped.
+	 */
+	private int[] heapTiles = new int[64];
+	private float[] heapCosts = new float[64];
+	private int heapSize;
+
+	/**
+	 * Create an empty flow field
+	 *
+	 * @param maxCost highest cost worked out, tiles further from the goal than this are unreached
+	 */
+	public FlowField(float maxCost) {
+		this.maxCost = maxCost;
+	}
+
+	/**
+	 * Make sure the field leads to a goal tile, working it out again if the goal has moved to a
+	 * different tile or the grid has changed since it was last worked out.
+	 *
+	 * @param tileGrid grid of the map's tiles
+	 * @param x        x coordinate of the goal tile
+	 * @param y        y coordinate of the goal tile
+	 * @return true if the field was worked out again
+	 */
+	public boolean update(TileGrid tileGrid, int x, int y) {
+		if (tileGrid == grid && tileGrid.getVersion() == gridVersion && x == goalX && y == goalY) {
+			return false;
+		}
+		grid = tileGrid;
+		gridVersion = tileGrid.getVersion();
+		goalX = x;
+		goalY = y;
+		search();
+		return true;
+	}
+
+	/**
+	 * @param x x coordinate of the tile
+	 * @param y y coordinate of the tile
+	 * @return cost of getting from the tile to the goal, or infinity if it has not been reached
+	 */
+	public float getCost(int x, int y) {
+		if (grid == null || !grid.isInBounds(x, y)) {
+			return Float.POSITIVE_INFINITY;
+		}
+		int index = y * width + x;
+		return stamps[index] == stamp ? costs[index] : Float.POSITIVE_INFINITY;
+	}
+
+	/**
+	 * Find the neighbouring tile to move into to get closer to the goal
+	 *
+	 * @param x   x coordinate of the tile to move from
+	 * @param y   y coordinate of the tile to move from
+	 * @param out set to the coordinates of the tile to move into
+	 * @return true if there is a tile to move into, false if the tile is the goal, has not been
+	 * reached, or has no way to the goal
+	 */
+	public boolean getNextTile(int x, int y, GridPoint2 out) {
+		float best = getCost(x, y);
+		if (best == 0 || best == Float.POSITIVE_INFINITY) {
+			return false;
+		}
+		boolean found = false;
+		for (int i = 0; i < NEIGHBOUR_X.length; i++) {
+			int nx = x + NEIGHBOUR_X[i];
+			int ny = y + NEIGHBOUR_Y[i];
+			if (i >= STRAIGHT_MOVES && cutsCorner(x, y, nx, ny)) {
+				continue;
+			}
+			float cost = getCost(nx, ny);
+			if (cost < best) {
+				best = cost;
+				out.set(nx, ny);
+				found = true;
+			}
+		}
+		return found;
+	}
+
+	private void search() {
+		width = grid.getWidth();
+		int size = width * grid.getHeight();
+		if (costs.length != size) {
+			costs = new float[size];
+			stamps = new int[size];
+			stamp = 0;
+		}
+		stamp++;
+		heapSize = 0;
+		if (!grid.isInBounds(goalX, goalY)) {
+			return;
+		}
+
+		// The goal is always reached, even if it is not traversable, so entities can head for it
+		int goal = goalY * width + goalX;
+		costs[goal] = 0;
+		stamps[goal] = stamp;
+		push(goal, 0);
+		while (heapSize > 0) {
+			float cost = heapCosts[0];
+			int tile = pop();
+			if (cost > costs[tile]) {
+				continue;
+			}
+			int x = tile % width;
+			int y = tile / width;
+			// Moving from a neighbour towards the goal enters this tile, so pay for its terrain
+			float speedModifier = Math.max(grid.getSpeedModifier(x, y), MIN_SPEED_MODIFIER);
+			for (int i = 0; i < NEIGHBOUR_X.length; i++) {
+				int nx = x + NEIGHBOUR_X[i];
+				int ny = y + NEIGHBOUR_Y[i];
+				if (!grid.isTraversable(nx, ny) || (i >= STRAIGHT_MOVES && cutsCorner(x, y, nx, ny))) {
+					continue;
+				}
+				float step = i < STRAIGHT_MOVES ? 1f : DIAGONAL_COST;
+				float newCost = cost + step / speedModifier;
+				int next = ny * width + nx;
+				if (newCost <= maxCost && (stamps[next] != stamp || newCost < costs[next])) {
+					costs[next] = newCost;
+					stamps[next] = stamp;
+					push(next, newCost);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return true if a diagonal move between two tiles passes the corner of a non-traversable tile
+	 */
+	private boolean cutsCorner(int x, int y, int nx, int ny) {
+		return !grid.isTraversable(nx, y) || !grid.isTraversable(x, ny);
+	}
+
+	private void push(int tile, float cost) {
+		if (heapSize == heapTiles.length) {
+			heapTiles = Arrays.copyOf(heapTiles, heapSize * 2);
+			heapCosts = Arrays.copyOf(heapCosts, heapSize * 2);
+		}
+		int i = heapSize++;
+		while (i > 0) {
+			int parent = (i - 1) / 2;
+			if (heapCosts[parent] <= cost) {
+				break;
+			}
+			heapTiles[i] = heapTiles[parent];
+			heapCosts[i] = heapCosts[parent];
+			i = parent;
+		}
+		heapTiles[i] = tile;
+		heapCosts[i] = cost;
+	}
+
+	private int pop() {
+		int top = heapTiles[0];
+		int lastTile = heapTiles[--heapSize];
+		float lastCost = heapCosts[heapSize];
+		int i = 0;
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= heapSize) {
+				break;
+			}
+			if (child + 1 < heapSize && heapCosts[child + 1] < heapCosts[child]) {
+				child++;
+			}
+			if (heapCosts[child] >= lastCost) {
+				break;
+			}
+			heapTiles[i] = heapTiles[child];
+			heapCosts[i] = heapCosts[child];
+			i = child;
+		}
+		heapTiles[i] = lastTile;
+		heapCosts[i] = lastCost;
+		return top;
+	}
+}
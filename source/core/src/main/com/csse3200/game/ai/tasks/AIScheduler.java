@@ -0,0 +1,165 @@
+package com.csse3200.game.ai.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides when each {@link AITaskComponent} re-evaluates the priorities of its tasks, so that the
+ * cost of AI stays bounded as the number of entities grows.
+ * <p>
+ * Working out priorities can be expensive (chasing and running away cast a ray for visibility), but
+ * they rarely change from one tick to the next. Instead of every entity checking every tick, each
+ * entity re-evaluates at a fixed rate, with its first evaluation offset so that entities spawned
+ * together don't all evaluate in the same tick. The current task still updates every tick.
+ * <p>
+ * Evaluations in a tick are also limited to a time budget. Once it has been used up, any other
+ * entities that are due have their evaluation deferred until a later tick, and are counted in
+ * {@link #getDeferredCount()}. Entities whose current task has stopped always evaluate straight away,
+ * since they have nothing to run.
+ */
+public class AIScheduler {
+	private static final Logger logger = LoggerFactory.getLogger(AIScheduler.class);
+	/**
+	 * Default number of times per second each entity re-evaluates its task priorities
+	 */
+	public static final float DEFAULT_EVALUATION_RATE = 8f;
+	/**
+	 * Default time allowed for evaluations each tick, in nanoseconds
+	 */
+	public static final long DEFAULT_BUDGET = 1_000_000L;
+	/**
+	 * Fractional part of the golden ratio, used to spread phase offsets evenly over the interval
+	 */
+	private static final float PHASE_STEP = 0.618034f;
+
+	private float evaluationInterval;
+	private long budget;
+	private long budgetUsed;
+	private float nextPhase;
+
+	private int evaluatedThisTick;
+	private int deferredThisTick;
+	private int lastEvaluated;
+	private int lastDeferred;
+	private long totalDeferred;
+
+	/**
+	 * Create a scheduler with the default evaluation rate and budget
+	 */
+	public AIScheduler() {
+		this(DEFAULT_EVALUATION_RATE, DEFAULT_BUDGET);
+	}
+
+	/**
+	 * Create a scheduler
+	 *
+	 * @param evaluationRate number of times per second each entity re-evaluates its task priorities
+	 * @param budget         time allowed for evaluations each tick, in nanoseconds
+	 */
+	public AIScheduler(float evaluationRate, long budget) {
+		setEvaluationRate(evaluationRate);
+		setBudget(budget);
+	}
+
+	/**
+	 * Set how often each entity re-evaluates its task priorities
+	 *
+	 * @param evaluationRate number of times per second, must be positive
+	 */
+	public void setEvaluationRate(float evaluationRate) {
+		if (evaluationRate <= 0) {
+			throw new IllegalArgumentException("Evaluation rate must be positive");
+		}
+		logger.debug("Setting AI evaluation rate to {} per second", evaluationRate);
+		evaluationInterval = 1f / evaluationRate;
+	}
+
+	/**
+	 * Set the time allowed for evaluations each tick
+	 *
+	 * @param budget time in nanoseconds, must be positive
+	 */
+	public void setBudget(long budget) {
+		if (budget <= 0) {
+			throw new IllegalArgumentException("Budget must be positive");
+		}
+		logger.debug("Setting AI evaluation budget to {}ns", budget);
+		this.budget = budget;
+	}
+
+	/**
+	 * @return seconds between each entity's evaluations
+	 */
+	public float getEvaluationInterval() {
+		return evaluationInterval;
+	}
+
+	/**
+	 * Start a new simulation tick, resetting the budget. Should be called once per tick before
+	 * entities are updated.
+	 */
+	public void beginTick() {
+		lastEvaluated = evaluatedThisTick;
+		lastDeferred = deferredThisTick;
+		evaluatedThisTick = 0;
+		deferredThisTick = 0;
+		budgetUsed = 0;
+	}
+
+	/**
+	 * @return number of evaluations made in the last full tick
+	 */
+	public int getEvaluatedCount() {
+		return lastEvaluated;
+	}
+
+	/**
+	 * @return number of evaluations deferred because the budget ran out in the last full tick
+	 */
+	public int getDeferredCount() {
+		return lastDeferred;
+	}
+
+	/**
+	 * @return number of evaluations deferred since the scheduler was created
+	 */
+	public long getTotalDeferredCount() {
+		return totalDeferred;
+	}
+
+	/**
+	 * Get the time until an entity's second evaluation, after its first. Each call is offset from the
+	 * last, so entities created together are spread out over the interval.
+	 *
+	 * @return seconds to wait
+	 */
+	float nextPhaseOffset() {
+		nextPhase = (nextPhase + PHASE_STEP) % 1f;
+		return nextPhase * evaluationInterval;
+	}
+
+	/**
+	 * Check whether an entity that is due to evaluate can do so this tick, counting it as deferred
+	 * if the budget has been used up.
+	 *
+	 * @return true if the entity should evaluate now
+	 */
+	boolean tryEvaluate() {
+		if (budgetUsed >= budget) {
+			deferredThisTick++;
+			totalDeferred++;
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Record the time taken by an evaluation against this tick's budget
+	 *
+	 * @param time time taken in nanoseconds
+	 */
+	void recordEvaluation(long time) {
+		evaluatedThisTick++;
+		budgetUsed += time;
+	}
+}
@@ -1,10 +1,12 @@
 package com.csse3200.game.ai.tasks;
 
 import com.csse3200.game.components.Component;
+import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Task-based AI component. Given a list of tasks with priorities, the AI component will run the
@@ -13,6 +15,10 @@ import java.util.*;
  *
  * <p>This is a simple implementation of Goal-Oriented Action Planning (GOAP), a common AI decision
  * algorithm in games that's more powerful than Finite State Machines (FSMs) (State pattern).
+ *
+ * <p>When an {@link AIScheduler} is registered, priorities are only re-evaluated when the scheduler
+ * allows it, or straight away if the current task has stopped. The chosen task still updates every
+ * frame.
  */
 public class AITaskComponent extends Component implements TaskRunner {
 	private static final Logger logger = LoggerFactory.getLogger(AITaskComponent.class);
@@ -24,6 +30,18 @@ public class AITaskComponent extends Component implements TaskRunner {
 	 * Task currently running.
 	 */
 	private PriorityTask currentTask;
+	/**
+	 * Whether the last evaluation found a task with a non-negative priority to run.
+	 */
+	private boolean running;
+	/**
+	 * Whether priorities have been evaluated since the component was created.
+	 */
+	private boolean evaluated;
+	/**
+	 * Seconds until priorities are next due to be evaluated.
+	 */
+	private float untilEvaluation;
 
 	/**
 	 * When component is created, create all tasks.
@@ -55,37 +73,71 @@ public class AITaskComponent extends Component implements TaskRunner {
 	 */
 	@Override
 	public void update() {
-		PriorityTask desiredtask = getHighestPriorityTask();
-		if (desiredtask == null || desiredtask.getPriority() < 0) {
-			return;
+		if (shouldEvaluate()) {
+			evaluate();
+		}
+		if (running) {
+			currentTask.update();
 		}
+	}
 
-		if (desiredtask != currentTask) {
-			changeTask(desiredtask);
+	/**
+	 * Work out whether priorities need to be evaluated this frame.
+	 *
+	 * @return true if the highest priority task should be found again
+	 */
+	private boolean shouldEvaluate() {
+		AIScheduler scheduler = ServiceLocator.getAIScheduler();
+		if (scheduler == null || !evaluated) {
+			return true;
 		}
-		currentTask.update();
+		if (running && currentTask.getStatus() != Task.Status.ACTIVE) {
+			// The current task has stopped itself, so something else needs to be chosen now
+			return true;
+		}
+		untilEvaluation -= ServiceLocator.getTimeSource().getDeltaTime();
+		return untilEvaluation <= 0 && scheduler.tryEvaluate();
 	}
 
 	/**
-	 * Dispose AITaskComponent.
+	 * Find the highest priority task and change to it, timing the evaluation against the scheduler's
+	 * budget if there is one.
 	 */
-	@Override
-	public void dispose() {
-		if (currentTask != null) {
-			currentTask.stop();
+	private void evaluate() {
+		AIScheduler scheduler = ServiceLocator.getAIScheduler();
+		long start = scheduler == null ? 0 : System.nanoTime();
+
+		PriorityTask desiredTask = null;
+		int highestPriority = 0;
+		for (int i = 0; i < priorityTasks.size(); i++) {
+			PriorityTask task = priorityTasks.get(i);
+			int priority = task.getPriority();
+			if (desiredTask == null || priority > highestPriority) {
+				desiredTask = task;
+				highestPriority = priority;
+			}
+		}
+
+		running = desiredTask != null && highestPriority >= 0;
+		if (running && desiredTask != currentTask) {
+			changeTask(desiredTask);
+		}
+
+		if (scheduler != null) {
+			scheduler.recordEvaluation(System.nanoTime() - start);
+			// Offset the first wait so entities created together don't evaluate in the same frame
+			untilEvaluation = evaluated ? scheduler.getEvaluationInterval() : scheduler.nextPhaseOffset();
 		}
+		evaluated = true;
 	}
 
 	/**
-	 * Return highest priority task.
-	 *
-	 * @return highest priority task.
+	 * Dispose AITaskComponent.
 	 */
-	private PriorityTask getHighestPriorityTask() {
-		try {
-			return Collections.max(priorityTasks, Comparator.comparingInt(PriorityTask::getPriority));
-		} catch (NoSuchElementException e) {
-			return null;
+	@Override
+	public void dispose() {
+		if (currentTask != null) {
+			currentTask.stop();
 		}
 	}
 
@@ -445,15 +445,10 @@ public class SpaceGameArea extends GameArea {
 	}
 
 	/**
-	 * Spawn invisible obstacle on the non-traversable area of the map
+	 * Spawn invisible obstacles on the non-traversable area of the map, merged into one entity
 	 */
 	private void spawnInvisibleObstacle() {
-		ArrayList<GridPoint2> nonTraversableObs = (ArrayList<GridPoint2>) this.gameMap.getNonTraversableTileCoordinates();
-		for (int i = 0; i < nonTraversableObs.size(); i++) {
-			GridPoint2 pos = nonTraversableObs.get(i);
-			Entity invisibleObstacle = ObstacleFactory.createInvisibleObstacle();
-			spawnEntityAt(invisibleObstacle, pos, true, false);
-		}
+		spawnEntity(ObstacleFactory.createTerrainCollider(gameMap, terrain.getTileSize()));
 	}
 
 	/**
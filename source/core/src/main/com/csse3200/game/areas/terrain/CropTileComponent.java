@@ -19,6 +19,10 @@ import java.util.function.Function;
  * Listens to a variety of trigger-able events to update state of the tile,
  * including its water
  * content and whether it is fertilised.
+ * <p>
+ * Crop tiles are not updated every frame. The tile's water content is worked out when needed from
+ * the {@link CropWaterClock}, and the clock calls back when the water content crosses a texture
+ * threshold so the texture can be changed.
  */
 public class CropTileComponent extends Component {
 
@@ -28,9 +32,14 @@ public class CropTileComponent extends Component {
 	private static final String PLANT_STRING = "plant";
 
 	/**
-	 * Default rate that a tile's water level decreases
+	 * Water contents at which the tile's texture changes, in increasing order
 	 */
-	private static final float WATER_DECREASE_RATE = 0.0005f;
+	private static final float[] TEXTURE_THRESHOLDS = {0.5f, 1.5f};
+
+	/**
+	 * Most water a tile can hold once it has started drying out or filling up
+	 */
+	private static final float MAX_WATER_CONTENT = 2;
 
 	/**
 	 * Ideal water fall off sharpness to calculate growth rate
@@ -48,14 +57,29 @@ public class CropTileComponent extends Component {
 	 */
 	private static final float WATER_DAMAGE_THRESHOLD = 0.1f;
 
+	/**
+	 * Water a sprinkler gives a tile with no plant on it
+	 */
+	private static final float SPRINKLER_WATER = 0.25f;
+
+	/**
+	 * Water content when the clock read waterReading
+	 */
 	private float waterContent;
+	private double waterReading;
+	private CropWaterClock waterClock;
+	/**
+	 * Incremented whenever the tile reschedules its texture change, so old callbacks are ignored
+	 */
+	private int crossingVersion;
 	private float soilQuality;
 	private boolean isFertilised;
 	private Entity plant;
 	private DynamicTextureRenderComponent currentTexture;
-
-	private static float weatherWaterDelta = 1.0f;
-	private static boolean isWaterLevelWeatherEffectActive = false;
+	/**
+	 * Texture path last given to the render component, so it is only changed when needed
+	 */
+	private String texturePath;
 
 	/**
 	 * Creates a new crop tile with default values
@@ -103,28 +127,19 @@ public class CropTileComponent extends Component {
 		entity.getEvents().addListener("destroy", this::destroyTile);
 		entity.getEvents().addListener("harvest", this::harvestCrop);
 		currentTexture = entity.getComponent(DynamicTextureRenderComponent.class);
-		ServiceLocator.getGameArea().getClimateController().getEvents().addListener("startWaterLevelEffect",
-				this::startWaterLevelWeatherEffect);
-		ServiceLocator.getGameArea().getClimateController().getEvents().addListener("stopWaterLevelEffect",
-				this::stopWaterLevelWeatherEffect);
+		waterClock = ServiceLocator.getGameArea().getClimateController().getCropWaterClock();
+		waterReading = waterClock.getReading();
+		waterClock.addTile(this);
+		updateTexture();
+		scheduleTextureChange();
 	}
 
-	/**
-	 * Decreases water content in the tile by a constant amount.
-	 */
 	@Override
-	public void update() {
-		waterContent -= (isWaterLevelWeatherEffectActive ? weatherWaterDelta : WATER_DECREASE_RATE) * ServiceLocator.getTimeSource().getDeltaTime();
-		if (waterContent < 0) {
-			waterContent = 0;
-		} else if (waterContent > 2) {
-			waterContent = 2;
-		}
-
-		// Update the texture of the corresponding entity
-		if (currentTexture != null) {
-			String texturePath = this.getTexturePath();
-			currentTexture.setTexture(texturePath);
+	public void dispose() {
+		super.dispose();
+		if (waterClock != null) {
+			waterClock.removeTile(this);
+			crossingVersion++;
 		}
 	}
 
@@ -134,7 +149,26 @@ public class CropTileComponent extends Component {
 	 * @param amount Value to add/subtract from water level
 	 */
 	private void waterTile(float amount) {
+		settleWater();
 		waterContent += amount;
+		updateTexture();
+		scheduleTextureChange();
+	}
+
+	/**
+	 * Waters the tile from a sprinkler. A tile with a plant is watered up to the plant's ideal water
+	 * level, and a tile without one is given a little water, just for visuals.
+	 */
+	public void sprinkle() {
+		if (plant != null) {
+			float idealWater = plant.getComponent(PlantComponent.class).getIdealWaterLevel();
+			float currentWater = getWaterContent();
+			if (currentWater < idealWater) {
+				waterTile(idealWater - currentWater);
+			}
+		} else {
+			waterTile(SPRINKLER_WATER);
+		}
 	}
 
 	/**
@@ -142,6 +176,7 @@ public class CropTileComponent extends Component {
 	 */
 	private void fertiliseTile() {
 		isFertilised = true;
+		updateTexture();
 		ServiceLocator.getMissionManager().getEvents().trigger(MissionManager.MissionEvent.FERTILISE_CROP.name());
 	}
 
@@ -225,8 +260,9 @@ public class CropTileComponent extends Component {
 	 * whether the tile has been fertilised.
 	 */
 	public double getGrowthRate(float idealWaterAmount) {
+		float water = getWaterContent();
 		double waterMultiplier = 1 / (Math.exp(
-				Math.pow(Math.abs(waterContent - idealWaterAmount), IDEAL_WATER_FALL_OFF_SHARPNESS)))
+				Math.pow(Math.abs(water - idealWaterAmount), IDEAL_WATER_FALL_OFF_SHARPNESS)))
 				- 1 / MathUtils.E;
 		waterMultiplier *= 1 / (1 - 1 / MathUtils.E);
 		waterMultiplier = (waterMultiplier - WATER_DAMAGE_THRESHOLD) / (1 - WATER_DAMAGE_THRESHOLD);
@@ -235,8 +271,99 @@ public class CropTileComponent extends Component {
 		return waterMultiplier > 0 ? soilQuality * fertiliserMultiplier * waterMultiplier : -1.0;
 	}
 
+	/**
+	 * Gets the current water content of the tile, worked out from the water clock.
+	 *
+	 * @return current water content
+	 */
 	public float getWaterContent() {
-		return waterContent;
+		double change = waterClock == null ? 0 : waterClock.getReading() - waterReading;
+		if (change <= 0) {
+			return waterContent;
+		}
+		if (waterClock.isDrying()) {
+			return (float) Math.max(0, Math.min(waterContent, MAX_WATER_CONTENT) - change);
+		}
+		return (float) Math.min(MAX_WATER_CONTENT, Math.max(waterContent, 0) + change);
+	}
+
+	/**
+	 * Store the current water content, so it is worked out from the clock's current reading.
+	 * Called by the water clock before it is reset.
+	 */
+	void settleWater() {
+		waterContent = getWaterContent();
+		waterReading = waterClock == null ? 0 : waterClock.getReading();
+	}
+
+	/**
+	 * Called by the water clock after it has been reset because water levels changed direction
+	 */
+	void onWaterSettled() {
+		waterReading = waterClock.getReading();
+		scheduleTextureChange();
+	}
+
+	/**
+	 * Called by the water clock once the water content has crossed the scheduled texture threshold
+	 */
+	void onWaterCrossing() {
+		updateTexture();
+		scheduleTextureChange();
+	}
+
+	/**
+	 * @param version version of a scheduled callback
+	 * @return true if the callback is the tile's most recently scheduled one
+	 */
+	boolean isCrossingCurrent(int version) {
+		return version == crossingVersion;
+	}
+
+	/**
+	 * Schedule a callback from the water clock for when the water content next crosses a texture
+	 * threshold, replacing any callback already scheduled.
+	 */
+	private void scheduleTextureChange() {
+		crossingVersion++;
+		if (waterClock == null || currentTexture == null) {
+			return;
+		}
+		settleWater();
+		if (waterClock.isDrying()) {
+			// Next threshold at or below the water content, crossed once the water goes below it
+			float water = Math.min(waterContent, MAX_WATER_CONTENT);
+			for (int i = TEXTURE_THRESHOLDS.length - 1; i >= 0; i--) {
+				if (TEXTURE_THRESHOLDS[i] <= water) {
+					waterClock.schedule(waterReading + (water - TEXTURE_THRESHOLDS[i]), this, crossingVersion);
+					return;
+				}
+			}
+		} else {
+			// Next threshold above the water content
+			float water = Math.max(waterContent, 0);
+			for (float threshold : TEXTURE_THRESHOLDS) {
+				if (threshold > water) {
+					waterClock.schedule(waterReading + (threshold - water), this, crossingVersion);
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Update the texture of the corresponding entity, if its water content or fertiliser status
+	 * means it should have changed.
+	 */
+	private void updateTexture() {
+		if (currentTexture == null) {
+			return;
+		}
+		String path = getTexturePath();
+		if (!path.equals(texturePath)) {
+			texturePath = path;
+			currentTexture.setTexture(path);
+		}
 	}
 
 	/**
@@ -254,6 +381,7 @@ public class CropTileComponent extends Component {
 	public void setUnoccupied() {
 		isFertilised = false;
 		plant = null;
+		updateTexture();
 	}
 
 	/**
@@ -265,19 +393,20 @@ public class CropTileComponent extends Component {
 	 * status.
 	 */
 	private String getTexturePath() {
+		float water = getWaterContent();
 		String path;
 		if (isFertilised) {
-			if (waterContent < 0.5) {
+			if (water < 0.5) {
 				path = "images/cropTile_fertilised.png";
-			} else if (waterContent < 1.5) {
+			} else if (water < 1.5) {
 				path = "images/watered_cropTile_fertilised.png";
 			} else {
 				path = "images/overwatered_cropTile_fertilised.png";
 			}
 		} else {
-			if (waterContent < 0.5) {
+			if (water < 0.5) {
 				path = "images/cropTile.png";
-			} else if (waterContent < 1.5) {
+			} else if (water < 1.5) {
 				path = "images/watered_cropTile.png";
 			} else {
 				path = "images/overwatered_cropTile.png";
@@ -299,18 +428,6 @@ public class CropTileComponent extends Component {
 		this.plant = plant;
 	}
 
-	private void startWaterLevelWeatherEffect(float waterDelta) {
-		// Not set to static as static methods can't be used in event listeners
-		weatherWaterDelta = waterDelta;
-		isWaterLevelWeatherEffectActive = true;
-	}
-
-	private void stopWaterLevelWeatherEffect() {
-		// Not set to static as static methods can't be used in event listeners
-		weatherWaterDelta = 0.0f;
-		isWaterLevelWeatherEffectActive = false;
-	}
-
 	/**
 	 * Writes in json summary of croptile state. Writes to json
 	 * the waterContent, soilQuality, isFertilised and plant
@@ -321,11 +438,13 @@ public class CropTileComponent extends Component {
 	@Override
 	public void write(Json json) {
 		json.writeObjectStart(this.getClass().getSimpleName());
-		json.writeValue("waterContent", waterContent);
+		json.writeValue("waterContent", getWaterContent());
 		json.writeValue("soilQuality", soilQuality);
 		json.writeValue("isFertilised", isFertilised);
-		json.writeValue("weatherWaterDelta", weatherWaterDelta);
-		json.writeValue("isWaterLevelWeatherEffectActive", isWaterLevelWeatherEffectActive);
+		if (waterClock != null) {
+			json.writeValue("weatherWaterDelta", waterClock.getWeatherWaterDelta());
+			json.writeValue("isWaterLevelWeatherEffectActive", waterClock.isWaterLevelWeatherEffectActive());
+		}
 		json.writeValue(PLANT_STRING, plant);
 		json.writeObjectEnd();
 	}
@@ -334,10 +453,13 @@ public class CropTileComponent extends Component {
 	public void read(Json json, JsonValue jsonMap) {
 		jsonMap = jsonMap.get("components").get("CropTileComponent");
 		waterContent = jsonMap.getFloat("waterContent");
+		waterReading = waterClock == null ? 0 : waterClock.getReading();
 		soilQuality = jsonMap.getFloat("soilQuality");
 		isFertilised = jsonMap.getBoolean("isFertilised");
-		weatherWaterDelta = jsonMap.getFloat("weatherWaterDelta");
-		isWaterLevelWeatherEffectActive = jsonMap.getBoolean("isWaterLevelWeatherEffectActive");
+		if (waterClock != null && jsonMap.has("weatherWaterDelta")) {
+			waterClock.setWaterLevelWeatherEffect(jsonMap.getFloat("weatherWaterDelta"),
+					jsonMap.getBoolean("isWaterLevelWeatherEffectActive"));
+		}
 		JsonValue plantData = jsonMap.get(PLANT_STRING);
 		if (plantData.get("Entity") != null) {
 			plantData = plantData.get("components").get("PlantComponent");
@@ -346,5 +468,7 @@ public class CropTileComponent extends Component {
 		} else {
 			plant = null;
 		}
+		updateTexture();
+		scheduleTextureChange();
 	}
 }
@@ -0,0 +1,178 @@
+package com.csse3200.game.areas.terrain;
+
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps track of how much water every crop tile has lost, so crop tiles do not need to be updated
+ * every frame.
+ * <p>
+ * All crop tiles dry out (or, in some weather, fill up) at the same rate, so the clock accumulates
+ * the total change in water level once per tick. A tile only has to remember its water level and
+ * the clock's reading when it was last changed, and can work out its current water level from the
+ * clock whenever it is asked. The clock reading only ever goes up, whichever way the water level is
+ * moving. When the direction changes, every tile's water level is settled so the clock can start
+ * again from zero.
+ * <p>
+ * Tiles that need to know when their water level crosses a value (for example to change their
+ * texture) can schedule a callback for that reading of the clock.
+ */
+public class CropWaterClock {
+	/**
+	 * Default rate that a tile's water level decreases, per second
+	 */
+	static final float WATER_DECREASE_RATE = 0.0005f;
+
+	private final Array<CropTileComponent> tiles = new Array<>(false, 64);
+	private final PriorityQueue<Crossing> crossings =
+			new PriorityQueue<>(Comparator.comparingDouble(Crossing::reading));
+
+	private float weatherWaterDelta = 1.0f;
+	private boolean isWaterLevelWeatherEffectActive = false;
+	/**
+	 * Water level change so far since the direction last changed
+	 */
+	private double reading;
+	/**
+	 * Whether water levels are going down (true) or up (false)
+	 */
+	private boolean drying = true;
+
+	/**
+	 * A scheduled callback for a tile. Stale if the tile has rescheduled since.
+	 */
+	private record Crossing(double reading, CropTileComponent tile, int version) {
+	}
+
+	/**
+	 * Advance the clock by a tick, notifying any tiles whose scheduled reading has been passed.
+	 *
+	 * @param deltaTime length of the tick in seconds, scaled by time scale
+	 */
+	public void update(float deltaTime) {
+		float rate = getRate();
+		if (rate == 0 || deltaTime <= 0) {
+			return;
+		}
+		if ((rate > 0) != drying) {
+			settle(rate > 0);
+		}
+		reading += Math.abs(rate) * deltaTime;
+
+		while (!crossings.isEmpty() && crossings.peek().reading() < reading) {
+			Crossing crossing = crossings.poll();
+			if (crossing.tile().isCrossingCurrent(crossing.version())) {
+				crossing.tile().onWaterCrossing();
+			}
+		}
+	}
+
+	/**
+	 * @return current rate water levels go down at, in water per second. Negative if they are going
+	 * up.
+	 */
+	public float getRate() {
+		return isWaterLevelWeatherEffectActive ? weatherWaterDelta : WATER_DECREASE_RATE;
+	}
+
+	/**
+	 * @return water level change so far. Only meaningful as a difference between two readings.
+	 */
+	public double getReading() {
+		return reading;
+	}
+
+	/**
+	 * @return true if water levels are going down, false if they are going up
+	 */
+	public boolean isDrying() {
+		return drying;
+	}
+
+	/**
+	 * Start a weather effect that changes how quickly water levels go down
+	 *
+	 * @param waterDelta water lost per second while the effect is active. Negative to add water.
+	 */
+	public void startWaterLevelWeatherEffect(float waterDelta) {
+		weatherWaterDelta = waterDelta;
+		isWaterLevelWeatherEffectActive = true;
+	}
+
+	/**
+	 * Stop the current weather effect, returning water levels to their default rate of decrease
+	 */
+	public void stopWaterLevelWeatherEffect() {
+		weatherWaterDelta = 0.0f;
+		isWaterLevelWeatherEffectActive = false;
+	}
+
+	public float getWeatherWaterDelta() {
+		return weatherWaterDelta;
+	}
+
+	public boolean isWaterLevelWeatherEffectActive() {
+		return isWaterLevelWeatherEffectActive;
+	}
+
+	/**
+	 * Restore the weather effect from a save, without affecting any tile's water level
+	 *
+	 * @param waterDelta water lost per second while the effect is active
+	 * @param active     whether the effect is active
+	 */
+	void setWaterLevelWeatherEffect(float waterDelta, boolean active) {
+		weatherWaterDelta = waterDelta;
+		isWaterLevelWeatherEffectActive = active;
+	}
+
+	/**
+	 * Start keeping track of a tile, so it is settled whenever water levels change direction
+	 *
+	 * @param tile tile to add
+	 */
+	void addTile(CropTileComponent tile) {
+		tiles.add(tile);
+	}
+
+	/**
+	 * Stop keeping track of a tile. Any callback it has scheduled will be ignored.
+	 *
+	 * @param tile tile to remove
+	 */
+	void removeTile(CropTileComponent tile) {
+		tiles.removeValue(tile, true);
+	}
+
+	/**
+	 * Schedule a tile to be notified once the clock passes a reading
+	 *
+	 * @param crossingReading reading to be notified after
+	 * @param tile            tile to notify
+	 * @param version         tile's current schedule version, to detect stale callbacks
+	 */
+	void schedule(double crossingReading, CropTileComponent tile, int version) {
+		crossings.add(new Crossing(crossingReading, tile, version));
+	}
+
+	/**
+	 * @return number of tiles being kept track of
+	 */
+	int getTileCount() {
+		return tiles.size;
+	}
+
+	private void settle(boolean nowDrying) {
+		for (int i = 0; i < tiles.size; i++) {
+			tiles.get(i).settleWater();
+		}
+		crossings.clear();
+		reading = 0;
+		drying = nowDrying;
+		for (int i = 0; i < tiles.size; i++) {
+			tiles.get(i).onWaterSettled();
+		}
+	}
+}
@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * the GameMap class is used to store and easily access and manage the components related to the game map
@@ -26,6 +27,10 @@ public class GameMap {
 	 * The TerrainComponent used to render the terrain of the map
 	 */
 	private TerrainComponent terrainComponent;
+	/**
+	 * Flat copy of the tiles in the TiledMap, built when the tiles are first looked up
+	 */
+	private TileGrid tileGrid;
 	/**
 	 * The logger used to log information for debugging and info
 	 */
@@ -134,13 +139,26 @@ public class GameMap {
 	 * otherwise
 	 */
 	public TerrainTile getTile(GridPoint2 gridPoint) {
-		TiledMapTileLayer.Cell cell = getCell(gridPoint.x, gridPoint.y);
+		return getTile(gridPoint.x, gridPoint.y);
+	}
 
-		if (cell != null) {
-			return (TerrainTile) cell.getTile();
+	/**
+	 * Gets the TerrainTile at the specified tile coordinates. (0, 0) is the bottom left of the map.
+	 *
+	 * @param x x coordinate (0 -> MAP_SIZE.x -1)
+	 * @param y y coordinate (0 -> MAP_SIZE.y -1)
+	 * @return TerrainTile instance at the specified position IF the coordinates are within the bounds of the map, null
+	 * otherwise
+	 */
+	public TerrainTile getTile(int x, int y) {
+		TileGrid grid = getTileGrid();
+		if (grid == null || !grid.isInBounds(x, y)) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("The provided coordinates ({} , {}) do not fall within the map bounds", x, y);
+			}
+			return null;
 		}
-
-		return null;
+		return grid.getTile(x, y);
 	}
 
 	/**
@@ -158,7 +176,38 @@ public class GameMap {
 	 * otherwise
 	 */
 	public TerrainTile getTile(Vector2 vector) {
-		return getTile(vectorToTileCoordinates(vector));
+		return getTile(worldToTileX(vector.x), worldToTileY(vector.y));
+	}
+
+	/**
+	 * Gets the speed modifier of the tile at a world position, without allocating.
+	 *
+	 * @param worldX x position in world units
+	 * @param worldY y position in world units
+	 * @return speed modifier of the tile at the position, or 1 if the position is outside the map
+	 */
+	public float getSpeedModifier(float worldX, float worldY) {
+		TileGrid grid = getTileGrid();
+		return grid == null ? 1f : grid.getSpeedModifier(worldToTileX(worldX), worldToTileY(worldY));
+	}
+
+	/**
+	 * Returns the flat grid of tile properties backing this map, for looking up many tiles by integer coordinates
+	 * without allocating. The grid is built from the TiledMap's first layer the first time it is needed, and again
+	 * if that layer is replaced.
+	 *
+	 * @return the tile grid, or null if no terrain has been loaded
+	 */
+	public TileGrid getTileGrid() {
+		if (tiledMap.getLayers().getCount() == 0) {
+			return null;
+		}
+		TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(0);
+		if (tileGrid == null || tileGrid.getLayer() != layer) {
+			GridPoint2 mapSize = getMapSize();
+			tileGrid = new TileGrid(layer, mapSize.x, mapSize.y);
+		}
+		return tileGrid;
 	}
 
 	/**
@@ -185,34 +234,38 @@ public class GameMap {
 	 * @return the new GridPoint2 instance.
 	 */
 	public GridPoint2 vectorToTileCoordinates(Vector2 vector) {
-		float tileSize = this.terrainComponent.getTileSize();
-		int x = (int) Math.floor(vector.x / tileSize);
-		int y = (int) Math.floor(vector.y / tileSize);
-		return new GridPoint2(x, y);
+		return vectorToTileCoordinates(vector, new GridPoint2());
 	}
 
 	/**
-	 * Returns the Cell object in the TiledMap corresponding to the provided coordinates. Used as a helper function to
-	 * reduce the complexity of other methods involved with coordinates and vectors.
+	 * Converts a Vector2 instance into tile coordinates on the map layer, without allocating.
 	 *
-	 * @param x x coordinate (0 -> MAP_SIZE.x -1)
-	 * @param y y coordinate (0 -> MAP_SIZE.y -1)
-	 * @return the Cell at the specified position IF the coordinates are within the bounds of the map, null otherwise
-	 * (an error message will be logged when coordinates outside the map are passed to the function).
+	 * @param vector The Vector2 instance being used to find the tile coordinates.
+	 * @param out    The GridPoint2 instance to store the tile coordinates in.
+	 * @return out, for chaining.
 	 */
-	private TiledMapTileLayer.Cell getCell(int x, int y) {
-		GridPoint2 mapBounds = this.getMapSize();
-		int xMin = 0;
-		int xMax = mapBounds.x;
-		int yMin = 0;
-		int yMax = mapBounds.y;
+	public GridPoint2 vectorToTileCoordinates(Vector2 vector, GridPoint2 out) {
+		return out.set(worldToTileX(vector.x), worldToTileY(vector.y));
+	}
 
-		if (x < xMin || x >= xMax || y < yMin || y >= yMax) {
-			String log = String.format("The provided coordinates (%d , %d) do not fall within the map bounds of x: %d - %d and y: %d - %d", x, y, xMin, xMax, yMin, yMax);
-			logger.info(log);
-			return null;
-		}
-		return ((TiledMapTileLayer) this.tiledMap.getLayers().get(0)).getCell(x, y);
+	/**
+	 * Converts an x position in world units into the x coordinate of the tile at that position.
+	 *
+	 * @param worldX x position in world units
+	 * @return x coordinate of the tile
+	 */
+	public int worldToTileX(float worldX) {
+		return (int) Math.floor(worldX / this.terrainComponent.getTileSize());
+	}
+
+	/**
+	 * Converts a y position in world units into the y coordinate of the tile at that position.
+	 *
+	 * @param worldY y position in world units
+	 * @return y coordinate of the tile
+	 */
+	public int worldToTileY(float worldY) {
+		return (int) Math.floor(worldY / this.terrainComponent.getTileSize());
 	}
 
 	/**
@@ -233,6 +286,22 @@ public class GameMap {
 		return traversableTileCoordinatesHelper(false);
 	}
 
+	/**
+	 * Picks a random tile that is traversable and not occupied, for spawning entities on. Takes constant time, as the
+	 * tile grid keeps an index of these tiles up to date as tiles become occupied and unoccupied.
+	 *
+	 * @param random The random number generator to pick with.
+	 * @return A new GridPoint2 with the coordinates of the picked tile, or null if there are no such tiles.
+	 */
+	public GridPoint2 getRandomSpawnableTile(Random random) {
+		TileGrid grid = getTileGrid();
+		GridPoint2 tile = new GridPoint2();
+		if (grid == null || !grid.getRandomSpawnableTile(random, tile)) {
+			return null;
+		}
+		return tile;
+	}
+
 	/**
 	 * Helper function to retrieve a list of grid coordinates based on traversability.
 	 *
@@ -242,17 +311,16 @@ public class GameMap {
 	 * traversability.
 	 */
 	private List<GridPoint2> traversableTileCoordinatesHelper(boolean isTraversable) {
-		GridPoint2 mapBounds = this.getMapSize();
-		int xMax = mapBounds.x;
-		int yMax = mapBounds.y;
-
+		TileGrid grid = getTileGrid();
 		ArrayList<GridPoint2> tileCoordinatesList = new ArrayList<>();
+		if (grid == null) {
+			return tileCoordinatesList;
+		}
 
-		for (int x = 0; x < xMax; x++) {
-			for (int y = 0; y < yMax; y++) {
-				GridPoint2 tileGridPoint = new GridPoint2(x, y);
-				if (getTile(tileGridPoint).isTraversable() == isTraversable) {
-					tileCoordinatesList.add(tileGridPoint);
+		for (int x = 0; x < grid.getWidth(); x++) {
+			for (int y = 0; y < grid.getHeight(); y++) {
+				if (grid.isTraversable(x, y) == isTraversable) {
+					tileCoordinatesList.add(new GridPoint2(x, y));
 				}
 			}
 		}
@@ -0,0 +1,228 @@
+package com.csse3200.game.areas.terrain;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Blocks every non-traversable tile of a {@link GameMap} with static collision geometry, attached to
+ * a single entity with a static {@link PhysicsComponent} at the origin.
+ * <p>
+ * Instead of one body per tile, neighbouring non-traversable tiles are greedily merged into as few
+ * rectangles as possible, and each rectangle becomes one box fixture on the entity's body. The map
+ * is split into square chunks which are merged separately, so when a tile's traversability changes
+ * only the fixtures of its chunk have to be rebuilt (see {@link #refreshTile(GridPoint2)}).
+ */
+public class TerrainColliderComponent extends Component {
+	private static final Logger logger = LoggerFactory.getLogger(TerrainColliderComponent.class);
+	static final int CHUNK_SIZE = 16;
+
+	private final GameMap gameMap;
+	private final float tileSize;
+	private final FixtureDef fixtureDef = new FixtureDef();
+	private final List<Rectangle> merged = new ArrayList<>();
+	private int width;
+	private int height;
+	private int chunksX;
+	private boolean[] blocked;
+	private boolean[] used;
+	private Array<Array<Fixture>> chunkFixtures;
+	private Body body;
+
+	/**
+	 * Create a terrain collider for a map
+	 *
+	 * @param gameMap  map whose non-traversable tiles should be blocked
+	 * @param tileSize size of a tile in world units
+	 */
+	public TerrainColliderComponent(GameMap gameMap, float tileSize) {
+		this.gameMap = gameMap;
+		this.tileSize = tileSize;
+		fixtureDef.filter.categoryBits = PhysicsLayer.OBSTACLE;
+	}
+
+	@Override
+	public void create() {
+		body = entity.getComponent(PhysicsComponent.class).getBody();
+
+		GridPoint2 mapSize = gameMap.getMapSize();
+		width = mapSize.x;
+		height = mapSize.y;
+		blocked = new boolean[width * height];
+		used = new boolean[width * height];
+		GridPoint2 tile = new GridPoint2();
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				blocked[y * width + x] = isBlocked(tile.set(x, y));
+			}
+		}
+
+		chunksX = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		int chunksY = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		chunkFixtures = new Array<>(chunksX * chunksY);
+		for (int i = 0; i < chunksX * chunksY; i++) {
+			chunkFixtures.add(new Array<>(false, 4));
+		}
+
+		int fixtures = 0;
+		for (int chunk = 0; chunk < chunkFixtures.size; chunk++) {
+			fixtures += buildChunk(chunk);
+		}
+		logger.debug("Merged non-traversable terrain into {} fixtures", fixtures);
+	}
+
+	/**
+	 * Re-read a tile's traversability from the map, rebuilding the collision geometry around it if it
+	 * has changed. Should be called whenever a tile on the map is replaced.
+	 *
+	 * @param tile position of the tile on the map
+	 */
+	public void refreshTile(GridPoint2 tile) {
+		if (blocked == null || tile.x < 0 || tile.y < 0 || tile.x >= width || tile.y >= height) {
+			return;
+		}
+		int index = tile.y * width + tile.x;
+		boolean isBlocked = isBlocked(tile);
+		if (blocked[index] != isBlocked) {
+			blocked[index] = isBlocked;
+			rebuildChunk((tile.y / CHUNK_SIZE) * chunksX + tile.x / CHUNK_SIZE);
+		}
+	}
+
+	/**
+	 * @return number of fixtures currently blocking the terrain
+	 */
+	public int getFixtureCount() {
+		int count = 0;
+		if (chunkFixtures != null) {
+			for (Array<Fixture> fixtures : chunkFixtures) {
+				count += fixtures.size;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Forget the fixtures without destroying them. They belong to the body of the entity's
+	 * {@link PhysicsComponent}, which frees them when it destroys the body, and may already have done
+	 * so since the entity's components are disposed in no particular order.
+	 */
+	@Override
+	public void dispose() {
+		super.dispose();
+		chunkFixtures = null;
+		blocked = null;
+		body = null;
+	}
+
+	private boolean isBlocked(GridPoint2 tile) {
+		TerrainTile terrainTile = gameMap.getTile(tile);
+		return terrainTile != null && !terrainTile.isTraversable();
+	}
+
+	private void rebuildChunk(int chunk) {
+		destroyChunk(chunk);
+		buildChunk(chunk);
+	}
+
+	/**
+	 * Destroy the fixtures of a chunk so it can be rebuilt. Only safe while the body is alive.
+	 */
+	private void destroyChunk(int chunk) {
+		Array<Fixture> fixtures = chunkFixtures.get(chunk);
+		for (Fixture fixture : fixtures) {
+			body.destroyFixture(fixture);
+		}
+		fixtures.clear();
+	}
+
+	private int buildChunk(int chunk) {
+		int x0 = (chunk % chunksX) * CHUNK_SIZE;
+		int y0 = (chunk / chunksX) * CHUNK_SIZE;
+		merged.clear();
+		mergeRectangles(blocked, used, width, x0, y0,
+				Math.min(x0 + CHUNK_SIZE, width), Math.min(y0 + CHUNK_SIZE, height), merged);
+
+		Array<Fixture> fixtures = chunkFixtures.get(chunk);
+		Vector2 center = new Vector2();
+		for (Rectangle rectangle : merged) {
+			PolygonShape shape = new PolygonShape();
+			rectangle.getCenter(center).scl(tileSize);
+			shape.setAsBox(rectangle.width * tileSize / 2, rectangle.height * tileSize / 2, center, 0f);
+			fixtureDef.shape = shape;
+			fixtures.add(body.createFixture(fixtureDef));
+			shape.dispose();
+		}
+		fixtureDef.shape = null;
+		return merged.size();
+	}
+
+	/**
+	 * Greedily merge the blocked tiles in a region of a grid into rectangles. Starting from the bottom
+	 * left, each rectangle is grown as far right as it can go, then as far up as every tile in its row
+	 * allows.
+	 *
+	 * @param blocked whether each tile is blocked, indexed by y * width + x
+	 * @param used    scratch space the same size as blocked, cleared within the region on return
+	 * @param width   width of the grid in tiles
+	 * @param x0      left of the region, inclusive
+	 * @param y0      bottom of the region, inclusive
+	 * @param x1      right of the region, exclusive
+	 * @param y1      top of the region, exclusive
+	 * @param out     list the merged rectangles are added to, in tile units
+	 */
+	static void mergeRectangles(boolean[] blocked, boolean[] used, int width, int x0, int y0, int x1,
+	                            int y1, List<Rectangle> out) {
+		for (int y = y0; y < y1; y++) {
+			for (int x = x0; x < x1; x++) {
+				if (!blocked[y * width + x] || used[y * width + x]) {
+					continue;
+				}
+				int right = x + 1;
+				while (right < x1 && blocked[y * width + right] && !used[y * width + right]) {
+					right++;
+				}
+				int top = y + 1;
+				while (top < y1 && isRowFree(blocked, used, width, top, x, right)) {
+					top++;
+				}
+				for (int row = y; row < top; row++) {
+					for (int column = x; column < right; column++) {
+						used[row * width + column] = true;
+					}
+				}
+				out.add(new Rectangle(x, y, right - x, top - y));
+				x = right - 1;
+			}
+		}
+
+		for (int y = y0; y < y1; y++) {
+			for (int x = x0; x < x1; x++) {
+				used[y * width + x] = false;
+			}
+		}
+	}
+
+	private static boolean isRowFree(boolean[] blocked, boolean[] used, int width, int row, int x0,
+	                                 int x1) {
+		for (int x = x0; x < x1; x++) {
+			if (!blocked[row * width + x] || used[row * width + x]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
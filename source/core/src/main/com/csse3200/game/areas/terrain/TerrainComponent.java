@@ -6,6 +6,7 @@ import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.rendering.RenderComponent;
 
@@ -89,6 +90,12 @@ public class TerrainComponent extends RenderComponent {
 		return TERRAIN_LAYER;
 	}
 
+	@Override
+	public boolean getWorldBounds(Rectangle out) {
+		// The tiled map renderer already only draws the tiles in view
+		return false;
+	}
+
 	public enum TerrainOrientation {
 		ORTHOGONAL,
 		ISOMETRIC,
@@ -53,6 +53,13 @@ public class TerrainTile implements TiledMapTile {
 	 */
 	private float speedModifier;
 
+	/**
+	 * Grid this tile's properties are copied into, and the tile's index in it. Null if the tile is
+	 * not part of a map.
+	 */
+	private TileGrid grid;
+	private int gridIndex;
+
 	public TerrainTile(TextureRegion textureRegion, TerrainCategory terrainCategory) {
 		this.textureRegion = textureRegion;
 		this.terrainCategory = terrainCategory;
@@ -250,6 +257,7 @@ public class TerrainTile implements TiledMapTile {
 	 */
 	public void setTerrainCategory(TerrainCategory terrainCategory) {
 		this.terrainCategory = terrainCategory;
+		updateGrid();
 	}
 
 	/**
@@ -276,6 +284,7 @@ public class TerrainTile implements TiledMapTile {
 	 */
 	public void setOccupied() {
 		this.isOccupied = true;
+		updateGrid();
 	}
 
 	/**
@@ -283,6 +292,7 @@ public class TerrainTile implements TiledMapTile {
 	 */
 	public void setUnOccupied() {
 		this.isOccupied = false;
+		updateGrid();
 	}
 
 	/**
@@ -343,6 +353,24 @@ public class TerrainTile implements TiledMapTile {
 		this.setUnOccupied();
 	}
 
+	/**
+	 * Links the tile to the grid its properties are copied into, so the grid is updated whenever
+	 * they change. A tile can only be part of one grid at a time.
+	 *
+	 * @param grid  grid holding the tile
+	 * @param index index of the tile in the grid
+	 */
+	void attach(TileGrid grid, int index) {
+		this.grid = grid;
+		this.gridIndex = index;
+	}
+
+	private void updateGrid() {
+		if (grid != null) {
+			grid.updateTile(gridIndex, this);
+		}
+	}
+
 	/**
 	 * Returns the speed modifier of the terrain tile
 	 *
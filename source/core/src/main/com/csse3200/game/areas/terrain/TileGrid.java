@@ -0,0 +1,261 @@
+package com.csse3200.game.areas.terrain;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.GridPoint2;
+import com.csse3200.game.entities.Entity;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A flat copy of the terrain in a map's tile layer, so tile properties can be looked up by integer
+ * coordinates without going through the TiledMap, boxing coordinates or allocating.
+ * <p>
+ * Each property is stored in its own array indexed by {@code y * width + x}, with (0, 0) the bottom
+ * left of the map. The {@link TerrainTile} instances in the layer are still used for rendering and
+ * remain the way to get at a tile's occupant. Each tile keeps the grid up to date when its occupant
+ * or category changes.
+ * <p>
+ * The grid also keeps an index of every traversable, unoccupied tile for spawning entities on. The
+ * index is a packed array of tile indexes, with each tile's slot in it stored alongside, so tiles can
+ * be added and removed as their occupancy changes and a random one picked in constant time.
+ */
+public class TileGrid {
+	/**
+	 * Returned by {@link #getOccupantId(int, int)} for tiles with no occupant
+	 */
+	public static final int NO_OCCUPANT = -1;
+	private static final byte TRAVERSABLE = 1;
+	private static final byte TILLABLE = 1 << 1;
+	private static final byte OCCUPIED = 1 << 2;
+	private static final byte NO_CATEGORY = -1;
+	private static final int NO_SLOT = -1;
+	private static final TerrainTile.TerrainCategory[] CATEGORIES = TerrainTile.TerrainCategory.values();
+
+	private final TiledMapTileLayer layer;
+	private final int width;
+	private final int height;
+	private final TerrainTile[] tiles;
+	private final byte[] categories;
+	private final byte[] flags;
+	private final float[] speedModifiers;
+	private final int[] occupants;
+	private final int[] spawnable;
+	private final int[] spawnableSlots;
+	private int spawnableCount;
+	private int version;
+
+	/**
+	 * Copy the terrain tiles out of a tile layer
+	 *
+	 * @param layer  layer holding the map's {@link TerrainTile}s
+	 * @param width  width of the map in tiles
+	 * @param height height of the map in tiles
+	 */
+	TileGrid(TiledMapTileLayer layer, int width, int height) {
+		this.layer = layer;
+		this.width = width;
+		this.height = height;
+		int size = width * height;
+		tiles = new TerrainTile[size];
+		categories = new byte[size];
+		flags = new byte[size];
+		speedModifiers = new float[size];
+		occupants = new int[size];
+		spawnable = new int[size];
+		spawnableSlots = new int[size];
+		Arrays.fill(spawnableSlots, NO_SLOT);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int index = y * width + x;
+				TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+				TiledMapTile tile = cell == null ? null : cell.getTile();
+				if (tile instanceof TerrainTile terrainTile) {
+					tiles[index] = terrainTile;
+					terrainTile.attach(this, index);
+					updateTile(index, terrainTile);
+				} else {
+					categories[index] = NO_CATEGORY;
+					occupants[index] = NO_OCCUPANT;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the layer this grid was copied from
+	 */
+	TiledMapTileLayer getLayer() {
+		return layer;
+	}
+
+	/**
+	 * @return width of the map in tiles
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * @return height of the map in tiles
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * @param x x coordinate of the tile
+	 * @param y y coordinate of the tile
+	 * @return true if the coordinates are within the map
+	 */
+	public boolean isInBounds(int x, int y) {
+		return x >= 0 && y >= 0 && x < width && y < height;
+	}
+
+	/**
+	 * @param x x coordinate of the tile
+	 * @param y y coordinate of the tile
+	 * @return the tile at the coordinates, or null if they are outside the map
+	 */
+	public TerrainTile getTile(int x, int y) {
+		return isInBounds(x, y) ? tiles[y * width + x] : null;
+	}
+
+	/**
+	 * @param x x coordinate of the tile
+	 * @param y y coordinate of the tile
+	 * @return category of the tile, or null if the coordinates are outside the map
+	 */
+	public TerrainTile.TerrainCategory getTerrainCategory(int x, int y) {
+		if (!isInBounds(x, y)) {
+			return null;
+		}
+		byte category = categories[y * width + x];
+		return category == NO_CATEGORY ? null : CATEGORIES[category];
+	}
+
+	/**
+	 * @param x x coordinate of the tile
+	 * @param y y coordinate of the tile
+	 * @return true if the tile is within the map and traversable
+	 */
+	public boolean isTraversable(int x, int y) {
+		return hasFlag(x, y, TRAVERSABLE);
+	}
+
+	/**
+	 * @param x x coordinate of the tile
+	 * @param y y coordinate of the tile
+	 * @return true if the tile is within the map and tillable
+	 */
+	public boolean isTillable(int x, int y) {
+		return hasFlag(x, y, TILLABLE);
+	}
+
+	/**
+	 * @param x x coordinate of the tile
+	 * @param y y coordinate of the tile
+	 * @return true if the tile is within the map and occupied
+	 */
+	public boolean isOccupied(int x, int y) {
+		return hasFlag(x, y, OCCUPIED);
+	}
+
+	/**
+	 * @param x x coordinate of the tile
+	 * @param y y coordinate of the tile
+	 * @return speed modifier of the tile, or 1 if the coordinates are outside the map
+	 */
+	public float getSpeedModifier(int x, int y) {
+		return isInBounds(x, y) ? speedModifiers[y * width + x] : 1f;
+	}
+
+	/**
+	 * @param x x coordinate of the tile
+	 * @param y y coordinate of the tile
+	 * @return id of the entity occupying the tile, or {@link #NO_OCCUPANT}
+	 */
+	public int getOccupantId(int x, int y) {
+		return isInBounds(x, y) ? occupants[y * width + x] : NO_OCCUPANT;
+	}
+
+	/**
+	 * @return number of tiles that are traversable and unoccupied
+	 */
+	public int getSpawnableTileCount() {
+		return spawnableCount;
+	}
+
+	/**
+	 * Pick a random tile that is traversable and unoccupied, in constant time.
+	 *
+	 * @param random random number generator to pick with
+	 * @param out    set to the coordinates of the picked tile
+	 * @return true if a tile was picked, false if there are no such tiles
+	 */
+	public boolean getRandomSpawnableTile(Random random, GridPoint2 out) {
+		if (spawnableCount == 0) {
+			return false;
+		}
+		int index = spawnable[random.nextInt(spawnableCount)];
+		out.set(index % width, index / width);
+		return true;
+	}
+
+	/**
+	 * Get the number of times a tile in the grid has changed, so anything cached from the grid can
+	 * tell when it needs to be worked out again.
+	 *
+	 * @return number of changes to tiles since the grid was built
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Copy a tile's current properties into the grid. Called by the tile whenever they change.
+	 *
+	 * @param index index of the tile in the grid
+	 * @param tile  tile at that index
+	 */
+	void updateTile(int index, TerrainTile tile) {
+		TerrainTile.TerrainCategory category = tile.getTerrainCategory();
+		categories[index] = category == null ? NO_CATEGORY : (byte) category.ordinal();
+		byte tileFlags = 0;
+		if (tile.isTraversable()) {
+			tileFlags |= TRAVERSABLE;
+		}
+		if (tile.isTillable()) {
+			tileFlags |= TILLABLE;
+		}
+		if (tile.isOccupied()) {
+			tileFlags |= OCCUPIED;
+		}
+		flags[index] = tileFlags;
+		speedModifiers[index] = tile.getSpeedModifier();
+		Entity occupant = tile.getOccupant();
+		occupants[index] = occupant == null ? NO_OCCUPANT : occupant.getId();
+		updateSpawnable(index, (tileFlags & (TRAVERSABLE | OCCUPIED)) == TRAVERSABLE);
+		version++;
+	}
+
+	private void updateSpawnable(int index, boolean isSpawnable) {
+		int slot = spawnableSlots[index];
+		if (isSpawnable && slot == NO_SLOT) {
+			spawnable[spawnableCount] = index;
+			spawnableSlots[index] = spawnableCount++;
+		} else if (!isSpawnable && slot != NO_SLOT) {
+			// Move the last tile into the removed tile's slot
+			int last = spawnable[--spawnableCount];
+			spawnable[slot] = last;
+			spawnableSlots[last] = slot;
+			spawnableSlots[index] = NO_SLOT;
+		}
+	}
+
+	private boolean hasFlag(int x, int y, byte flag) {
+		return isInBounds(x, y) && (flags[y * width + x] & flag) != 0;
+	}
+}
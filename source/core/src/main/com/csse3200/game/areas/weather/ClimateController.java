@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
+import com.csse3200.game.areas.terrain.CropWaterClock;
 import com.csse3200.game.events.EventHandler;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
@@ -29,6 +30,10 @@ public class ClimateController implements Json.Serializable {
 	 * Event handler that other entities can use to trigger weather-based events
 	 */
 	private final EventHandler events;
+	/**
+	 * Keeps track of how much water every crop tile has lost, following the weather's dry rate
+	 */
+	private final CropWaterClock cropWaterClock = new CropWaterClock();
 
 	/**
 	 * The time specifying when the current lighting effect should stop
@@ -49,6 +54,8 @@ public class ClimateController implements Json.Serializable {
 	 */
 	public ClimateController() {
 		events = new EventHandler();
+		events.addListener("startWaterLevelEffect", cropWaterClock::startWaterLevelWeatherEffect);
+		events.addListener("stopWaterLevelEffect", cropWaterClock::stopWaterLevelWeatherEffect);
 	}
 
 	/**
@@ -57,6 +64,8 @@ public class ClimateController implements Json.Serializable {
 	public void initialiseEvents() {
 		ServiceLocator.getTimeService().getEvents().addListener("dayUpdate", this::addDailyEvent);
 		ServiceLocator.getTimeService().getEvents().addListener("hourUpdate", this::updateWeatherEvent);
+		// Crop tiles dry out over time skipped by sleeping as well
+		ServiceLocator.getTimeService().getEvents().addListener("fastForward", cropWaterClock::update);
 
 		events.addListener("lightingEffect", this::setLightingEffect);
 		currentLightingEffectDuration = -1.0f;
@@ -71,6 +80,15 @@ public class ClimateController implements Json.Serializable {
 		return events;
 	}
 
+	/**
+	 * Returns the clock crop tiles use to work out their water content
+	 *
+	 * @return Crop water clock
+	 */
+	public CropWaterClock getCropWaterClock() {
+		return cropWaterClock;
+	}
+
 	/**
 	 * Updates the global lighting based on the current lighting effect
 	 */
@@ -174,6 +192,7 @@ public class ClimateController implements Json.Serializable {
 	 */
 	public void updateClimate() {
 		events.update();
+		cropWaterClock.update(ServiceLocator.getTimeSource().getDeltaTime());
 		updateLightingEffect();
 	}
 
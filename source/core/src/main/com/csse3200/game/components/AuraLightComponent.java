@@ -2,6 +2,7 @@ package com.csse3200.game.components;
 
 import box2dLight.PointLight;
 import com.badlogic.gdx.graphics.Color;
+import com.csse3200.game.services.LightService;
 import com.csse3200.game.services.ServiceLocator;
 
 public class AuraLightComponent extends Component {
@@ -16,6 +17,17 @@ public class AuraLightComponent extends Component {
 	 */
 	private boolean active;
 
+	/**
+	 * How important the light is when there are too many lights in view
+	 */
+	private int priority = LightService.DEFAULT_PRIORITY;
+
+	/**
+	 * Position the light was last moved to, so it is only moved when the entity has moved
+	 */
+	private float lightX = Float.NaN;
+	private float lightY = Float.NaN;
+
 	/**
 	 * Default light distance used if nothing is provided in the constructor
 	 */
@@ -73,7 +85,8 @@ public class AuraLightComponent extends Component {
 	@Override
 	public void create() {
 		super.create();
-		light.setPosition(entity.getCenterPosition());
+		updatePosition();
+		ServiceLocator.getLightService().addLight(light, priority, active);
 		entity.getEvents().addListener("toggleLight", this::toggleLight);
 		entity.getEvents().addListener("toggleAuraLight", this::toggleLight);
 	}
@@ -87,6 +100,16 @@ public class AuraLightComponent extends Component {
 		light.setDistance(distance);
 	}
 
+	/**
+	 * Sets how important the light is, lights with a higher priority are kept first when there are too
+	 * many lights in view. Must be set before the entity is created.
+	 *
+	 * @param priority priority of the light, such as {@link LightService#LOW_PRIORITY}
+	 */
+	public void setPriority(int priority) {
+		this.priority = priority;
+	}
+
 	/**
 	 * Sets the color of the light
 	 *
@@ -102,6 +125,7 @@ public class AuraLightComponent extends Component {
 	public void toggleLight() {
 		active = !active;
 		light.setActive(active);
+		ServiceLocator.getLightService().setLightOn(light, active);
 	}
 
 	/**
@@ -110,7 +134,7 @@ public class AuraLightComponent extends Component {
 	 * @return state of the light (on/off)
 	 */
 	public boolean getActive() {
-		return light.isActive();
+		return active;
 	}
 
 	/**
@@ -118,7 +142,21 @@ public class AuraLightComponent extends Component {
 	 */
 	@Override
 	public void update() {
-		light.setPosition(entity.getCenterPosition());
+		updatePosition();
+	}
+
+	/**
+	 * Moves the light to the centre of the entity. Static lights are rebuilt whenever they are moved, so
+	 * they are only moved if the entity has moved.
+	 */
+	private void updatePosition() {
+		float x = entity.getCenterX();
+		float y = entity.getCenterY();
+		if (x != lightX || y != lightY) {
+			lightX = x;
+			lightY = y;
+			light.setPosition(x, y);
+		}
 	}
 
 	/**
@@ -126,6 +164,10 @@ public class AuraLightComponent extends Component {
 	 */
 	@Override
 	public void dispose() {
+		LightService lightService = ServiceLocator.getLightService();
+		if (lightService != null) {
+			lightService.removeLight(light);
+		}
 		light.remove();
 	}
 }
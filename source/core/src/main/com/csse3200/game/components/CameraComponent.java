@@ -62,6 +62,21 @@ public class CameraComponent extends Component {
 		}
 	}
 
+	/**
+	 * Moves the camera to its entity's position interpolated between the last two simulation ticks,
+	 * so the view moves smoothly with interpolated entities when rendering faster than the tick rate.
+	 *
+	 * @param alpha interpolation factor, from 0 (before the last tick) to 1 (after the last tick)
+	 */
+	public void interpolate(float alpha) {
+		float x = entity.getRenderX(alpha);
+		float y = entity.getRenderY(alpha);
+		if (camera.position.x != x || camera.position.y != y) {
+			camera.position.set(x, y, 0f);
+			camera.update();
+		}
+	}
+
 	public Matrix4 getProjectionMatrix() {
 		return camera.combined;
 	}
@@ -3,6 +3,7 @@ package com.csse3200.game.components;
 import box2dLight.ConeLight;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.utils.Json;
+import com.csse3200.game.services.LightService;
 import com.csse3200.game.services.ServiceLocator;
 
 public class ConeLightComponent extends Component {
@@ -17,6 +18,17 @@ public class ConeLightComponent extends Component {
 	 */
 	private boolean active;
 
+	/**
+	 * How important the light is when there are too many lights in view
+	 */
+	private static final int PRIORITY = LightService.DEFAULT_PRIORITY;
+
+	/**
+	 * Position the light was last moved to, so it is only moved when the entity has moved
+	 */
+	private float lightX = Float.NaN;
+	private float lightY = Float.NaN;
+
 	/**
 	 * Default light distance used if nothing is provided in the constructor
 	 */
@@ -108,7 +120,8 @@ public class ConeLightComponent extends Component {
 	@Override
 	public void create() {
 		super.create();
-		light.setPosition(entity.getCenterPosition());
+		updatePosition();
+		ServiceLocator.getLightService().addLight(light, PRIORITY, active);
 		entity.getEvents().addListener("toggleLight", this::toggleLight);
 		entity.getEvents().addListener("toggleConeLight", this::toggleLight);
 	}
@@ -137,6 +150,7 @@ public class ConeLightComponent extends Component {
 	public void toggleLight() {
 		active = !active;
 		light.setActive(active);
+		ServiceLocator.getLightService().setLightOn(light, active);
 	}
 
 	/**
@@ -145,7 +159,7 @@ public class ConeLightComponent extends Component {
 	 * @return state of the light (on/off)
 	 */
 	public boolean getActive() {
-		return light.isActive();
+		return active;
 	}
 
 
@@ -172,7 +186,21 @@ public class ConeLightComponent extends Component {
 	 */
 	@Override
 	public void update() {
-		light.setPosition(entity.getCenterPosition());
+		updatePosition();
+	}
+
+	/**
+	 * Moves the light to the centre of the entity. Static lights are rebuilt whenever they are moved, so
+	 * they are only moved if the entity has moved.
+	 */
+	private void updatePosition() {
+		float x = entity.getCenterX();
+		float y = entity.getCenterY();
+		if (x != lightX || y != lightY) {
+			lightX = x;
+			lightY = y;
+			light.setPosition(x, y);
+		}
 	}
 
 	/**
@@ -180,6 +208,10 @@ public class ConeLightComponent extends Component {
 	 */
 	@Override
 	public void dispose() {
+		LightService lightService = ServiceLocator.getLightService();
+		if (lightService != null) {
+			lightService.removeLight(light);
+		}
 		light.remove();
 	}
 
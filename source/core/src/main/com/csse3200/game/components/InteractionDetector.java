@@ -26,6 +26,11 @@ public class InteractionDetector extends HitboxComponent {
 	 */
 	private final float range;
 
+	/**
+	 * Reused vector for direction checks, to avoid allocating per entity.
+	 */
+	private final Vector2 directionVector = new Vector2();
+
 	private List<EntityType> interactableEntities = null;
 	private boolean notifyOnDetection = false;
 
@@ -145,9 +150,11 @@ public class InteractionDetector extends HitboxComponent {
 	 */
 	public List<Entity> getEntitiesTowardsDirection(String direction) {
 		List<Entity> entities = getEntitiesInRange();
+		float centerX = this.entity.getCenterX();
+		float centerY = this.entity.getCenterY();
 		entities.removeIf(entity -> {
-			Vector2 targetDirectionVector = entity.getCenterPosition().sub(this.entity.getCenterPosition());
-			String targetDirection = DirectionUtils.vectorToDirection(targetDirectionVector);
+			directionVector.set(entity.getCenterX() - centerX, entity.getCenterY() - centerY);
+			String targetDirection = DirectionUtils.vectorToDirection(directionVector);
 
 			return !Objects.equals(targetDirection, direction);
 		});
@@ -161,8 +168,8 @@ public class InteractionDetector extends HitboxComponent {
 	 * @return A list of entities within the interaction range towards the position.
 	 */
 	public List<Entity> getEntitiesTowardsPosition(Vector2 position) {
-		Vector2 directionVector = position.sub(entity.getCenterPosition());
-		String direction = DirectionUtils.vectorToDirection(directionVector);
+		Vector2 positionDirection = position.sub(entity.getCenterX(), entity.getCenterY());
+		String direction = DirectionUtils.vectorToDirection(positionDirection);
 
 		return getEntitiesTowardsDirection(direction);
 	}
@@ -178,10 +185,17 @@ public class InteractionDetector extends HitboxComponent {
 			return null;
 		}
 
-		Vector2 position = this.entity.getCenterPosition();
-		Comparator<Entity> distanceComparator = (entity1, entity2) ->
-				Float.compare(position.dst(entity1.getCenterPosition()), position.dst(entity2.getCenterPosition()));
-
-		return Collections.min(entities, distanceComparator);
+		float centerX = this.entity.getCenterX();
+		float centerY = this.entity.getCenterY();
+		Entity nearest = null;
+		float nearestDistance = Float.MAX_VALUE;
+		for (Entity other : entities) {
+			float distance = Vector2.dst2(centerX, centerY, other.getCenterX(), other.getCenterY());
+			if (nearest == null || distance < nearestDistance) {
+				nearestDistance = distance;
+				nearest = other;
+			}
+		}
+		return nearest;
 	}
 }
@@ -4,6 +4,8 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.csse3200.game.ai.tasks.AIScheduler;
+import com.csse3200.game.services.LightService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 
@@ -51,6 +53,16 @@ public class PerformanceDisplay extends UIComponent {
 						.concat(String.format("DAY: %d%n", ServiceLocator.getTimeService().getDay()))
 						.concat(String.format("TIME: %d: %d%n", ServiceLocator.getTimeService().getHour(),
 								ServiceLocator.getTimeService().getMinute()));
+		AIScheduler aiScheduler = ServiceLocator.getAIScheduler();
+		if (aiScheduler != null) {
+			message = message.concat(String.format("AI: %d evaluated, %d deferred%n",
+					aiScheduler.getEvaluatedCount(), aiScheduler.getDeferredCount()));
+		}
+		LightService lightService = ServiceLocator.getLightService();
+		if (lightService != null) {
+			message = message.concat(String.format("LIGHTS: %d rendered, %d culled, %d over budget%n",
+					lightService.getRenderedCount(), lightService.getCulledCount(), lightService.getOverBudgetCount()));
+		}
 		return message;
 	}
 
@@ -10,6 +10,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
 import com.csse3200.game.screens.MainMenuScreen;
+import com.csse3200.game.services.SaveLoadService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 import org.slf4j.Logger;
@@ -57,7 +58,7 @@ public class MainMenuDisplay extends UIComponent {
 		);
 
 		TextButton startBtn = new TextButton("New Game", skin, "transparent_orange");
-		TextButton loadBtn = new TextButton("Continue", skin, Gdx.files.local("saves/saveFile.json").exists() ? "transparent_orange" : "transparent_grey");
+		TextButton loadBtn = new TextButton("Continue", skin, SaveLoadService.saveFileExists() ? "transparent_orange" : "transparent_grey");
 		TextButton controlsBtn = new TextButton("Controls", skin, "transparent_orange");
 		TextButton settingsBtn = new TextButton("Settings", skin, "transparent_orange");
 		TextButton creditsBtn = new TextButton("Credits", skin, "transparent_orange");
@@ -81,7 +82,7 @@ public class MainMenuDisplay extends UIComponent {
 						entity.getEvents().trigger("load");
 					}
 				});
-		loadBtn.setDisabled(!Gdx.files.local("saves/saveFile.json").exists());
+		loadBtn.setDisabled(!SaveLoadService.saveFileExists());
 
 		controlsBtn.addListener(
 				new ChangeListener() {
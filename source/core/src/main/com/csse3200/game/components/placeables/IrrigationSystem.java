@@ -0,0 +1,87 @@
+package com.csse3200.game.components.placeables;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.areas.terrain.GameMap;
+import com.csse3200.game.areas.terrain.TileGrid;
+import com.csse3200.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waters the crop tiles around every powered sprinkler once an hour, in one sweep over the
+ * {@link PipeNetwork}s instead of each sprinkler listening to the time service and looking up the
+ * tiles around it.
+ * <p>
+ * Each network keeps the crop tiles its sprinklers cover, with tiles covered by more than one
+ * sprinkler only included once. This is only worked out again when the network's pipes change or a
+ * tile on the map changes.
+ */
+public class IrrigationSystem {
+	private static final Logger logger = LoggerFactory.getLogger(IrrigationSystem.class);
+
+	private final Array<PipeNetwork> networks = new Array<>(false, 16);
+
+	/**
+	 * Create the irrigation system, listening to the registered time service
+	 */
+	public IrrigationSystem() {
+		logger.debug("Adding irrigation listener to hourUpdate event");
+		ServiceLocator.getTimeService().getEvents().addListener("hourUpdate", this::sprinkle);
+	}
+
+	/**
+	 * @return number of networks being watered from
+	 */
+	public int getNetworkCount() {
+		return networks.size;
+	}
+
+	/**
+	 * Water the crop tiles covered by every powered network
+	 */
+	void sprinkle() {
+		if (networks.isEmpty()) {
+			return;
+		}
+		GameMap map = ServiceLocator.getGameArea().getMap();
+		TileGrid grid = map.getTileGrid();
+		if (grid == null) {
+			return;
+		}
+		for (int i = 0; i < networks.size; i++) {
+			PipeNetwork network = networks.get(i);
+			if (network.isPowered()) {
+				network.sprinkle(map, grid);
+			}
+		}
+	}
+
+	/**
+	 * Start watering from a network
+	 *
+	 * @param network network that has had its first pipe added
+	 */
+	void addNetwork(PipeNetwork network) {
+		network.systemSlot = networks.size;
+		networks.add(network);
+	}
+
+	/**
+	 * Stop watering from a network
+	 *
+	 * @param network network that has had its last pipe removed
+	 */
+	void removeNetwork(PipeNetwork network) {
+		int slot = network.systemSlot;
+		if (slot < 0 || slot >= networks.size || networks.get(slot) != network) {
+			return;
+		}
+		// Move the last network into the removed network's slot
+		PipeNetwork last = networks.pop();
+		if (last != network) {
+			networks.set(slot, last);
+			last.systemSlot = slot;
+		}
+		network.systemSlot = PipeNetwork.NO_SLOT;
+	}
+}
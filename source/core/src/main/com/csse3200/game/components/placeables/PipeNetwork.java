@@ -0,0 +1,301 @@
+package com.csse3200.game.components.placeables;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntSet;
+import com.csse3200.game.areas.terrain.CropTileComponent;
+import com.csse3200.game.areas.terrain.GameMap;
+import com.csse3200.game.areas.terrain.TerrainTile;
+import com.csse3200.game.areas.terrain.TileGrid;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.services.ServiceLocator;
+
+import java.util.ArrayDeque;
+
+/**
+ * A group of sprinklers and pumps that are connected to each other through adjacent pipes. Every
+ * sprinkler in a network is powered while the network has at least one pump in it.
+ * <p>
+ * Each pipe points at its network and the network counts its pumps, so checking whether a pipe is
+ * powered takes constant time. When a pipe is placed, the networks around it are merged into the
+ * largest of them by moving the pipes of the smaller networks across. A pipe can only move into a
+ * network at least twice the size of its old one, so it moves O(log n) times at most. When a pipe is
+ * removed, its network is only split up if the pipe was joining two or more of its neighbours, in
+ * which case the pipes are searched again starting from each neighbour.
+ * <p>
+ * Only pipes whose powered status actually changes are told about it, see
+ * {@link SprinklerComponent#onPowerChanged(boolean)}.
+ * <p>
+ * Networks are watered from by the {@link IrrigationSystem} while they have any pipes in them.
+ */
+class PipeNetwork {
+	/**
+	 * Most neighbours a pipe can have, one on each side.
+	 */
+	private static final int MAX_NEIGHBOURS = 4;
+
+	/**
+	 * Value of systemSlot when the network is not in the {@link IrrigationSystem}
+	 */
+	static final int NO_SLOT = -1;
+
+	private final Array<SprinklerComponent> pipes = new Array<>(false, 8);
+	private int pumps;
+
+	/**
+	 * Index of this network in the {@link IrrigationSystem}, set by the system
+	 */
+	int systemSlot = NO_SLOT;
+
+	/**
+	 * Every crop tile covered by a sprinkler in this network, each only once
+	 */
+	private final Array<CropTileComponent> coveredTiles = new Array<>(false, 16);
+	private boolean coverageChanged = true;
+	private TileGrid coverageGrid;
+	private int coverageVersion;
+
+	/**
+	 * @return true if this network has a pump in it
+	 */
+	boolean isPowered() {
+		return pumps > 0;
+	}
+
+	/**
+	 * @return number of pipes in this network, including pumps
+	 */
+	int size() {
+		return pipes.size;
+	}
+
+	/**
+	 * Add a newly placed pipe to the network of its neighbours, merging their networks together if it
+	 * connects more than one.
+	 *
+	 * @param pipe the pipe that has been placed
+	 */
+	static void join(SprinklerComponent pipe) {
+		if (pipe.network != null) {
+			return;
+		}
+		Entity[] adjacent = pipe.getAdjList();
+		PipeNetwork largest = null;
+		for (Entity other : adjacent) {
+			PipeNetwork network = networkOf(other);
+			if (network != null && (largest == null || network.size() > largest.size())) {
+				largest = network;
+			}
+		}
+		if (largest == null) {
+			largest = new PipeNetwork();
+		}
+
+		boolean wasPowered = largest.isPowered();
+		int originalSize = largest.size();
+		largest.add(pipe);
+
+		// Move the pipes of every other neighbouring network across, remembering where they went
+		int[] starts = new int[MAX_NEIGHBOURS];
+		boolean[] mergedPowered = new boolean[MAX_NEIGHBOURS];
+		int merged = 0;
+		for (Entity other : adjacent) {
+			PipeNetwork network = networkOf(other);
+			if (network != null && network != largest) {
+				starts[merged] = largest.size();
+				mergedPowered[merged++] = network.isPowered();
+				for (SprinklerComponent moved : network.pipes) {
+					largest.add(moved);
+				}
+				network.pipes.clear();
+				network.pumps = 0;
+				network.unregister();
+			}
+		}
+
+		boolean powered = largest.isPowered();
+		if (powered != wasPowered) {
+			largest.setPower(0, originalSize, powered);
+		}
+		for (int i = 0; i < merged; i++) {
+			int end = i + 1 < merged ? starts[i + 1] : largest.size();
+			if (mergedPowered[i] != powered) {
+				largest.setPower(starts[i], end, powered);
+			}
+		}
+		pipe.setPower(pipe.getPump() || powered);
+	}
+
+	/**
+	 * Remove a pipe from its network, splitting the network up if the pipe was the only thing
+	 * connecting parts of it.
+	 *
+	 * @param pipe the pipe that is being removed
+	 */
+	static void leave(SprinklerComponent pipe) {
+		PipeNetwork network = pipe.network;
+		if (network == null) {
+			return;
+		}
+		boolean wasPowered = network.isPowered();
+		network.remove(pipe);
+
+		int neighbours = 0;
+		for (Entity other : pipe.getAdjList()) {
+			if (networkOf(other) == network) {
+				neighbours++;
+			}
+		}
+		if (neighbours <= 1) {
+			// Nothing has been disconnected, but the network may have lost its only pump
+			if (network.isPowered() != wasPowered) {
+				network.setPower(0, network.size(), network.isPowered());
+			}
+			return;
+		}
+
+		// Search out the part of the network each neighbour is still connected to
+		ArrayDeque<SprinklerComponent> queue = new ArrayDeque<>();
+		for (Entity other : pipe.getAdjList()) {
+			SprinklerComponent start = componentOf(other);
+			if (start == null || start.network != network) {
+				continue;
+			}
+			PipeNetwork part = new PipeNetwork();
+			network.remove(start);
+			part.add(start);
+			queue.add(start);
+			while (!queue.isEmpty()) {
+				for (Entity next : queue.poll().getAdjList()) {
+					SprinklerComponent nextPipe = componentOf(next);
+					if (nextPipe != null && nextPipe.network == network) {
+						network.remove(nextPipe);
+						part.add(nextPipe);
+						queue.add(nextPipe);
+					}
+				}
+			}
+			if (part.isPowered() != wasPowered) {
+				part.setPower(0, part.size(), part.isPowered());
+			}
+		}
+	}
+
+	/**
+	 * Water every crop tile covered by a sprinkler in this network, and play each sprinkler's
+	 * watering animation.
+	 *
+	 * @param map  map the network is on
+	 * @param grid tile grid of the map
+	 */
+	void sprinkle(GameMap map, TileGrid grid) {
+		if (coverageChanged || coverageGrid != grid || coverageVersion != grid.getVersion()) {
+			findCoveredTiles(map, grid);
+		}
+		for (SprinklerComponent pipe : pipes) {
+			if (!pipe.getPump()) {
+				pipe.startWaterAnimation();
+			}
+		}
+		for (int i = 0; i < coveredTiles.size; i++) {
+			coveredTiles.get(i).sprinkle();
+		}
+	}
+
+	/**
+	 * @return number of crop tiles covered by this network's sprinklers, as of the last time it was
+	 * watered from
+	 */
+	int getCoveredTileCount() {
+		return coveredTiles.size;
+	}
+
+	private void findCoveredTiles(GameMap map, TileGrid grid) {
+		coveredTiles.clear();
+		IntSet covered = new IntSet();
+		Vector2 position = new Vector2();
+		for (SprinklerComponent pipe : pipes) {
+			if (pipe.getPump()) {
+				continue;
+			}
+			pipe.getEntity().getPosition(position);
+			int x = map.worldToTileX(position.x);
+			int y = map.worldToTileY(position.y);
+			for (int i = 0; i < SprinklerComponent.AOE_X.length; i++) {
+				int tileX = x + SprinklerComponent.AOE_X[i];
+				int tileY = y + SprinklerComponent.AOE_Y[i];
+				if (!grid.isInBounds(tileX, tileY) || !covered.add(tileY * grid.getWidth() + tileX)) {
+					continue;
+				}
+				TerrainTile tile = grid.getTile(tileX, tileY);
+				Entity occupant = tile == null ? null : tile.getOccupant();
+				CropTileComponent cropTile = occupant == null ? null : occupant.getComponent(CropTileComponent.class);
+				if (cropTile != null) {
+					coveredTiles.add(cropTile);
+				}
+			}
+		}
+		coverageGrid = grid;
+		coverageVersion = grid.getVersion();
+		coverageChanged = false;
+	}
+
+	private void add(SprinklerComponent pipe) {
+		if (pipes.isEmpty()) {
+			register();
+		}
+		coverageChanged = true;
+		pipe.network = this;
+		pipe.networkSlot = pipes.size;
+		pipes.add(pipe);
+		if (pipe.getPump()) {
+			pumps++;
+		}
+	}
+
+	private void remove(SprinklerComponent pipe) {
+		// Move the last pipe into the removed pipe's slot
+		SprinklerComponent last = pipes.pop();
+		if (last != pipe) {
+			pipes.set(pipe.networkSlot, last);
+			last.networkSlot = pipe.networkSlot;
+		}
+		pipe.network = null;
+		if (pipe.getPump()) {
+			pumps--;
+		}
+		coverageChanged = true;
+		if (pipes.isEmpty()) {
+			unregister();
+		}
+	}
+
+	private void register() {
+		IrrigationSystem system = ServiceLocator.getIrrigationSystem();
+		if (system != null) {
+			system.addNetwork(this);
+		}
+	}
+
+	private void unregister() {
+		IrrigationSystem system = ServiceLocator.getIrrigationSystem();
+		if (system != null && systemSlot != NO_SLOT) {
+			system.removeNetwork(this);
+		}
+	}
+
+	private void setPower(int start, int end, boolean powered) {
+		for (int i = start; i < end; i++) {
+			pipes.get(i).onPowerChanged(powered);
+		}
+	}
+
+	private static SprinklerComponent componentOf(Entity entity) {
+		return entity == null ? null : entity.getComponent(SprinklerComponent.class);
+	}
+
+	private static PipeNetwork networkOf(Entity entity) {
+		SprinklerComponent pipe = componentOf(entity);
+		return pipe == null ? null : pipe.network;
+	}
+}
@@ -1,19 +1,11 @@
 package com.csse3200.game.components.placeables;
 
-import com.badlogic.gdx.math.Vector2;
-import com.csse3200.game.areas.terrain.CropTileComponent;
-import com.csse3200.game.areas.terrain.TerrainTile;
 import com.csse3200.game.components.Component;
-import com.csse3200.game.components.plants.PlantComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.rendering.DynamicTextureRenderComponent;
 import com.csse3200.game.services.ServiceLocator;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.Queue;
-
 
 public class SprinklerComponent extends Component {
 
@@ -75,11 +67,23 @@ public class SprinklerComponent extends Component {
 	protected boolean pump;
 
 	/**
-	 * A sprinklers area of effect to water, aoe is circular with radius of 2.
+	 * Tile offsets of the watering area-of-effect, 2 tiles above, below, left and right of the
+	 * sprinkler. The {@link PipeNetwork} waters the crop tiles at these offsets.
 	 */
-	protected Vector2[] aoe;
+	static final int[] AOE_X = {0, 0, 0, 0, 1, 2, -1, -2};
+	static final int[] AOE_Y = {1, 2, -1, -2, 0, 0, 0, 0};
 	private Entity water;
 
+	/**
+	 * The network of pipes this sprinkler is connected to, set by {@link PipeNetwork}.
+	 */
+	PipeNetwork network;
+
+	/**
+	 * Index of this sprinkler in its network, set by {@link PipeNetwork}.
+	 */
+	int networkSlot;
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -87,14 +91,14 @@ public class SprinklerComponent extends Component {
 	public void create() {
 		// Create a list of the adjacent sprinklers:
 		this.connectedEntityUtility = new ConnectedEntityUtility(entity);
+		// Join the network of the adjacent sprinklers:
+		PipeNetwork.join(this);
 		if (!this.pump) {
 			// Configure the sprinklers dynamic components:
 			configSprinkler();
-			setAoe();
 			// Add listener for reconfigure requests:
 			entity.getEvents().addListener("reconfigure", this::reConfigure);
-			// set to sprinkle every minute:
-			ServiceLocator.getTimeService().getEvents().addListener("hourUpdate", this::sprinkle);
+			// The IrrigationSystem sprinkles from this sprinkler's network every hour
 		}
 		// Update adjacent sprinklers:
 		this.connectedEntityUtility.notifyAdjacent();
@@ -146,23 +150,16 @@ public class SprinklerComponent extends Component {
 	}
 
 	/**
-	 * Sets powered status and texture 'orientation' based off the adjacent sprinklers.
-	 * - A power source is either a pump or a powered sprinkler.
+	 * Sets texture 'orientation' based off the adjacent sprinklers.
+	 * - The powered status comes from this sprinkler's network, which is powered if it contains a pump.
 	 * - A texture is selected for this sprinkler based on the surrounding sprinklers,
 	 * this illustrates to the player that these sprinklers are connected - like pipes.
 	 */
 	public void configSprinkler() {
-		// Find suitable texture and configure power status based off of the adjacent:
-		byte orientation = 0b0000;
-		for (Entity s : this.connectedEntityUtility.getAdjacentEntities()) {
-			orientation <<= 1;
-			if (s != null) {
-				orientation |= 0b0001;
-				this.isPowered |= s.getComponent(SprinklerComponent.class).getPowered();
-			}
+		if (network != null) {
+			this.isPowered = pump || network.isPowered();
 		}
-		// Now set the texture:
-		setTexture(this.isPowered, orientation);
+		setTexture(this.isPowered, this.connectedEntityUtility.getAdjacentBitmap());
 		if (water != null) {
 			water.setCenterPosition(entity.getCenterPosition());
 		}
@@ -184,134 +181,37 @@ public class SprinklerComponent extends Component {
 
 	/**
 	 * Called via ConnectedEntityComponent's "reconfigure" trigger -
-	 * This trigger is called when a new sprinkler is placed in this sprinklers' vicinity.
-	 * Re-configures using pathfinding (see findPump() and notifyConnected() methods).
+	 * This trigger is called when a sprinkler is placed or removed in this sprinklers' vicinity.
+	 * The power status is kept up to date by this sprinkler's {@link PipeNetwork}, so only the
+	 * texture 'orientation' needs to change.
 	 */
 	public void reConfigure() {
 		// A pump doesn't need to reconfigure, it's power and texture are constant, and cannot be effected.
 		if (this.pump) return;
-		// Identify if this sprinkler is connected to a pump,
-		// Then configure every sprinkler in range with that result:
-		notifyConnected(findPump(this.entity));
-		// Update this sprinklers texture:
 		setTexture(this.isPowered, this.connectedEntityUtility.getAdjacentBitmap());
 	}
 
 	/**
-	 * finds a path to a pump, returns true if path found, false otherwise.
-	 *
-	 * @param calling the sprinkler calling.
-	 * @return truth value of weather we found a path to a pump or not.
-	 */
-	protected boolean findPump(Entity calling) {
-		// BFS with a queue
-		Queue<Entity> queue = new LinkedList<>();
-		ArrayList<Entity> visited = new ArrayList<>();
-		queue.offer(calling);
-
-		while (!queue.isEmpty()) {
-			calling = queue.poll();
-			for (Entity s : calling.getComponent(SprinklerComponent.class).getAdjList()) {
-				if (s != null && !visited.contains(s)) {
-					// If we find a pump we return here:
-					if (s.getComponent(SprinklerComponent.class).getPump()) return true;
-					queue.offer(s);
-					visited.add(s);
-				}
-			}
-		}
-		return false;
-	}
-
-	/**
-	 * Uses pathfinding to set all connected sprinkles (from this.entity) to the given powerStatus &
-	 * sets their texture appropriately.
+	 * Called by this sprinkler's {@link PipeNetwork} when the network gains or loses power.
 	 *
-	 * @param powerStatus the truth value used to set all sprinklers found via search.
-	 */
-	private void notifyConnected(boolean powerStatus) {
-		// Set the calling sprinkler to match powerStatus
-		this.isPowered = powerStatus;
-		// BFS to tell everyone to update:
-		Entity calling = this.entity;
-		Queue<Entity> queue = new LinkedList<>();
-		ArrayList<Entity> visited = new ArrayList<>();
-		queue.offer(calling);
-
-		while (!queue.isEmpty()) {
-			calling = queue.poll();
-			for (Entity s : calling.getComponent(SprinklerComponent.class).getAdjList()) {
-				if (s != null && !visited.contains(s)) {
-					s.getComponent(SprinklerComponent.class).setPower(powerStatus);
-					// Set the powered status and texture of everything we find that's not a pump:
-					if (!s.getComponent(SprinklerComponent.class).getPump()) {
-						s.getComponent(SprinklerComponent.class)
-								.setTexture(powerStatus, s.getComponent(SprinklerComponent.class)
-										.connectedEntityUtility.getAdjacentBitmap());
-					}
-					queue.offer(s);
-					visited.add(s);
-				}
-			}
-		}
-	}
-
-	/**
-	 * Sets the coordinates for the watering area-of-effect.
-	 * The watering AOE is this sprinklers position +2 in all directions, +1 in diagonals,
-	 * this creates a circular watering effect.
+	 * @param powered whether the network is now powered
 	 */
-	private void setAoe() {
-		this.aoe = new Vector2[12];
-		float x = entity.getPosition().x;
-		float y = entity.getPosition().y;
-		this.aoe = new Vector2[]{
-				// 2up, 2down, 2right, 2left.
-				new Vector2(x, y + 1),
-				new Vector2(x, y + 2),
-				new Vector2(x, y - 1),
-				new Vector2(x, y - 2),
-				new Vector2(x + 1, y),
-				new Vector2(x + 2, y),
-				new Vector2(x - 1, y),
-				new Vector2(x - 2, y),
-		};
+	void onPowerChanged(boolean powered) {
+		// A pump is always powered
+		if (this.pump) return;
+		this.isPowered = powered;
+		setTexture(powered, this.connectedEntityUtility.getAdjacentBitmap());
 	}
 
 	/**
-	 * Waters plants to the ideal amount within the aoe.
-	 * The aoe is relevant to this sprinklers position and looks like:
-	 * 2 tiles: above, below, left, right.
+	 * Plays the watering animation for this sprinkler.
 	 */
-	protected void sprinkle() {
-		if (!isPowered) {
-			return;
-		}
+	void startWaterAnimation() {
 		if (water != null) {
 			// Mainly for testing but a good fail-safe regardless
 			water.setCenterPosition(entity.getCenterPosition());
 			water.getComponent(AnimationRenderComponent.class).startAnimation("default");
 		}
-		for (Vector2 pos : aoe) {
-			TerrainTile tt = ServiceLocator.getGameArea().getMap().getTile(pos);
-			Entity occupant = tt.getOccupant();
-			if (occupant != null) {
-				CropTileComponent cropTile = occupant.getComponent(CropTileComponent.class);
-				if (cropTile != null) {
-					Entity plant = cropTile.getPlant();
-					if (plant != null) {
-						// water a plant to its ideal water amount
-						float currWater = cropTile.getWaterContent();
-						float ideaWater = plant.getComponent(PlantComponent.class).getIdealWaterLevel();
-						if (currWater < ideaWater) {
-							// Watering plant!
-							occupant.getEvents().trigger("water", ideaWater - currWater);
-						}
-						// no plant but we'll water the cropTile just for visuals
-					} else occupant.getEvents().trigger("water", 0.25f);
-				}
-			}
-		}
 	}
 
 	public void addWaterAnimator(Entity animator) {
@@ -323,6 +223,7 @@ public class SprinklerComponent extends Component {
 	 * Destroys the connections to neighbouring sprinklers
 	 */
 	private void onDestroy() {
+		PipeNetwork.leave(this);
 		entity.getEvents().trigger("destroyConnections");
 		if (!pump) ServiceLocator.getGameArea().removeEntity(water);
 	}
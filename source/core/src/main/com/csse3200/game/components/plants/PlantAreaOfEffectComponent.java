@@ -1,10 +1,7 @@
 package com.csse3200.game.components.plants;
 
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.CircleShape;
 import com.badlogic.gdx.physics.box2d.Fixture;
-import com.csse3200.game.areas.terrain.CropTileComponent;
-import com.csse3200.game.areas.terrain.TerrainTile;
 import com.csse3200.game.components.combat.CombatStatsComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityType;
@@ -22,6 +19,11 @@ import java.util.List;
  * Class to add an Area of Effect to all plants.
  */
 public class PlantAreaOfEffectComponent extends HitboxComponent {
+	/**
+	 * How many in-game minutes pass between applying effects.
+	 */
+	static final int EFFECT_INTERVAL = 5;
+
 	/**
 	 * The radius of the area of effect.
 	 */
@@ -32,6 +34,37 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
 	 */
 	private String effectType;
 
+	/**
+	 * The effect to be implemented, worked out from effectType whenever it changes.
+	 */
+	private Effect effect;
+
+	/**
+	 * Effects that are applied on a timer.
+	 */
+	private enum Effect {
+		DECAY,
+		HEALTH,
+		POISON,
+		EAT,
+		SOUND,
+		NONE;
+
+		static Effect of(String effectType) {
+			if (effectType == null) {
+				return NONE;
+			}
+			return switch (effectType) {
+				case "Decay" -> DECAY;
+				case "Health" -> HEALTH;
+				case "Poison" -> POISON;
+				case "Eat" -> EAT;
+				case "Sound" -> SOUND;
+				default -> NONE;
+			};
+		}
+	}
+
 	/**
 	 * List of entities within the area
 	 */
@@ -42,8 +75,6 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
 	 */
 	private final CircleShape shape = new CircleShape();
 
-	private Vector2[] aoeVectors;
-
 	private static int plantAoeWeatherModifier = 0;
 
 	private int numOfPlayer;
@@ -57,6 +88,7 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
 	public PlantAreaOfEffectComponent(float radius, String effectType) {
 		this.radius = radius;
 		this.effectType = effectType;
+		this.effect = Effect.of(effectType);
 		this.numOfPlayer = 0;
 	}
 
@@ -71,6 +103,7 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
 	 */
 	public void setEffectType(String effectType) {
 		this.effectType = effectType;
+		this.effect = Effect.of(effectType);
 	}
 
 	/**
@@ -112,8 +145,6 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
 
 		entity.getEvents().addListener("collisionStart", this::onCollisionStart);
 		entity.getEvents().addListener("collisionEnd", this::onCollisionEnd);
-		ServiceLocator.getTimeService().getEvents().addListener("hourUpdate", this::hourlyEffect);
-		ServiceLocator.getTimeService().getEvents().addListener("minuteUpdate", this::minuteUpdate);
 		ServiceLocator.getGameArea().getClimateController().getEvents().addListener("startPlantAoeEffect", this::startPlantAoeWeatherEffect);
 		ServiceLocator.getGameArea().getClimateController().getEvents().addListener("stopPlantAoeEffect", this::stopPlantAoeWeatherEffect);
 
@@ -121,31 +152,32 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
 	}
 
 	/**
-	 * Function is triggered every hour of in game time and checks which effects should be executed.
+	 * Called by the {@link PlantGrowthSystem} every hour of in game time and checks which effects
+	 * should be executed.
 	 */
-	private void hourlyEffect() {
-		if (getEffectType().equals("Sound")) {
+	void hourTick() {
+		if (effect == Effect.SOUND) {
 			soundEffect();
 		}
 	}
 
 	/**
-	 * Function is triggered every minute of in game time and checks which effects should be executed.
+	 * Called by the {@link PlantGrowthSystem} every minute of in game time and checks which effects
+	 * should be executed.
+	 *
+	 * @param min current in-game minute
 	 */
-	private void minuteUpdate() {
-		int min = ServiceLocator.getTimeService().getMinute();
-
-		if (min % 5 == 0) {
-			switch (getEffectType()) {
-				case "Decay" -> decayAndDeadEffect();
-				case "Health" -> healthEffect();
-				case "Poison" -> poisonEffect();
+	void minuteTick(int min) {
+		if (min % EFFECT_INTERVAL == 0) {
+			switch (effect) {
+				case HEALTH -> healthEffect();
+				case POISON -> poisonEffect();
 				default -> { // Cry or something
 				}
 			}
 		}
 
-		if (getEffectType().equals("Eat")) {
+		if (effect == Effect.EAT) {
 			eatEffect();
 		}
 
@@ -200,84 +232,27 @@ public class PlantAreaOfEffectComponent extends HitboxComponent {
 	}
 
 	/**
-	 * Effect that is triggered when the plant is decaying or dead. This effect decreases the health of all plants
-	 * near the decaying or dead plant. This encourages the player to remove dead and decaying plants.
-	 * This effects all other plants within a 1 tile radius of the decaying plant.
-	 * Thanks to the person that implemented sprinklers for coming up with this
-	 * approach for aoe.
+	 * Get the change in health this effect makes to the plants within a 1 tile radius, every
+	 * EFFECT_INTERVAL minutes. A decaying or dead plant decreases the health of the plants around it,
+	 * which encourages the player to remove dead and decaying plants, and a health plant increases it.
+	 * The {@link PlantGrowthSystem} adds up and applies these changes for every plant at once.
+	 *
+	 * @return change in health of neighbouring plants, or 0 if this effect does not affect them
 	 */
-	private void decayAndDeadEffect() {
-		// Position of this decaying plant
-		Vector2 plantPos = entity.getPosition();
-
-		// List of all coordinates in a 1 tile radius of the plant.
-		this.aoeVectors = new Vector2[]{
-				new Vector2(plantPos.x - 1, plantPos.y + 1),
-				new Vector2(plantPos.x, plantPos.y + 1),
-				new Vector2(plantPos.x + 1, plantPos.y + 1),
-				new Vector2(plantPos.x - 1, plantPos.y),
-				new Vector2(plantPos.x + 1, plantPos.y),
-				new Vector2(plantPos.x - 1, plantPos.y - 1),
-				new Vector2(plantPos.x, plantPos.y - 1),
-				new Vector2(plantPos.x + 1, plantPos.y - 1),
+	int getNeighbourHealthDelta() {
+		return switch (effect) {
+			case DECAY -> -4 - plantAoeWeatherModifier;
+			case HEALTH -> 4 + plantAoeWeatherModifier;
+			default -> 0;
 		};
-
-		// Decay effect for adjacent plants
-		for (Vector2 otherPos : aoeVectors) {
-			TerrainTile tile = ServiceLocator.getGameArea().getMap().getTile(otherPos);
-			Entity occupant = tile.getOccupant();
-			if (occupant != null) {
-				CropTileComponent cropTile = occupant.getComponent(CropTileComponent.class);
-				if (cropTile != null) {
-					Entity otherPlant = cropTile.getPlant();
-					if (otherPlant != null) {
-						otherPlant.getComponent(PlantComponent.class).increasePlantHealth(-4 - plantAoeWeatherModifier);
-					}
-				}
-			}
-		}
 	}
 
 	/**
-	 * Effect that increases the health of plants, animals, and the player.
-	 * This increases the health of all plants within a 1 tile radius and increases
-	 * the health of the player and all animals in the radius of the collider.
-	 * Thanks to the person that implemented sprinklers for coming up with this
-	 * approach for aoe.
+	 * Effect that increases the health of the player and all animals in the radius of the collider.
+	 * Plants within a 1 tile radius are healed by the {@link PlantGrowthSystem}, see
+	 * {@link #getNeighbourHealthDelta()}.
 	 */
 	private void healthEffect() {
-		// Position of this health plant.
-		Vector2 plantPos = entity.getPosition();
-
-		// List of all coordinates in a 1 tile radius of the plant.
-		this.aoeVectors = new Vector2[]{
-				new Vector2(plantPos.x - 1, plantPos.y + 1),
-				new Vector2(plantPos.x, plantPos.y + 1),
-				new Vector2(plantPos.x + 1, plantPos.y + 1),
-				new Vector2(plantPos.x - 1, plantPos.y),
-				new Vector2(plantPos.x + 1, plantPos.y),
-				new Vector2(plantPos.x - 1, plantPos.y - 1),
-				new Vector2(plantPos.x, plantPos.y - 1),
-				new Vector2(plantPos.x + 1, plantPos.y - 1),
-		};
-
-		// Health effect for adjacent plants.
-		for (Vector2 otherPos : aoeVectors) {
-			TerrainTile tile = ServiceLocator.getGameArea().getMap().getTile(otherPos);
-			if (tile != null) {
-				Entity occupant = tile.getOccupant();
-				if (occupant != null) {
-					CropTileComponent cropTile = occupant.getComponent(CropTileComponent.class);
-					if (cropTile != null) {
-						Entity otherPlant = cropTile.getPlant();
-						if (otherPlant != null) {
-							otherPlant.getComponent(PlantComponent.class).increasePlantHealth(4 + plantAoeWeatherModifier);
-						}
-					}
-				}
-			}
-		}
-
 		// Health effect for player and animals.
 		for (Entity entityInRange : getEntitiesInRange()) {
 
@@ -29,7 +29,7 @@ import static com.badlogic.gdx.math.MathUtils.random;
 public class PlantComponent extends Component {
 
 	/**
-	 * Initial plant health
+	 * Initial plant health. Held by the {@link PlantGrowthSystem} instead while it advances the plant.
 	 */
 	private int plantHealth;
 
@@ -102,7 +102,8 @@ public class PlantComponent extends Component {
 	}
 
 	/**
-	 * The growth stage of the plant
+	 * The growth stage of the plant. Held by the {@link PlantGrowthSystem} instead while it advances
+	 * the plant.
 	 */
 	private GrowthStage growthStages;
 
@@ -112,7 +113,8 @@ public class PlantComponent extends Component {
 	private int adultLifeSpan;
 
 	/**
-	 * Used to determine when a plant enters a new growth stage (for growth stages 2, 3, 4)
+	 * Used to determine when a plant enters a new growth stage (for growth stages 2, 3, 4). Held by the
+	 * {@link PlantGrowthSystem} instead while it advances the plant.
 	 */
 	private int currentGrowthLevel;
 
@@ -171,7 +173,8 @@ public class PlantComponent extends Component {
 	private final int[] maxHealthAtStages = {0, 0, 0};
 
 	/**
-	 * Used to track how long a plant has been an adult.
+	 * Used to track how long a plant has been an adult. Held by the {@link PlantGrowthSystem} instead
+	 * while it advances the plant.
 	 */
 	private int numOfDaysAsAdult;
 
@@ -247,6 +250,32 @@ public class PlantComponent extends Component {
 	 */
 	private boolean forced = false;
 
+	/**
+	 * Value of growthSlot when the plant is not being advanced by the {@link PlantGrowthSystem}
+	 */
+	static final int NO_GROWTH_SLOT = -1;
+
+	/**
+	 * How many in-game minutes pass between changes to the planet's oxygen level
+	 */
+	static final int OXYGEN_INTERVAL = 20;
+
+	/**
+	 * How many in-game minutes pass between increases to the plant's growth level
+	 */
+	private static final int GROWTH_INTERVAL = 5;
+
+	/**
+	 * Slot of this plant in the {@link PlantGrowthSystem}
+	 */
+	private int growthSlot = NO_GROWTH_SLOT;
+
+	/**
+	 * The growth system advancing this plant, which holds its growth stage, health, growth level,
+	 * ideal water level and days as an adult while it does. Null while the plant's own fields hold them.
+	 */
+	private PlantGrowthSystem growthSystem;
+
 	/**
 	 * Constructor used for plant types that have no extra properties. This is just used for testing.
 	 *
@@ -353,9 +382,9 @@ public class PlantComponent extends Component {
 		entity.getEvents().addListener("harvest", this::harvest);
 		entity.getEvents().addListener("destroyPlant", this::destroyPlant);
 		entity.getEvents().addListener("attack", this::attack);
-		ServiceLocator.getTimeService().getEvents().addListener("minuteUpdate", this::minuteUpdate);
-		ServiceLocator.getTimeService().getEvents().addListener("hourUpdate", this::hourUpdate);
-		ServiceLocator.getTimeService().getEvents().addListener("dayUpdate", this::dayUpdate);
+		if (ServiceLocator.getPlantGrowthSystem() != null) {
+			ServiceLocator.getPlantGrowthSystem().addPlant(this);
+		}
 		ServiceLocator.getPlantCommandService().getEvents().addListener("forceGrowthStage", this::forceGrowthStage);
 		ServiceLocator.getGameArea().getClimateController().getEvents().addListener("damagePlants", () -> {
 			increasePlantHealth(-1);
@@ -371,16 +400,37 @@ public class PlantComponent extends Component {
 	}
 
 	/**
-	 * Functionality for the plant that needs to update every minute.
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispose() {
+		super.dispose();
+		if (growthSystem != null) {
+			growthSystem.removePlant(this);
+		}
+	}
+
+	/**
+	 * Functionality for the plant that needs to update every minute. The {@link PlantGrowthSystem}
+	 * advances every plant at once through {@link #minuteTick(int)} instead.
 	 */
 	public void minuteUpdate() {
 		int min = ServiceLocator.getTimeService().getMinute();
 
-		if (min % 20 == 0) {
+		if (min % OXYGEN_INTERVAL == 0) {
 			incrementOxygen();
 		}
-		if (min % 5 == 0) {
-			increaseCurrentGrowthLevel();
+		minuteTick(min);
+	}
+
+	/**
+	 * Everything done every minute apart from changing the oxygen level.
+	 *
+	 * @param min current in-game minute
+	 */
+	void minuteTick(int min) {
+		if (min % GROWTH_INTERVAL == 0) {
+			increaseCurrentGrowthLevel(min);
 			updateGrowthStage();
 			updateMaxHealth();
 		}
@@ -396,19 +446,31 @@ public class PlantComponent extends Component {
 	 * Changes the oxygen level of the planet based on the plant and growth stage
 	 */
 	public void incrementOxygen() {
-		if (currentGrowthLevel == GrowthStage.DECAYING.getValue() || currentGrowthLevel == GrowthStage.DEAD.getValue()) {
-			ServiceLocator.getPlanetOxygenService().removeOxygen(10);
-		} else if (currentGrowthLevel == GrowthStage.ADULT.getValue()) {
-			if (Objects.equals(getPlantName(), "Atomic Algae")) {
-				ServiceLocator.getPlanetOxygenService().addOxygen(20);
-			} else {
-				ServiceLocator.getPlanetOxygenService().addOxygen(10);
-			}
-		} else if (currentGrowthLevel == GrowthStage.JUVENILE.getValue()) {
-			ServiceLocator.getPlanetOxygenService().addOxygen(5);
-		} else if (currentGrowthLevel < GrowthStage.JUVENILE.getValue()) {
-			ServiceLocator.getPlanetOxygenService().addOxygen(2);
+		int oxygen = getOxygenContribution();
+		if (oxygen > 0) {
+			ServiceLocator.getPlanetOxygenService().addOxygen(oxygen);
+		} else if (oxygen < 0) {
+			ServiceLocator.getPlanetOxygenService().removeOxygen(-oxygen);
+		}
+	}
+
+	/**
+	 * Get how much oxygen the plant adds to the planet every time the oxygen level changes.
+	 *
+	 * @return oxygen added, negative if the plant removes oxygen
+	 */
+	int getOxygenContribution() {
+		int growthLevel = getCurrentGrowthLevel();
+		if (growthLevel == GrowthStage.DECAYING.getValue() || growthLevel == GrowthStage.DEAD.getValue()) {
+			return -10;
+		} else if (growthLevel == GrowthStage.ADULT.getValue()) {
+			return Objects.equals(getPlantName(), "Atomic Algae") ? 20 : 10;
+		} else if (growthLevel == GrowthStage.JUVENILE.getValue()) {
+			return 5;
+		} else if (growthLevel < GrowthStage.JUVENILE.getValue()) {
+			return 2;
 		}
+		return 0;
 	}
 
 	/**
@@ -431,7 +493,7 @@ public class PlantComponent extends Component {
 	public void adultLifeSpanCheck() {
 		// If the plant reaches its adult life span then start decaying.
 		if (getGrowthStage().getValue() == GrowthStage.ADULT.getValue()) {
-			this.numOfDaysAsAdult += 1;
+			setNumOfDaysAsAdult(getNumOfDaysAsAdult() + 1);
 			if (getNumOfDaysAsAdult() > getAdultLifeSpan()) {
 				entity.getComponent(PlantAreaOfEffectComponent.class).setEffectType(DECAY);
 				entity.getComponent(PlantAreaOfEffectComponent.class).setRadius(2f);
@@ -500,7 +562,7 @@ public class PlantComponent extends Component {
 	 */
 	public void updateGrowthStage() {
 		if ((getGrowthStage().getValue() < GrowthStage.ADULT.getValue()) &&
-				this.currentGrowthLevel >= this.growthStageThresholds[getGrowthStage().getValue() - 1]) {
+				getCurrentGrowthLevel() >= this.growthStageThresholds[getGrowthStage().getValue() - 1]) {
 			setGrowthStage(getGrowthStage().getValue() + 1);
 			if (getGrowthStage().getValue() == GrowthStage.ADULT.getValue()) {
 				entity.getComponent(PlantAreaOfEffectComponent.class).setEffectType(this.adultEffect);
@@ -537,7 +599,7 @@ public class PlantComponent extends Component {
 	 * @return current plant health
 	 */
 	public int getPlantHealth() {
-		return this.plantHealth;
+		return growthSystem == null ? this.plantHealth : growthSystem.getHealth(growthSlot);
 	}
 
 	/**
@@ -546,7 +608,11 @@ public class PlantComponent extends Component {
 	 * @param health - current plant health
 	 */
 	public void setPlantHealth(int health) {
-		this.plantHealth = health;
+		if (growthSystem == null) {
+			this.plantHealth = health;
+		} else {
+			growthSystem.setHealth(growthSlot, health);
+		}
 	}
 
 	/**
@@ -566,24 +632,26 @@ public class PlantComponent extends Component {
 	 */
 	public void increasePlantHealth(int plantHealthIncrement) {
 
+		int health;
 		if (getGrowthStage().getValue() <= GrowthStage.ADULT.getValue()) {
-			this.plantHealth += plantHealthIncrement;
+			health = getPlantHealth() + plantHealthIncrement;
 		} else {
 			return;
 		}
 
 		int growthStage = getGrowthStage().getValue();
 		if ((growthStage < GrowthStage.ADULT.getValue())
-				&& plantHealth > maxHealthAtStages[growthStage - 1]) {
-			this.plantHealth = maxHealthAtStages[growthStage - 1];
+				&& health > maxHealthAtStages[growthStage - 1]) {
+			health = maxHealthAtStages[growthStage - 1];
 		} else if (growthStage == GrowthStage.ADULT.getValue()
-				&& plantHealth > maxHealth) {
-			this.plantHealth = maxHealth;
+				&& health > maxHealth) {
+			health = maxHealth;
 		}
 
-		if (this.plantHealth < 0) {
-			this.plantHealth = 0;
+		if (health < 0) {
+			health = 0;
 		}
+		setPlantHealth(health);
 	}
 
 	/**
@@ -617,7 +685,7 @@ public class PlantComponent extends Component {
 	 * Set the plant to decaying stage.
 	 */
 	public void setDecay() {
-		this.growthStages = GrowthStage.DECAYING;
+		storeGrowthStage(GrowthStage.DECAYING);
 	}
 
 	/**
@@ -626,7 +694,7 @@ public class PlantComponent extends Component {
 	 * @return If the plant is in a state of decay or not
 	 */
 	public boolean isDecay() {
-		return this.growthStages == GrowthStage.DECAYING;
+		return getGrowthStage() == GrowthStage.DECAYING;
 	}
 
 	/**
@@ -635,7 +703,7 @@ public class PlantComponent extends Component {
 	 * @return ideal water level
 	 */
 	public float getIdealWaterLevel() {
-		return this.idealWaterLevel;
+		return growthSystem == null ? this.idealWaterLevel : growthSystem.getIdealWaterLevel(growthSlot);
 	}
 
 	/**
@@ -644,7 +712,7 @@ public class PlantComponent extends Component {
 	 * @return current growth stage
 	 */
 	public GrowthStage getGrowthStage() {
-		return this.growthStages;
+		return growthSystem == null ? this.growthStages : growthSystem.getGrowthStage(growthSlot);
 	}
 
 	/**
@@ -666,7 +734,7 @@ public class PlantComponent extends Component {
 		}
 
 		if (newGrowthStage >= 1 && newGrowthStage <= GrowthStage.values().length) {
-			this.growthStages = GrowthStage.values()[newGrowthStage - 1];
+			storeGrowthStage(GrowthStage.values()[newGrowthStage - 1]);
 
 			if (getGrowthStage().getValue() <= GrowthStage.ADULT.getValue()) {
 				playSound(EffectSoundFile.PLANT_CLICK);
@@ -700,7 +768,7 @@ public class PlantComponent extends Component {
 	 * @param growthIncrement The number of growth stages the plant will increase by
 	 */
 	public void increaseGrowthStage(int growthIncrement) {
-		this.growthStages.value += growthIncrement;
+		getGrowthStage().value += growthIncrement;
 	}
 
 	/**
@@ -709,7 +777,7 @@ public class PlantComponent extends Component {
 	 * @return The current growth level
 	 */
 	public int getCurrentGrowthLevel() {
-		return this.currentGrowthLevel;
+		return growthSystem == null ? this.currentGrowthLevel : growthSystem.getGrowthLevel(growthSlot);
 	}
 
 	/**
@@ -727,7 +795,7 @@ public class PlantComponent extends Component {
 	 * @return The number of days the plant has been in its adult stage.
 	 */
 	public int getNumOfDaysAsAdult() {
-		return numOfDaysAsAdult;
+		return growthSystem == null ? numOfDaysAsAdult : growthSystem.getDaysAsAdult(growthSlot);
 	}
 
 	/**
@@ -736,7 +804,11 @@ public class PlantComponent extends Component {
 	 * @param numOfDaysAsAdult The number of days to set the plant's adult stage duration to.
 	 */
 	public void setNumOfDaysAsAdult(int numOfDaysAsAdult) {
-		this.numOfDaysAsAdult = numOfDaysAsAdult;
+		if (growthSystem == null) {
+			this.numOfDaysAsAdult = numOfDaysAsAdult;
+		} else {
+			growthSystem.setDaysAsAdult(growthSlot, numOfDaysAsAdult);
+		}
 	}
 
 	/**
@@ -805,9 +877,16 @@ public class PlantComponent extends Component {
 	 * If the plant is already decaying, do nothing.
 	 */
 	void increaseCurrentGrowthLevel() {
-		int min = ServiceLocator.getTimeService().getMinute();
+		increaseCurrentGrowthLevel(ServiceLocator.getTimeService().getMinute());
+	}
 
-		int growthRate = (int) (this.cropTile.getGrowthRate(this.idealWaterLevel) * 5);
+	/**
+	 * Increase the currentGrowthLevel, as in {@link #increaseCurrentGrowthLevel()}.
+	 *
+	 * @param min current in-game minute
+	 */
+	private void increaseCurrentGrowthLevel(int min) {
+		int growthRate = (int) (this.cropTile.getGrowthRate(getIdealWaterLevel()) * 5);
 		float waterLevel = cropTile.getWaterContent();
 		// Check if the growth rate is negative
 		// That the plant is not decaying
@@ -819,7 +898,7 @@ public class PlantComponent extends Component {
 		} else if (getGrowthStage().getValue() < GrowthStage.ADULT.getValue()
 				&& !isDecay()
 				&& waterLevel > 0) {
-			this.currentGrowthLevel += growthRate;
+			setCurrentGrowthLevel(getCurrentGrowthLevel() + growthRate);
 
 			if (min % 20 == 0) {
 				if (cropTile.isFertilised()) {
@@ -839,7 +918,7 @@ public class PlantComponent extends Component {
 	 * @return if the plant is fully decayed
 	 */
 	public boolean isDead() {
-		return this.growthStages.getValue() == GrowthStage.DEAD.getValue();
+		return getGrowthStage().getValue() == GrowthStage.DEAD.getValue();
 	}
 
 	/**
@@ -848,7 +927,7 @@ public class PlantComponent extends Component {
 	 * <p>If this plant is not in a growth stage where is can be harvested, nothing will happen.
 	 */
 	private void harvest() {
-		if (growthStages != GrowthStage.ADULT) {
+		if (getGrowthStage() != GrowthStage.ADULT) {
 			// Cannot harvest when not an adult (or decaying).
 			return;
 		}
@@ -912,7 +991,7 @@ public class PlantComponent extends Component {
 	private void attack() {
 		int attackDamage = 1;
 		increasePlantHealth(-attackDamage);
-		if (plantHealth <= 0) {
+		if (getPlantHealth() <= 0) {
 			destroyPlant();
 		}
 	}
@@ -1202,7 +1281,7 @@ public class PlantComponent extends Component {
 		DecimalFormat decimalFormat = new DecimalFormat("#.##");
 		String waterLevel = decimalFormat.format(cropTile.getWaterContent());
 		String idealWaterLevelString = decimalFormat.format(this.idealWaterLevel);
-		String growthLevel = decimalFormat.format(currentGrowthLevel);
+		String growthLevel = decimalFormat.format(getCurrentGrowthLevel());
 		String currentMaxHealthString = Integer.toString(this.currentMaxHealth);
 		String waterLevelStatus;
 
@@ -1220,7 +1299,7 @@ public class PlantComponent extends Component {
 				"Growth Stage: " + getGrowthStage().name() +
 						"\nWater level: " + waterLevel + "/" + idealWaterLevelString +
 						"\nWater Status: " + waterLevelStatus +
-						"\nHealth: " + plantHealth + "/" + currentMaxHealthString;
+						"\nHealth: " + getPlantHealth() + "/" + currentMaxHealthString;
 
 
 		if (getGrowthStage().getValue() < GrowthStage.ADULT.getValue()) {
@@ -1236,7 +1315,11 @@ public class PlantComponent extends Component {
 	 * @param currentGrowthLevel - Desired growth level of the plant.
 	 */
 	public void setCurrentGrowthLevel(int currentGrowthLevel) {
-		this.currentGrowthLevel = currentGrowthLevel;
+		if (growthSystem == null) {
+			this.currentGrowthLevel = currentGrowthLevel;
+		} else {
+			growthSystem.setGrowthLevel(growthSlot, currentGrowthLevel);
+		}
 	}
 
 	/**
@@ -1267,6 +1350,41 @@ public class PlantComponent extends Component {
 		return aoeAnimations;
 	}
 
+	/**
+	 * Get the slot of this plant in the {@link PlantGrowthSystem}.
+	 *
+	 * @return slot of the plant, or NO_GROWTH_SLOT if it is not being advanced
+	 */
+	int getGrowthSlot() {
+		return growthSlot;
+	}
+
+	/**
+	 * Set the slot of this plant in the {@link PlantGrowthSystem}. When the plant leaves the system,
+	 * its state is copied back from the system's arrays into its own fields.
+	 *
+	 * @param system     system advancing the plant, or null if it is no longer being advanced
+	 * @param growthSlot slot of the plant, or NO_GROWTH_SLOT if it is no longer being advanced
+	 */
+	void setGrowthSlot(PlantGrowthSystem system, int growthSlot) {
+		if (system == null && growthSystem != null) {
+			this.growthStages = growthSystem.getGrowthStage(this.growthSlot);
+			this.plantHealth = growthSystem.getHealth(this.growthSlot);
+			this.currentGrowthLevel = growthSystem.getGrowthLevel(this.growthSlot);
+			this.numOfDaysAsAdult = growthSystem.getDaysAsAdult(this.growthSlot);
+		}
+		this.growthSystem = system;
+		this.growthSlot = growthSlot;
+	}
+
+	private void storeGrowthStage(GrowthStage growthStage) {
+		if (growthSystem == null) {
+			this.growthStages = growthStage;
+		} else {
+			growthSystem.setGrowthStage(growthSlot, growthStage);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -1305,6 +1423,6 @@ public class PlantComponent extends Component {
 		deadBeforeMaturity = plantData.getBoolean("deadBeforeMaturity");
 		plantDestroyed = plantData.getBoolean("plantDestroyed");
 		forced = plantData.getBoolean("forced");
-		growthStages = GrowthStage.valueOf(plantData.getString("growthStage"));
+		storeGrowthStage(GrowthStage.valueOf(plantData.getString("growthStage")));
 	}
 }
\ No newline at end of file
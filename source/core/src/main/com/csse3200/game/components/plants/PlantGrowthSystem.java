@@ -0,0 +1,305 @@
+package com.csse3200.game.components.plants;
+
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.areas.terrain.GameMap;
+import com.csse3200.game.areas.terrain.TileGrid;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * Advances every plant in the game from one place, instead of each plant and its area of effect
+ * listening to the {@link TimeService} itself.
+ * <p>
+ * Plants are kept in a packed array alongside their area of effect components, so each in-game
+ * minute, hour and day is a single loop over all plants. The time service is only asked for the
+ * minute once per tick, and the oxygen given off by every plant is added up and applied to the
+ * planet in one go.
+ * <p>
+ * The growth stage, health, growth level, ideal water level and days as an adult of each plant
+ * being advanced are kept in arrays here, indexed by the plant's growth slot, and the plant's
+ * accessors read and write them. A plant keeps its own copy of this state while it is not in the
+ * system, which is handed over when it is added and handed back when it is removed.
+ * <p>
+ * Area of effects that change the health of neighbouring plants are added up per tile with
+ * {@link TileHealthDeltas}, then applied to every plant in one pass over the plant array, instead of
+ * each effect looking up the tiles, occupants and plants around it.
+ * <p>
+ * Plants may be removed while the system is ticking (for example when a plant is destroyed). Their
+ * slot is cleared straight away and the arrays are packed again once the tick is done.
+ */
+public class PlantGrowthSystem {
+	private static final Logger logger = LoggerFactory.getLogger(PlantGrowthSystem.class);
+	private static final int INITIAL_CAPACITY = 64;
+
+	private PlantComponent[] plants = new PlantComponent[INITIAL_CAPACITY];
+	private PlantAreaOfEffectComponent[] effects = new PlantAreaOfEffectComponent[INITIAL_CAPACITY];
+	private PlantComponent.GrowthStage[] growthStages = new PlantComponent.GrowthStage[INITIAL_CAPACITY];
+	private int[] health = new int[INITIAL_CAPACITY];
+	private int[] growthLevels = new int[INITIAL_CAPACITY];
+	private float[] idealWaterLevels = new float[INITIAL_CAPACITY];
+	private int[] daysAsAdult = new int[INITIAL_CAPACITY];
+	private int size;
+	private boolean ticking;
+	private boolean hasRemoved;
+	private final TileHealthDeltas healthDeltas = new TileHealthDeltas();
+	private final Vector2 position = new Vector2();
+
+	/**
+	 * Create the plant growth system, listening to the registered time service
+	 */
+	public PlantGrowthSystem() {
+		logger.debug("Adding plant growth listeners to time service");
+		ServiceLocator.getTimeService().getEvents().addListener("minuteUpdate", this::minuteUpdate);
+		ServiceLocator.getTimeService().getEvents().addListener("hourUpdate", this::hourUpdate);
+		ServiceLocator.getTimeService().getEvents().addListener("dayUpdate", this::dayUpdate);
+	}
+
+	/**
+	 * Start advancing a plant. Does nothing if the plant is already being advanced.
+	 *
+	 * @param plant plant to add
+	 */
+	public void addPlant(PlantComponent plant) {
+		if (plant.getGrowthSlot() != PlantComponent.NO_GROWTH_SLOT) {
+			return;
+		}
+		if (size == plants.length) {
+			grow(size * 2);
+		}
+		plants[size] = plant;
+		effects[size] = plant.getEntity().getComponent(PlantAreaOfEffectComponent.class);
+		growthStages[size] = plant.getGrowthStage();
+		health[size] = plant.getPlantHealth();
+		growthLevels[size] = plant.getCurrentGrowthLevel();
+		idealWaterLevels[size] = plant.getIdealWaterLevel();
+		daysAsAdult[size] = plant.getNumOfDaysAsAdult();
+		plant.setGrowthSlot(this, size++);
+	}
+
+	/**
+	 * Stop advancing a plant. Does nothing if the plant is not being advanced.
+	 *
+	 * @param plant plant to remove
+	 */
+	public void removePlant(PlantComponent plant) {
+		int slot = plant.getGrowthSlot();
+		if (slot == PlantComponent.NO_GROWTH_SLOT || slot >= size || plants[slot] != plant) {
+			return;
+		}
+		plant.setGrowthSlot(null, PlantComponent.NO_GROWTH_SLOT);
+		plants[slot] = null;
+		effects[slot] = null;
+		growthStages[slot] = null;
+		hasRemoved = true;
+		if (!ticking) {
+			pack();
+		}
+	}
+
+	/**
+	 * @return number of plants being advanced
+	 */
+	public int getPlantCount() {
+		return ticking ? countPlants() : size;
+	}
+
+	/**
+	 * Advance every plant by an in-game minute
+	 */
+	void minuteUpdate() {
+		int minute = ServiceLocator.getTimeService().getMinute();
+		boolean oxygenTick = minute % PlantComponent.OXYGEN_INTERVAL == 0;
+		float oxygen = 0;
+
+		ticking = true;
+		for (int i = 0; i < size; i++) {
+			PlantComponent plant = plants[i];
+			if (plant == null) {
+				continue;
+			}
+			if (oxygenTick) {
+				oxygen += plant.getOxygenContribution();
+			}
+			plant.minuteTick(minute);
+			PlantAreaOfEffectComponent effect = effects[i];
+			if (effect != null) {
+				effect.minuteTick(minute);
+			}
+		}
+		if (minute % PlantAreaOfEffectComponent.EFFECT_INTERVAL == 0) {
+			applyNeighbourEffects();
+		}
+		endTick();
+
+		if (oxygen > 0) {
+			ServiceLocator.getPlanetOxygenService().addOxygen(oxygen);
+		} else if (oxygen < 0) {
+			ServiceLocator.getPlanetOxygenService().removeOxygen(-oxygen);
+		}
+	}
+
+	/**
+	 * Advance every plant by an in-game hour
+	 */
+	void hourUpdate() {
+		ticking = true;
+		for (int i = 0; i < size; i++) {
+			PlantAreaOfEffectComponent effect = effects[i];
+			if (effect != null) {
+				effect.hourTick();
+			}
+		}
+		endTick();
+	}
+
+	/**
+	 * Advance every plant by an in-game day
+	 */
+	void dayUpdate() {
+		ticking = true;
+		for (int i = 0; i < size; i++) {
+			// Only adults count the days until they start decaying
+			if (growthStages[i] == PlantComponent.GrowthStage.ADULT) {
+				plants[i].dayUpdate();
+			}
+		}
+		endTick();
+	}
+
+	/**
+	 * Add up the health changes from every area of effect that affects neighbouring plants, then
+	 * apply them to each plant on an affected tile.
+	 */
+	private void applyNeighbourEffects() {
+		GameMap map = null;
+		for (int i = 0; i < size; i++) {
+			PlantAreaOfEffectComponent effect = effects[i];
+			int delta = effect == null ? 0 : effect.getNeighbourHealthDelta();
+			if (delta == 0) {
+				continue;
+			}
+			if (map == null) {
+				map = ServiceLocator.getGameArea().getMap();
+				TileGrid grid = map.getTileGrid();
+				if (grid == null) {
+					return;
+				}
+				healthDeltas.resize(grid.getWidth(), grid.getHeight());
+			}
+			plants[i].getEntity().getPosition(position);
+			healthDeltas.addAround(map.worldToTileX(position.x), map.worldToTileY(position.y), delta);
+		}
+		if (healthDeltas.isEmpty()) {
+			return;
+		}
+
+		for (int i = 0; i < size; i++) {
+			PlantComponent plant = plants[i];
+			if (plant == null) {
+				continue;
+			}
+			Entity cropTile = plant.getCropTile().getEntity();
+			cropTile.getPosition(position);
+			int delta = healthDeltas.get(map.worldToTileX(position.x), map.worldToTileY(position.y));
+			if (delta != 0) {
+				plant.increasePlantHealth(delta);
+			}
+		}
+		healthDeltas.clear();
+	}
+
+	PlantComponent.GrowthStage getGrowthStage(int slot) {
+		return growthStages[slot];
+	}
+
+	void setGrowthStage(int slot, PlantComponent.GrowthStage growthStage) {
+		growthStages[slot] = growthStage;
+	}
+
+	int getHealth(int slot) {
+		return health[slot];
+	}
+
+	void setHealth(int slot, int plantHealth) {
+		health[slot] = plantHealth;
+	}
+
+	int getGrowthLevel(int slot) {
+		return growthLevels[slot];
+	}
+
+	void setGrowthLevel(int slot, int growthLevel) {
+		growthLevels[slot] = growthLevel;
+	}
+
+	float getIdealWaterLevel(int slot) {
+		return idealWaterLevels[slot];
+	}
+
+	int getDaysAsAdult(int slot) {
+		return daysAsAdult[slot];
+	}
+
+	void setDaysAsAdult(int slot, int days) {
+		daysAsAdult[slot] = days;
+	}
+
+	private void endTick() {
+		ticking = false;
+		if (hasRemoved) {
+			pack();
+		}
+	}
+
+	/**
+	 * Move plants down over any cleared slots, keeping them in the order they were added
+	 */
+	private void pack() {
+		int packed = 0;
+		for (int i = 0; i < size; i++) {
+			PlantComponent plant = plants[i];
+			if (plant != null) {
+				plants[packed] = plant;
+				effects[packed] = effects[i];
+				growthStages[packed] = growthStages[i];
+				health[packed] = health[i];
+				growthLevels[packed] = growthLevels[i];
+				idealWaterLevels[packed] = idealWaterLevels[i];
+				daysAsAdult[packed] = daysAsAdult[i];
+				plant.setGrowthSlot(this, packed++);
+			}
+		}
+		for (int i = packed; i < size; i++) {
+			plants[i] = null;
+			effects[i] = null;
+			growthStages[i] = null;
+		}
+		size = packed;
+		hasRemoved = false;
+	}
+
+	private void grow(int capacity) {
+		plants = Arrays.copyOf(plants, capacity);
+		effects = Arrays.copyOf(effects, capacity);
+		growthStages = Arrays.copyOf(growthStages, capacity);
+		health = Arrays.copyOf(health, capacity);
+		growthLevels = Arrays.copyOf(growthLevels, capacity);
+		idealWaterLevels = Arrays.copyOf(idealWaterLevels, capacity);
+		daysAsAdult = Arrays.copyOf(daysAsAdult, capacity);
+	}
+
+	private int countPlants() {
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			if (plants[i] != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,88 @@
+package com.csse3200.game.components.plants;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Adds up the changes in health that plant area of effects make to the plants around them, one
+ * value per tile, so they can all be applied in a single pass.
+ * <p>
+ * Effects are added with a stencil over the eight tiles around their source. Only tiles that have
+ * been changed are cleared afterwards, so the cost of a tick depends on the number of effects rather
+ * than the size of the map.
+ */
+class TileHealthDeltas {
+	/**
+	 * Offsets of the eight tiles around a tile
+	 */
+	private static final int[] NEIGHBOUR_X = {-1, 0, 1, -1, 1, -1, 0, 1};
+	private static final int[] NEIGHBOUR_Y = {1, 1, 1, 0, 0, -1, -1, -1};
+
+	private final IntArray touched = new IntArray(false, 64);
+	private int[] deltas = new int[0];
+	private int width;
+	private int height;
+
+	/**
+	 * Make sure the buffer covers a map of the given size, clearing it if the size has changed
+	 *
+	 * @param width  width of the map in tiles
+	 * @param height height of the map in tiles
+	 */
+	void resize(int width, int height) {
+		if (width == this.width && height == this.height) {
+			return;
+		}
+		this.width = width;
+		this.height = height;
+		deltas = new int[width * height];
+		touched.clear();
+	}
+
+	/**
+	 * Add a change in health to the eight tiles around a tile, ignoring any outside the map
+	 *
+	 * @param x     x coordinate of the tile at the centre
+	 * @param y     y coordinate of the tile at the centre
+	 * @param delta change in health
+	 */
+	void addAround(int x, int y, int delta) {
+		for (int i = 0; i < NEIGHBOUR_X.length; i++) {
+			int nx = x + NEIGHBOUR_X[i];
+			int ny = y + NEIGHBOUR_Y[i];
+			if (nx >= 0 && ny >= 0 && nx < width && ny < height) {
+				int index = ny * width + nx;
+				deltas[index] += delta;
+				touched.add(index);
+			}
+		}
+	}
+
+	/**
+	 * @param x x coordinate of the tile
+	 * @param y y coordinate of the tile
+	 * @return total change in health for the tile, or 0 if it is outside the map
+	 */
+	int get(int x, int y) {
+		if (x < 0 || y < 0 || x >= width || y >= height) {
+			return 0;
+		}
+		return deltas[y * width + x];
+	}
+
+	/**
+	 * @return true if no changes have been added since the buffer was last cleared
+	 */
+	boolean isEmpty() {
+		return touched.isEmpty();
+	}
+
+	/**
+	 * Reset every changed tile back to 0
+	 */
+	void clear() {
+		for (int i = 0; i < touched.size; i++) {
+			deltas[touched.get(i)] = 0;
+		}
+		touched.clear();
+	}
+}
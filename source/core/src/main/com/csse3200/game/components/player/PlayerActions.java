@@ -4,7 +4,6 @@ import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.csse3200.game.areas.terrain.GameMap;
-import com.csse3200.game.areas.terrain.TerrainTile;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.InteractionDetector;
 import com.csse3200.game.components.combat.CombatStatsComponent;
@@ -222,12 +221,9 @@ public class PlayerActions extends Component {
 		// Used to apply the terrainSpeedModifier
 		Vector2 playerVector = this.entity.getCenterPosition(); // Centre position is better indicator of player location
 		playerVector.add(0, -1.0f); // Player entity sprite's feet are located -1.0f below the centre of the entity
-		TerrainTile terrainTile = gameMap.getTile(playerVector);
-		if (terrainTile != null) {
-			// Null check implemented for when the player Entity is moved out of bounds (Tractor spawning with terminal)
-			float terrainSpeedModifier = gameMap.getTile(playerVector).getSpeedModifier();
-			velocityScale.scl(terrainSpeedModifier);
-		}
+		// Out of bounds positions (Tractor spawning with terminal) have no speed modifier
+		float terrainSpeedModifier = gameMap.getSpeedModifier(playerVector.x, playerVector.y);
+		velocityScale.scl(terrainSpeedModifier);
 
 		if (isWeatherAffectingSpeed) {
 			velocityScale.scl(weatherSpeedModifier);
@@ -18,20 +18,14 @@ import java.util.Set;
 public class ShipTimeSkipComponent extends Component {
 	private static final Logger logger = LoggerFactory.getLogger(ShipTimeSkipComponent.class);
 	private boolean unlocked;
-	private boolean timeSkipInProgress;
 
 	@Override
 	public void create() {
 		super.create();
 		unlocked = false;
-		timeSkipInProgress = false;
-
 
 		entity.getEvents().addListener("timeSkip", this::triggerTimeSkip);
 		entity.getEvents().addListener(ShipFactory.events.PROGRESS_UPDATED.name(), this::progressUpdated);
-
-
-		ServiceLocator.getTimeService().getEvents().addListener("morningTime", this::stopTimeSkip);
 	}
 
 	/**
@@ -48,21 +42,13 @@ public class ShipTimeSkipComponent extends Component {
 	}
 
 	/**
-	 * If time skip is unlocked, trigger the sleep function on the time service.
+	 * If time skip is unlocked, fast forward the time service to the next morning. The whole night is
+	 * simulated in this frame, rather than speeding up the game until morning.
 	 */
 	private void triggerTimeSkip() {
 		if (unlocked) {
 			logger.debug("Skipping time to next MORNING_HOUR");
-			ServiceLocator.getTimeSource().setTimeScale(200f);
-			timeSkipInProgress = true;
-		}
-	}
-
-	private void stopTimeSkip() {
-		// Don't do anything if the morningTime event was triggered, but we're not sleeping
-		if (timeSkipInProgress) {
-			ServiceLocator.getTimeSource().setTimeScale(1f);
-			timeSkipInProgress = false;
+			ServiceLocator.getTimeService().fastForwardToMorning();
 		}
 	}
 
@@ -70,13 +56,12 @@ public class ShipTimeSkipComponent extends Component {
 	public void write(Json json) {
 		json.writeObjectStart(this.getClass().getSimpleName());
 		json.writeValue("unlocked", unlocked);
-		json.writeValue("timeSkipInProgress", timeSkipInProgress);
 		json.writeObjectEnd();
 	}
 
 	@Override
 	public void read(Json json, JsonValue jsonMap) {
+		// Older saves also have timeSkipInProgress, which is ignored as time skips finish within a frame
 		unlocked = jsonMap.getBoolean("unlocked");
-		timeSkipInProgress = jsonMap.getBoolean("timeSkipInProgress");
 	}
 }
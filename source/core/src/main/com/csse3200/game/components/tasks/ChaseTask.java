@@ -8,6 +8,7 @@ import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.raycast.RaycastHit;
 import com.csse3200.game.rendering.DebugRenderer;
+import com.csse3200.game.services.LineOfSightService;
 import com.csse3200.game.services.ServiceLocator;
 
 
@@ -43,6 +44,12 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
 	 * Raycast hit information.
 	 */
 	private final RaycastHit hit = new RaycastHit();
+	/**
+	 * Reused vectors for the target position and raycast end points, to avoid per-frame garbage
+	 */
+	private final Vector2 targetPosition = new Vector2();
+	private final Vector2 rayFrom = new Vector2();
+	private final Vector2 rayTo = new Vector2();
 	/**
 	 * The movement task for chasing.
 	 */
@@ -94,7 +101,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
 	@Override
 	public void start() {
 		super.start();
-		movementTask = new MovementTask(target.getCenterPosition(), speed);
+		movementTask = new MovementTask(target.getCenterPosition(targetPosition), speed);
 		movementTask.create(owner);
 		movementTask.start();
 
@@ -106,7 +113,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
 	 */
 	@Override
 	public void update() {
-		movementTask.setTarget(target.getCenterPosition());
+		movementTask.setTarget(target.getCenterPosition(targetPosition));
 		movementTask.update();
 		if (movementTask.getStatus() != Status.ACTIVE) {
 			movementTask.start();
@@ -141,7 +148,8 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
 	 * @return The distance between the owner's entity and the target entity.
 	 */
 	protected float getDistanceToTarget() {
-		return owner.getEntity().getCenterPosition().dst(target.getCenterPosition());
+		Entity entity = owner.getEntity();
+		return Vector2.dst(entity.getCenterX(), entity.getCenterY(), target.getCenterX(), target.getCenterY());
 	}
 
 	/**
@@ -173,7 +181,8 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
 	}
 
 	/**
-	 * Checks if the target entity is visible from the owner's entity position by performing a raycast.
+	 * Checks if the target entity is visible from the owner's entity position, using the line of
+	 * sight service if there is one, or by performing a raycast otherwise.
 	 *
 	 * @return True if the target entity is visible, false otherwise.
 	 */
@@ -181,8 +190,17 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
 		if (!this.checkVisibility) {
 			return true;
 		}
-		Vector2 from = owner.getEntity().getCenterPosition();
-		Vector2 to = target.getCenterPosition();
+		Vector2 from = owner.getEntity().getCenterPosition(rayFrom);
+		Vector2 to = target.getCenterPosition(rayTo);
+
+		LineOfSightService lineOfSight = ServiceLocator.getLineOfSightService();
+		if (lineOfSight != null) {
+			boolean visible = lineOfSight.isVisible(from, to);
+			if (visible) {
+				debugRenderer.drawLine(from, to);
+			}
+			return visible;
+		}
 
 		// If there is an obstacle in the path to the player, not visible.
 		if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
@@ -21,6 +21,10 @@ public class FollowTask extends ChaseTask {
 	 * Speed to follow the player.
 	 */
 	private final Vector2 speed;
+	/**
+	 * Reused vector for the target's position, to avoid per-frame garbage.
+	 */
+	private final Vector2 targetPosition = new Vector2();
 
 	/**
 	 * @param target            The entity to follow.
@@ -60,7 +64,8 @@ public class FollowTask extends ChaseTask {
 	@Override
 	public void start() {
 		status = Status.ACTIVE;
-		setMovementTask(new MovementTask(getTarget().getCenterPosition(), speed, 1.5f));
+		setMovementTask(new MovementTask(getTarget().getCenterPosition(targetPosition), speed, 1.5f));
+		getMovementTask().setGoal(getTarget());
 		getMovementTask().create(owner);
 		getMovementTask().start();
 		logger.info("Follow Task Active");
@@ -80,7 +85,7 @@ public class FollowTask extends ChaseTask {
 		}
 
 		owner.getEntity().getComponent(PhysicsMovementComponent.class).setEnabled(true);
-		getMovementTask().setTarget(getTarget().getCenterPosition());
+		getMovementTask().setTarget(getTarget().getCenterPosition(targetPosition));
 		getMovementTask().update();
 		if (getMovementTask().getStatus() != Status.ACTIVE) {
 			this.owner.getEntity().getEvents().trigger("followStart");
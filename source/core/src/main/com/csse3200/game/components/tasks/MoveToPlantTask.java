@@ -1,7 +1,6 @@
 package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.entities.Entity;
@@ -9,11 +8,6 @@ import com.csse3200.game.entities.EntityType;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.services.ServiceLocator;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.Set;
-
 /**
  * The entity finds a living plant and moves towards it
  */
@@ -39,6 +33,10 @@ public class MoveToPlantTask extends DefaultTask implements PriorityTask {
 	 * Distance to target before stopping
 	 */
 	private final float stoppingDistance;
+	/**
+	 * Reused vector for the owner's center when searching for plants
+	 */
+	private final Vector2 ownerCenter = new Vector2();
 
 	/**
 	 * @param priority Task priority when moving (-1 when not moving)
@@ -67,6 +65,7 @@ public class MoveToPlantTask extends DefaultTask implements PriorityTask {
 		} else {
 			// Start a movement task towards the plant
 			setMovementTask(new MovementTask(getEntityTargetVector(currentTarget), speed, 1f));
+			getMovementTask().setGoal(currentTarget);
 			getMovementTask().create(owner);
 			getMovementTask().start();
 			this.owner.getEntity().getEvents().trigger("moveToPlantStart");
@@ -91,7 +90,9 @@ public class MoveToPlantTask extends DefaultTask implements PriorityTask {
 		// If the current target is still the same, do nothing
 		if (currentTarget == plant) {
 			// Stop the movement if already at the plant
-			float distanceToTarget = owner.getEntity().getCenterPosition().dst(currentTarget.getCenterPosition());
+			Entity entity = owner.getEntity();
+			float distanceToTarget = Vector2.dst(entity.getCenterX(), entity.getCenterY(),
+					currentTarget.getCenterX(), currentTarget.getCenterY());
 			owner.getEntity().getComponent(PhysicsMovementComponent.class).setEnabled(distanceToTarget > stoppingDistance);
 			return;
 		}
@@ -99,6 +100,7 @@ public class MoveToPlantTask extends DefaultTask implements PriorityTask {
 		// The current target is gone and the movement task should target a new plant
 		currentTarget = plant;
 		getMovementTask().setTarget(getEntityTargetVector(currentTarget));
+		getMovementTask().setGoal(currentTarget);
 		getMovementTask().update();
 		if (getMovementTask().getStatus() != Status.ACTIVE) {
 			this.owner.getEntity().getEvents().trigger("moveToPlantStart");
@@ -138,44 +140,7 @@ public class MoveToPlantTask extends DefaultTask implements PriorityTask {
 	 * @return The nearest plant entity, null if there are no plants.
 	 */
 	private Entity getNearestPlant() {
-		Array<Entity> entities = ServiceLocator.getEntityService().getEntities();
-		int size = entities.size;
-
-		HashMap<Entity, Float> plantDistances = new HashMap<>();
-
-		// Find a target
-		for (int i = 0; i < size; i++) {
-			Entity entity = entities.get(i);
-			if (entity.getType() == EntityType.PLANT) {
-				Float dist = owner.getEntity().getCenterPosition().dst(entity.getCenterPosition());
-				plantDistances.put(entity, dist);
-			}
-		}
-
-		// Check if there are any plants
-		if (plantDistances.isEmpty()) {
-			return null; // No plants found
-		}
-
-		// Find the closest plant
-		Entity closestPlant = null;
-		Float minDistance = Float.MAX_VALUE;
-
-		Set<Map.Entry<Entity, Float>> entries = plantDistances.entrySet();
-		Iterator<Map.Entry<Entity, Float>> iterator = entries.iterator();
-
-		for (int i = 0; i < plantDistances.size(); i++) {
-			Map.Entry<Entity, Float> entry = iterator.next();
-			Entity entity = entry.getKey();
-			Float dist = entry.getValue();
-
-			if (dist < minDistance) {
-				minDistance = dist;
-				closestPlant = entity;
-			}
-		}
-
-		return closestPlant;
+		return ServiceLocator.getEntityService().nearest(owner.getEntity().getCenterPosition(ownerCenter), EntityType.PLANT);
 	}
 
 	/**
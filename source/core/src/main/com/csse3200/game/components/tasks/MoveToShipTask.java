@@ -85,13 +85,9 @@ public class MoveToShipTask extends DefaultTask implements PriorityTask {
 		super.start();
 
 		// Look for the nearest ship entity
-		Array<Entity> entities = ServiceLocator.getEntityService().getEntities();
-		for (int i = 0; i < entities.size; i++) {
-			Entity entity = entities.get(i);
-			if (entity.getType() == EntityType.SHIP) {
-				currentTarget = entity;
-				break;
-			}
+		Array<Entity> ships = ServiceLocator.getEntityService().getEntitiesOfType(EntityType.SHIP);
+		if (!ships.isEmpty()) {
+			currentTarget = ships.first();
 		}
 
 		// Check if there are any ships in the game
@@ -100,6 +96,7 @@ public class MoveToShipTask extends DefaultTask implements PriorityTask {
 		} else {
 			// Start a movement task towards the ship
 			setMovementTask(new MovementTask(currentTarget.getCenterPosition(), speed, stoppingDistance));
+			getMovementTask().setGoal(currentTarget);
 			getMovementTask().create(owner);
 			getMovementTask().start();
 			this.owner.getEntity().getEvents().trigger("moveToShipStart");
@@ -141,7 +138,9 @@ public class MoveToShipTask extends DefaultTask implements PriorityTask {
 			startedDiggingAt = ServiceLocator.getTimeSource().getTime();
 		}
 
-		float distanceToTarget = owner.getEntity().getCenterPosition().dst(currentTarget.getCenterPosition());
+		Entity entity = owner.getEntity();
+		float distanceToTarget = Vector2.dst(entity.getCenterX(), entity.getCenterY(),
+				currentTarget.getCenterX(), currentTarget.getCenterY());
 		owner.getEntity().getComponent(PhysicsMovementComponent.class).setEnabled(distanceToTarget > stoppingDistance);
 
 		movementTask.update();
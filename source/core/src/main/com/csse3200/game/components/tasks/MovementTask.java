@@ -3,6 +3,7 @@ package com.csse3200.game.components.tasks;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.TaskRunner;
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
@@ -27,6 +28,10 @@ public class MovementTask extends DefaultTask {
 	 * The target position to move towards.
 	 */
 	private Vector2 target;
+	/**
+	 * The entity the target belongs to, if any, used to find the way to it around obstacles.
+	 */
+	private Entity goal;
 	/**
 	 * The distance at which the task is considered finished.
 	 */
@@ -38,7 +43,7 @@ public class MovementTask extends DefaultTask {
 	/**
 	 * The last recorded position of the entity.
 	 */
-	private Vector2 lastPos;
+	private final Vector2 lastPos = new Vector2();
 	/**
 	 * The component responsible for physics-based movement.
 	 */
@@ -117,10 +122,11 @@ public class MovementTask extends DefaultTask {
 		super.start();
 		movementComponent.setMaxSpeed(speed);
 		movementComponent.setTarget(target);
+		movementComponent.setPathGoal(goal);
 		movementComponent.setMoving(true);
 		logger.debug("Starting movement towards {}", target);
 		lastTimeMoved = gameTime.getTime();
-		lastPos = owner.getEntity().getPosition();
+		owner.getEntity().getPosition(lastPos);
 
 		this.currentDirection = getDirection();
 		this.owner.getEntity().getEvents().trigger("directionChange", currentDirection);
@@ -156,6 +162,19 @@ public class MovementTask extends DefaultTask {
 		movementComponent.setTarget(target);
 	}
 
+	/**
+	 * Sets the entity the target belongs to, so the way to it is found around obstacles rather than
+	 * moving in a straight line.
+	 *
+	 * @param goal The entity being moved towards, or null to move in a straight line.
+	 */
+	public void setGoal(Entity goal) {
+		this.goal = goal;
+		if (status == Status.ACTIVE) {
+			movementComponent.setPathGoal(goal);
+		}
+	}
+
 	/**
 	 * Stops the movement task and resets movement-related parameters.
 	 */
@@ -163,6 +182,7 @@ public class MovementTask extends DefaultTask {
 	public void stop() {
 		super.stop();
 		movementComponent.setMoving(false);
+		movementComponent.setPathGoal(null);
 		movementComponent.setMaxSpeed(Vector2Utils.ONE);
 		logger.debug("Stopping movement");
 	}
@@ -173,7 +193,8 @@ public class MovementTask extends DefaultTask {
 	 * @return True if the entity is within the stop distance from the target, otherwise false.
 	 */
 	public boolean isAtTarget() {
-		return owner.getEntity().getPosition().dst(target) <= stopDistance;
+		Entity entity = owner.getEntity();
+		return Vector2.dst(entity.getX(), entity.getY(), target.x, target.y) <= stopDistance;
 	}
 
 	/**
@@ -183,7 +204,7 @@ public class MovementTask extends DefaultTask {
 	private void checkIfStuck() {
 		if (didMove()) {
 			lastTimeMoved = gameTime.getTime();
-			lastPos = owner.getEntity().getPosition();
+			owner.getEntity().getPosition(lastPos);
 		} else if (gameTime.getTimeSince(lastTimeMoved) > 500L) {
 			movementComponent.setMoving(false);
 			status = Status.FAILED;
@@ -197,7 +218,7 @@ public class MovementTask extends DefaultTask {
 	 * @return True if the entity's position has changed, otherwise false.
 	 */
 	private boolean didMove() {
-		return owner.getEntity().getPosition().dst2(lastPos) > 0.001f;
+		return lastPos.dst2(owner.getEntity().getX(), owner.getEntity().getY()) > 0.001f;
 	}
 
 	/**
@@ -206,8 +227,7 @@ public class MovementTask extends DefaultTask {
 	 * @return The direction of movement ("right" or "left").
 	 */
 	public String getDirection() {
-		Vector2 currentPosition = owner.getEntity().getPosition();
-		return currentPosition.sub(target).x < 0 ? DirectionUtils.RIGHT : DirectionUtils.LEFT;
+		return owner.getEntity().getX() - target.x < 0 ? DirectionUtils.RIGHT : DirectionUtils.LEFT;
 	}
 
 	/**
@@ -22,6 +22,11 @@ public class RunAwayTask extends ChaseTask {
 	 */
 	private Vector2 runSpeed;
 
+	/**
+	 * Reused vector for the point to run towards, to avoid per-frame garbage.
+	 */
+	private final Vector2 runAwayTarget = new Vector2();
+
 	/**
 	 * @param target         The entity to run from.
 	 * @param priority       Task priority when running (0 when not running away).
@@ -55,12 +60,7 @@ public class RunAwayTask extends ChaseTask {
 	public void start() {
 		logger.info("Run away task started!");
 		status = Status.ACTIVE;
-		Vector2 targetVec = new Vector2();
-		targetVec.x = owner.getEntity().getCenterPosition().x +
-				(owner.getEntity().getCenterPosition().x - getTarget().getCenterPosition().x);
-		targetVec.y = owner.getEntity().getCenterPosition().y +
-				(owner.getEntity().getCenterPosition().y - getTarget().getCenterPosition().y);
-		setMovementTask(new MovementTask(targetVec, runSpeed));
+		setMovementTask(new MovementTask(updateRunAwayTarget(), runSpeed));
 		getMovementTask().create(owner);
 		getMovementTask().start();
 
@@ -74,18 +74,26 @@ public class RunAwayTask extends ChaseTask {
 	 */
 	@Override
 	public void update() {
-		Vector2 targetVec = new Vector2();
-		targetVec.x = owner.getEntity().getCenterPosition().x +
-				(owner.getEntity().getCenterPosition().x - getTarget().getCenterPosition().x);
-		targetVec.y = owner.getEntity().getCenterPosition().y +
-				(owner.getEntity().getCenterPosition().y - getTarget().getCenterPosition().y);
-		getMovementTask().setTarget(targetVec);
+		getMovementTask().setTarget(updateRunAwayTarget());
 		getMovementTask().update();
 		if (getMovementTask().getStatus() != Status.ACTIVE) {
 			getMovementTask().start();
 		}
 	}
 
+	/**
+	 * Calculates the point directly away from the target, as far from the entity as the target is.
+	 *
+	 * @return the point to run towards.
+	 */
+	private Vector2 updateRunAwayTarget() {
+		Entity entity = owner.getEntity();
+		Entity target = getTarget();
+		return runAwayTarget.set(
+				entity.getCenterX() + (entity.getCenterX() - target.getCenterX()),
+				entity.getCenterY() + (entity.getCenterY() - target.getCenterY()));
+	}
+
 	/**
 	 * Stops the RunAwayTask and the associated movement task, and triggers the "runAwayStop" event.
 	 */
@@ -21,6 +21,7 @@ import com.csse3200.game.entities.factories.ShipDebrisFactory;
 import com.csse3200.game.entities.factories.ShipFactory;
 import com.csse3200.game.entities.factories.TractorFactory;
 import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.EventKey;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.services.FactoryService;
 import com.csse3200.game.services.ServiceLocator;
@@ -48,7 +49,7 @@ import org.slf4j.LoggerFactory;
 public class Entity implements Json.Serializable {
 	private static final Logger logger = LoggerFactory.getLogger(Entity.class);
 	private static int nextId = 0;
-	private static final String EVT_NAME_POS = "setPosition";
+	private static final EventKey EVT_NAME_POS = EventKey.of("setPosition");
 	private static final String COMPONENTS_STRING = "components";
 	private final int id;
 	private EntityType type;
@@ -56,9 +57,15 @@ public class Entity implements Json.Serializable {
 	private final EventHandler eventHandler;
 	private boolean enabled = true;
 	private boolean created = false;
-	private Vector2 position = Vector2.Zero.cpy();
-	private Vector2 scale = new Vector2(1, 1);
+	private final Vector2 position = new Vector2();
+	private final Vector2 scale = new Vector2(1, 1);
 	private Array<Component> createdComponents;
+	private EntityService entityService;
+	/**
+	 * Position at the start of the last tick this entity moved in, used to interpolate rendering
+	 */
+	private final Vector2 previousPosition = new Vector2();
+	private int previousPositionTick = -1;
 
 	public Entity() {
 		this.type = EntityType.DUMMY;
@@ -100,17 +107,50 @@ public class Entity implements Json.Serializable {
 	}
 
 	/**
-	 * Set the entity's game position.
+	 * Get the entity's game position without allocating, by copying it into a given vector.
+	 *
+	 * @param out vector to write the position into
+	 * @return out, for chaining
+	 */
+	public Vector2 getPosition(Vector2 out) {
+		return out.set(position);
+	}
+
+	/**
+	 * Get the x coordinate of the entity's game position without allocating
+	 *
+	 * @return x position
+	 */
+	public float getX() {
+		return position.x;
+	}
+
+	/**
+	 * Get the y coordinate of the entity's game position without allocating
+	 *
+	 * @return y position
+	 */
+	public float getY() {
+		return position.y;
+	}
+
+	/**
+	 * Set the entity's game position. Listeners of the setPosition event receive the entity's own
+	 * position vector, which they must not modify or keep.
 	 *
 	 * @param position new position.
 	 */
 	public void setPosition(Vector2 position) {
-		this.position = position.cpy();
-		getEvents().trigger(EVT_NAME_POS, position.cpy());
+		savePreviousPosition();
+		this.position.set(position);
+		notifyMoved();
+		getEvents().trigger(EVT_NAME_POS, this.position);
 	}
 
 	public void setCenterPosition(Vector2 position) {
-		this.position = position.cpy().mulAdd(getScale(), -0.5f);
+		savePreviousPosition();
+		this.position.set(position).mulAdd(scale, -0.5f);
+		notifyMoved();
 	}
 
 	/**
@@ -120,9 +160,11 @@ public class Entity implements Json.Serializable {
 	 * @param y new y position
 	 */
 	public void setPosition(float x, float y) {
+		savePreviousPosition();
 		this.position.x = x;
 		this.position.y = y;
-		getEvents().trigger(EVT_NAME_POS, position.cpy());
+		notifyMoved();
+		getEvents().trigger(EVT_NAME_POS, position);
 	}
 
 	/**
@@ -132,9 +174,11 @@ public class Entity implements Json.Serializable {
 	 * @param notify   true to notify (default), false otherwise
 	 */
 	public void setPosition(Vector2 position, boolean notify) {
-		this.position = position;
+		savePreviousPosition();
+		this.position.set(position);
+		notifyMoved();
 		if (notify) {
-			getEvents().trigger(EVT_NAME_POS, position);
+			getEvents().trigger(EVT_NAME_POS, this.position);
 		}
 	}
 
@@ -148,13 +192,42 @@ public class Entity implements Json.Serializable {
 		return scale.cpy(); // Cpy gives us pass-by-value to prevent bugs
 	}
 
+	/**
+	 * Get the entity's scale without allocating, by copying it into a given vector.
+	 *
+	 * @param out vector to write the scale into
+	 * @return out, for chaining
+	 */
+	public Vector2 getScale(Vector2 out) {
+		return out.set(scale);
+	}
+
+	/**
+	 * Get the entity's width without allocating
+	 *
+	 * @return scale in the x direction
+	 */
+	public float getScaleX() {
+		return scale.x;
+	}
+
+	/**
+	 * Get the entity's height without allocating
+	 *
+	 * @return scale in the y direction
+	 */
+	public float getScaleY() {
+		return scale.y;
+	}
+
 	/**
 	 * Set the entity's scale.
 	 *
 	 * @param scale new scale in metres
 	 */
 	public void setScale(Vector2 scale) {
-		this.scale = scale.cpy();
+		this.scale.set(scale);
+		notifyMoved();
 	}
 
 	/**
@@ -166,6 +239,7 @@ public class Entity implements Json.Serializable {
 	public void setScale(float x, float y) {
 		this.scale.x = x;
 		this.scale.y = y;
+		notifyMoved();
 	}
 
 	/**
@@ -176,6 +250,7 @@ public class Entity implements Json.Serializable {
 	public void scaleWidth(float x) {
 		this.scale.y = this.scale.y / this.scale.x * x;
 		this.scale.x = x;
+		notifyMoved();
 	}
 
 	/**
@@ -186,6 +261,7 @@ public class Entity implements Json.Serializable {
 	public void scaleHeight(float y) {
 		this.scale.x = this.scale.x / this.scale.y * y;
 		this.scale.y = y;
+		notifyMoved();
 	}
 
 	/**
@@ -194,7 +270,96 @@ public class Entity implements Json.Serializable {
 	 * @return center position
 	 */
 	public Vector2 getCenterPosition() {
-		return getPosition().mulAdd(getScale(), 0.5f);
+		return getCenterPosition(new Vector2());
+	}
+
+	/**
+	 * Get the entity's center position without allocating, by writing it into a given vector.
+	 *
+	 * @param out vector to write the center position into
+	 * @return out, for chaining
+	 */
+	public Vector2 getCenterPosition(Vector2 out) {
+		return out.set(position).mulAdd(scale, 0.5f);
+	}
+
+	/**
+	 * Get the x coordinate of the entity's center position without allocating
+	 *
+	 * @return center x position
+	 */
+	public float getCenterX() {
+		return position.x + scale.x * 0.5f;
+	}
+
+	/**
+	 * Get the y coordinate of the entity's center position without allocating
+	 *
+	 * @return center y position
+	 */
+	public float getCenterY() {
+		return position.y + scale.y * 0.5f;
+	}
+
+	/**
+	 * Set the entity service this entity is registered with, so it can keep the service's spatial
+	 * index up to date as the entity moves. Called by the entity service only.
+	 *
+	 * @param entityService service the entity is registered with, or null when unregistered
+	 */
+	void setEntityService(EntityService entityService) {
+		this.entityService = entityService;
+	}
+
+	/**
+	 * Get the x coordinate to draw the entity at, interpolated between its positions before and
+	 * after the last simulation tick.
+	 *
+	 * @param alpha interpolation factor, from 0 (before the last tick) to 1 (after the last tick)
+	 * @return interpolated x position
+	 */
+	public float getRenderX(float alpha) {
+		if (!movedLastTick()) {
+			return position.x;
+		}
+		return previousPosition.x + (position.x - previousPosition.x) * alpha;
+	}
+
+	/**
+	 * Get the y coordinate to draw the entity at, interpolated between its positions before and
+	 * after the last simulation tick.
+	 *
+	 * @param alpha interpolation factor, from 0 (before the last tick) to 1 (after the last tick)
+	 * @return interpolated y position
+	 */
+	public float getRenderY(float alpha) {
+		if (!movedLastTick()) {
+			return position.y;
+		}
+		return previousPosition.y + (position.y - previousPosition.y) * alpha;
+	}
+
+	private boolean movedLastTick() {
+		return entityService != null && previousPositionTick == entityService.getTick();
+	}
+
+	/**
+	 * Remember where the entity was at the start of the current tick, the first time it moves in it.
+	 */
+	private void savePreviousPosition() {
+		if (entityService != null && previousPositionTick != entityService.getTick()) {
+			previousPosition.set(position);
+			previousPositionTick = entityService.getTick();
+		}
+	}
+
+	/**
+	 * Tell the entity service that this entity's position or scale has changed.
+	 */
+	private void notifyMoved() {
+		if (entityService != null) {
+			entityService.updateSpatialIndex(this);
+		}
 	}
 
 	/**
@@ -432,7 +597,7 @@ public class Entity implements Json.Serializable {
 		// it makes the code duplication extremely high as it is a whole factory here
 
 		// Saves the position
-		position = new Vector2(jsonMap.getFloat("x"), jsonMap.getFloat("y"));
+		position.set(jsonMap.getFloat("x"), jsonMap.getFloat("y"));
 
 		// Gets the type of Entity
 		String value = jsonMap.getString("Entity");
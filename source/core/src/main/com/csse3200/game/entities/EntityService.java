@@ -1,9 +1,13 @@
 package com.csse3200.game.entities;
 
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * Provides a global access point for entities to register themselves. This allows for iterating
  * over entities to perform updates each loop. All game entities should be registered here.
@@ -14,10 +18,23 @@ import org.slf4j.LoggerFactory;
 public class EntityService {
 	private static final Logger logger = LoggerFactory.getLogger(EntityService.class);
 	private static final int INITIAL_CAPACITY = 16;
+	/**
+	 * Every entity type, cached as values() copies the array on each call
+	 */
+	private static final EntityType[] TYPES = EntityType.values();
 	private final Array<Entity> entities = new Array<>(false, INITIAL_CAPACITY);
+	private final Map<EntityType, Array<Entity>> entitiesByType = new EnumMap<>(EntityType.class);
+	private final SpatialHashGrid spatialIndex = new SpatialHashGrid();
 	private static boolean paused = false;
 	private boolean pauseStartFlag = false;
 	private boolean pauseEndFlag = false;
+	private int tick;
+
+	public EntityService() {
+		for (EntityType type : EntityType.values()) {
+			entitiesByType.put(type, new Array<>(false, INITIAL_CAPACITY));
+		}
+	}
 
 	/**
 	 * Register a new entity with the entity service. The entity will be created and start updating.
@@ -27,6 +44,11 @@ public class EntityService {
 	public void register(Entity entity) {
 		logger.debug("Registering {} in entity service", entity);
 		entities.add(entity);
+		if (entity.getType() != null) {
+			entitiesByType.get(entity.getType()).add(entity);
+		}
+		spatialIndex.insert(entity);
+		entity.setEntityService(this);
 		entity.create();
 	}
 
@@ -38,12 +60,65 @@ public class EntityService {
 	public void unregister(Entity entity) {
 		logger.debug("Unregistering {} in entity service", entity);
 		entities.removeValue(entity, true);
+		if (entity.getType() != null) {
+			entitiesByType.get(entity.getType()).removeValue(entity, true);
+		}
+		spatialIndex.remove(entity);
+		entity.setEntityService(null);
 	}
 
 	/**
-	 * Update all registered entities. Should only be called from the main game loop.
+	 * Move an entity to the correct cell of the spatial index after its position or scale has
+	 * changed. Called by the entity itself and should not be called manually.
+	 *
+	 * @param entity entity that has moved.
+	 */
+	void updateSpatialIndex(Entity entity) {
+		spatialIndex.update(entity);
+	}
+
+	/**
+	 * Number of times update() has been called, used by entities to tell which tick they last moved
+	 * in.
+	 *
+	 * @return current tick
+	 */
+	int getTick() {
+		return tick;
+	}
+
+	/**
+	 * Find all registered entities whose center is within a radius of a point.
+	 *
+	 * @param center center of the search circle.
+	 * @param radius radius of the search circle in world units.
+	 * @param types  entity types to include, or none to include every type.
+	 * @return Array of matching entities, in no particular order.
+	 */
+	public Array<Entity> queryRadius(Vector2 center, float radius, EntityType... types) {
+		return spatialIndex.queryRadius(center, radius, new Array<>(false, INITIAL_CAPACITY), types);
+	}
+
+	/**
+	 * Find the registered entity of a type whose center is closest to a point.
+	 *
+	 * @param center point to search from.
+	 * @param type   entity type to search for.
+	 * @return the nearest entity, or null if no entity of that type is registered.
+	 */
+	public Entity nearest(Vector2 center, EntityType type) {
+		if (type == null || entitiesByType.get(type).isEmpty()) {
+			return null;
+		}
+		return spatialIndex.nearest(center, type);
+	}
+
+	/**
+	 * Update all registered entities. Should only be called from the main game loop, once per
+	 * simulation tick.
 	 */
 	public void update() {
+		tick++;
 		for (Entity entity : entities) {
 			if (!paused) {
 				if (pauseEndFlag) {
@@ -114,4 +189,34 @@ public class EntityService {
 	public Array<Entity> getEntities() {
 		return entities;
 	}
+
+	/**
+	 * Returns the registered entities of a single type. The returned Array is the service's own
+	 * index and is kept up to date as entities register and unregister, so it must not be modified
+	 * and should be copied if it needs to outlive the current frame.
+	 *
+	 * @param type type of entity to get
+	 * @return Array of registered entities of that type
+	 */
+	public Array<Entity> getEntitiesOfType(EntityType type) {
+		return entitiesByType.get(type);
+	}
+
+	/**
+	 * Returns the combined hourly oxygen rate of every registered entity. This is worked out from
+	 * the number of entities of each type, so it takes time proportional to the number of entity
+	 * types rather than the number of entities, and can be called every frame.
+	 *
+	 * @return kilograms of oxygen produced per hour, negative if more is consumed than produced
+	 */
+	public float getOxygenRate() {
+		float rate = 0;
+		for (EntityType type : TYPES) {
+			int count = entitiesByType.get(type).size;
+			if (count > 0) {
+				rate += type.getOxygenRate() * count;
+			}
+		}
+		return rate;
+	}
 }
@@ -5,7 +5,6 @@ import com.csse3200.game.areas.GameArea;
 import com.csse3200.game.services.ServiceLocator;
 
 import java.security.SecureRandom;
-import java.util.List;
 import java.util.Random;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -162,10 +161,11 @@ public class EntitySpawner {
 
 		//Spawn entities
 		for (int i = 0; i < spawnCount; i++) {
-			//Get random traverseable tile to spawn the entity
-			List<GridPoint2> traverseables = gameArea.getMap().getTraversableTileCoordinates();
-			int randomTileIndex = random.nextInt(traverseables.size());
-			GridPoint2 position = traverseables.get(randomTileIndex);
+			//Get random traverseable, unoccupied tile to spawn the entity
+			GridPoint2 position = gameArea.getMap().getRandomSpawnableTile(random);
+			if (position == null) {
+				break;
+			}
 
 			//Create entity and spawn on gameArea
 			Entity entity = spawner.apply(player);
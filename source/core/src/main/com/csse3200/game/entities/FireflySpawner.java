@@ -13,16 +13,6 @@ public class FireflySpawner {
 	 */
 	protected static final int MAX_FIREFLIES = 75;
 
-	/**
-	 * The width of the map
-	 */
-	private int mapSizeX;
-
-	/**
-	 * The length of the map
-	 */
-	private int mapSizeY;
-
 	/**
 	 * Used to get random variables
 	 */
@@ -33,10 +23,6 @@ public class FireflySpawner {
 	 * triggered by TimeService
 	 */
 	public FireflySpawner() {
-		GridPoint2 mapSize = ServiceLocator.getGameArea().getMap().getMapSize();
-		mapSizeX = mapSize.x;
-		mapSizeY = mapSize.y;
-
 		random = new SecureRandom();
 
 		ServiceLocator.getTimeService().getEvents().addListener("nightTime", this::startSpawning);
@@ -57,10 +43,10 @@ public class FireflySpawner {
 	 * Spawns a firefly at a random traversable grid tile
 	 */
 	void spawnFirefly() {
-		GridPoint2 randomGrid;
-		do {
-			randomGrid = new GridPoint2(random.nextInt(mapSizeX), random.nextInt(mapSizeY));
-		} while (!ServiceLocator.getGameArea().getMap().getTile(randomGrid).isTraversable());
+		GridPoint2 randomGrid = ServiceLocator.getGameArea().getMap().getRandomSpawnableTile(random);
+		if (randomGrid == null) {
+			return;
+		}
 		ServiceLocator.getGameArea().spawnEntityAt(NPCFactory.createFireFlies(), randomGrid, true, true);
 	}
 }
@@ -0,0 +1,253 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * A uniform grid over world space used by the {@link EntityService} to answer radius and
+ * nearest-entity queries without scanning every registered entity.
+ * <p>
+ * Entities are bucketed by the cell containing their center position. The grid is kept up to
+ * date by the entity service whenever an entity is registered, unregistered or moved, so an
+ * entity only changes bucket when it crosses a cell boundary.
+ */
+public class SpatialHashGrid {
+	/**
+	 * Default cell size in world units. Roughly the range most AI queries care about.
+	 */
+	public static final float DEFAULT_CELL_SIZE = 4f;
+	private static final int INITIAL_CELL_CAPACITY = 4;
+
+	private final float cellSize;
+	private final IntMap<Array<Entity>> cells = new IntMap<>();
+	private final ObjectIntMap<Entity> entityCells = new ObjectIntMap<>();
+
+	/**
+	 * Bounds of every cell that has ever been occupied, used to stop nearest searches.
+	 */
+	private int minCellX = Integer.MAX_VALUE;
+	private int minCellY = Integer.MAX_VALUE;
+	private int maxCellX = Integer.MIN_VALUE;
+	private int maxCellY = Integer.MIN_VALUE;
+
+	/**
+	 * Creates a grid with the default cell size.
+	 */
+	public SpatialHashGrid() {
+		this(DEFAULT_CELL_SIZE);
+	}
+
+	/**
+	 * Creates a grid with the given cell size.
+	 *
+	 * @param cellSize width and height of each cell in world units
+	 */
+	public SpatialHashGrid(float cellSize) {
+		this.cellSize = cellSize;
+	}
+
+	/**
+	 * Adds an entity to the grid at its current center position. Does nothing if the entity is
+	 * already in the grid.
+	 *
+	 * @param entity entity to add
+	 */
+	public void insert(Entity entity) {
+		if (entityCells.containsKey(entity)) {
+			return;
+		}
+		int cellX = toCell(entity.getCenterX());
+		int cellY = toCell(entity.getCenterY());
+		addToCell(entity, cellX, cellY);
+	}
+
+	/**
+	 * Removes an entity from the grid. Does nothing if the entity is not in the grid.
+	 *
+	 * @param entity entity to remove
+	 */
+	public void remove(Entity entity) {
+		if (!entityCells.containsKey(entity)) {
+			return;
+		}
+		int key = entityCells.remove(entity, 0);
+		Array<Entity> cell = cells.get(key);
+		if (cell != null) {
+			cell.removeValue(entity, true);
+		}
+	}
+
+	/**
+	 * Moves an entity to the cell matching its current center position. Only touches the cell
+	 * buckets when the entity has crossed into a different cell.
+	 *
+	 * @param entity entity that has moved
+	 */
+	public void update(Entity entity) {
+		if (!entityCells.containsKey(entity)) {
+			return;
+		}
+		int cellX = toCell(entity.getCenterX());
+		int cellY = toCell(entity.getCenterY());
+		int key = entityCells.get(entity, 0);
+		if (key == pack(cellX, cellY)) {
+			return;
+		}
+		Array<Entity> cell = cells.get(key);
+		if (cell != null) {
+			cell.removeValue(entity, true);
+		}
+		addToCell(entity, cellX, cellY);
+	}
+
+	/**
+	 * Removes every entity from the grid.
+	 */
+	public void clear() {
+		cells.clear();
+		entityCells.clear();
+		minCellX = Integer.MAX_VALUE;
+		minCellY = Integer.MAX_VALUE;
+		maxCellX = Integer.MIN_VALUE;
+		maxCellY = Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Get number of entities in the grid
+	 *
+	 * @return number of entities
+	 */
+	public int getSize() {
+		return entityCells.size;
+	}
+
+	/**
+	 * Collects every entity whose center is within a radius of a point.
+	 *
+	 * @param center center of the search circle
+	 * @param radius radius of the search circle in world units
+	 * @param out    array the matching entities are added to
+	 * @param types  entity types to include, or none to include every type
+	 * @return the out array
+	 */
+	public Array<Entity> queryRadius(Vector2 center, float radius, Array<Entity> out, EntityType... types) {
+		int fromX = toCell(center.x - radius);
+		int toX = toCell(center.x + radius);
+		int fromY = toCell(center.y - radius);
+		int toY = toCell(center.y + radius);
+		float radiusSquared = radius * radius;
+
+		for (int cellX = fromX; cellX <= toX; cellX++) {
+			for (int cellY = fromY; cellY <= toY; cellY++) {
+				Array<Entity> cell = cells.get(pack(cellX, cellY));
+				if (cell == null) {
+					continue;
+				}
+				for (int i = 0; i < cell.size; i++) {
+					Entity entity = cell.get(i);
+					if (matchesType(entity, types) && dst2(entity, center) <= radiusSquared) {
+						out.add(entity);
+					}
+				}
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Finds the entity of a type whose center is closest to a point. Cells are searched in rings
+	 * outwards from the point, stopping as soon as no closer entity can exist.
+	 *
+	 * @param center point to search from
+	 * @param type   entity type to search for
+	 * @return the nearest entity, or null if there are no entities of the type in the grid
+	 */
+	public Entity nearest(Vector2 center, EntityType type) {
+		if (entityCells.size == 0) {
+			return null;
+		}
+		int originX = toCell(center.x);
+		int originY = toCell(center.y);
+		int maxRing = Math.max(
+				Math.max(Math.abs(originX - minCellX), Math.abs(maxCellX - originX)),
+				Math.max(Math.abs(originY - minCellY), Math.abs(maxCellY - originY)));
+
+		Entity closest = null;
+		float closestDistance = Float.MAX_VALUE;
+
+		for (int ring = 0; ring <= maxRing; ring++) {
+			for (int cellX = originX - ring; cellX <= originX + ring; cellX++) {
+				// Only the edge of the ring is new, so step over the interior rows
+				boolean edgeColumn = cellX == originX - ring || cellX == originX + ring;
+				int step = edgeColumn ? 1 : Math.max(1, 2 * ring);
+				for (int cellY = originY - ring; cellY <= originY + ring; cellY += step) {
+					Array<Entity> cell = cells.get(pack(cellX, cellY));
+					if (cell == null) {
+						continue;
+					}
+					for (int i = 0; i < cell.size; i++) {
+						Entity entity = cell.get(i);
+						if (entity.getType() != type) {
+							continue;
+						}
+						float distance = dst2(entity, center);
+						if (distance < closestDistance) {
+							closestDistance = distance;
+							closest = entity;
+						}
+					}
+				}
+			}
+			// Anything in the next ring is at least this far away from the center
+			float ringDistance = ring * cellSize;
+			if (closest != null && closestDistance <= ringDistance * ringDistance) {
+				break;
+			}
+		}
+		return closest;
+	}
+
+	private void addToCell(Entity entity, int cellX, int cellY) {
+		int key = pack(cellX, cellY);
+		Array<Entity> cell = cells.get(key);
+		if (cell == null) {
+			cell = new Array<>(false, INITIAL_CELL_CAPACITY);
+			cells.put(key, cell);
+		}
+		cell.add(entity);
+		entityCells.put(entity, key);
+
+		minCellX = Math.min(minCellX, cellX);
+		minCellY = Math.min(minCellY, cellY);
+		maxCellX = Math.max(maxCellX, cellX);
+		maxCellY = Math.max(maxCellY, cellY);
+	}
+
+	private int toCell(float coordinate) {
+		return (int) Math.floor(coordinate / cellSize);
+	}
+
+	private static int pack(int cellX, int cellY) {
+		return (cellX << 16) | (cellY & 0xFFFF);
+	}
+
+	private static float dst2(Entity entity, Vector2 center) {
+		float dx = entity.getCenterX() - center.x;
+		float dy = entity.getCenterY() - center.y;
+		return dx * dx + dy * dy;
+	}
+
+	private static boolean matchesType(Entity entity, EntityType[] types) {
+		if (types == null || types.length == 0) {
+			return true;
+		}
+		for (EntityType type : types) {
+			if (entity.getType() == type) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -30,6 +30,7 @@ import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.rendering.AnimationEffectsComponent;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.rendering.BlinkComponent;
+import com.csse3200.game.services.LightService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.utils.math.Vector2Utils;
 
@@ -320,6 +321,7 @@ public class NPCFactory {
 	public static Entity createFireFlies() {
 		SecureRandom random = new SecureRandom();
 		AuraLightComponent light = new AuraLightComponent(3f, Color.ORANGE);
+		light.setPriority(LightService.LOW_PRIORITY);
 		light.toggleLight();
 
 		AnimationRenderComponent animator = new AnimationRenderComponent(
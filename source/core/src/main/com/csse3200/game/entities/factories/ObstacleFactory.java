@@ -1,12 +1,12 @@
 package com.csse3200.game.entities.factories;
 
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.csse3200.game.areas.terrain.GameMap;
+import com.csse3200.game.areas.terrain.TerrainColliderComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.physics.PhysicsLayer;
-import com.csse3200.game.physics.PhysicsUtils;
 import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
-import com.csse3200.game.rendering.TextureRenderComponent;
 
 /**
  * Factory to create obstacle entities.
@@ -16,22 +16,17 @@ import com.csse3200.game.rendering.TextureRenderComponent;
 public class ObstacleFactory {
 
 	/**
-	 * Creates an invisible obstacle entity which located onto the non-traversable area of the map.
+	 * Creates a single static entity blocking every non-traversable tile of the map, with neighbouring
+	 * tiles merged into shared colliders. Should be spawned at the origin.
 	 *
-	 * @return Invisible obstacle entity
+	 * @param gameMap  map to block the non-traversable tiles of
+	 * @param tileSize size of a tile in world units
+	 * @return Terrain collider entity
 	 */
-	public static Entity createInvisibleObstacle() {
-		Entity obstacle =
-				new Entity()
-						.addComponent(new TextureRenderComponent("images/invisible_sprite.png"))
-						.addComponent(new PhysicsComponent())
-						.addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE));
-
-		obstacle.getComponent(PhysicsComponent.class).setBodyType(BodyType.StaticBody);
-		obstacle.getComponent(TextureRenderComponent.class).scaleEntity();
-		obstacle.scaleHeight(1f);
-		PhysicsUtils.setScaledCollider(obstacle, 1f, 1f);
-		return obstacle;
+	public static Entity createTerrainCollider(GameMap gameMap, float tileSize) {
+		return new Entity()
+				.addComponent(new PhysicsComponent().setBodyType(BodyType.StaticBody))
+				.addComponent(new TerrainColliderComponent(gameMap, tileSize));
 	}
 
 	/**
@@ -1,6 +1,7 @@
 package com.csse3200.game.events;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
 import com.csse3200.game.events.listeners.EventListener;
 import com.csse3200.game.events.listeners.*;
 import com.csse3200.game.services.GameTime;
@@ -9,7 +10,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.function.Consumer;
 
 /**
  * Send and receive events between objects. EventHandler provides an implementation of the Observer
@@ -24,13 +24,30 @@ import java.util.function.Consumer;
  */
 public class EventHandler {
 	private static final Logger logger = LoggerFactory.getLogger(EventHandler.class);
-	private final List<ScheduledEvent> scheduledEvents = new ArrayList<>();
-	Map<String, Array<EventListener>> listeners;
+	/**
+	 * Orders events by end time, then by when they were scheduled, since the queue itself is not stable
+	 */
+	private static final Comparator<ScheduledEvent> BY_END_TIME = Comparator.comparingLong(ScheduledEvent::endTime)
+			.thenComparingLong(ScheduledEvent::sequence);
+	/**
+	 * Scheduled events ordered by end time, so only the head needs checking each update. Created
+	 * on first use since most entities never schedule anything.
+	 */
+	private PriorityQueue<ScheduledEvent> scheduledEvents;
+	/**
+	 * Reused buffer of events that are due in the current update
+	 */
+	private List<ScheduledEvent> dueEvents;
+	/**
+	 * Sequence number of the next event to be scheduled
+	 */
+	private long nextSequence;
+	IntMap<Array<EventListener>> listeners;
 	private final GameTime timeSource;
 
 	public EventHandler() {
 		// Assume no events by default, which will be the case for most entities
-		listeners = new HashMap<>(0);
+		listeners = new IntMap<>(0);
 		timeSource = ServiceLocator.getTimeSource();
 
 		if (timeSource == null) {
@@ -45,7 +62,7 @@ public class EventHandler {
 	 * @param listener  function to call when event fires
 	 */
 	public void addListener(String eventName, EventListener0 listener) {
-		registerListener(eventName, listener);
+		registerListener(EventKey.of(eventName), listener);
 	}
 
 	/**
@@ -56,7 +73,7 @@ public class EventHandler {
 	 * @param <T>       argument type
 	 */
 	public <T> void addListener(String eventName, EventListener1<T> listener) {
-		registerListener(eventName, listener);
+		registerListener(EventKey.of(eventName), listener);
 	}
 
 	/**
@@ -68,7 +85,7 @@ public class EventHandler {
 	 * @param <T1>      Type of arg 1
 	 */
 	public <T0, T1> void addListener(String eventName, EventListener2<T0, T1> listener) {
-		registerListener(eventName, listener);
+		registerListener(EventKey.of(eventName), listener);
 	}
 
 	/**
@@ -81,7 +98,53 @@ public class EventHandler {
 	 * @param <T2>      Type of arg 2
 	 */
 	public <T0, T1, T2> void addListener(String eventName, EventListener3<T0, T1, T2> listener) {
-		registerListener(eventName, listener);
+		registerListener(EventKey.of(eventName), listener);
+	}
+
+	/**
+	 * Add a listener to an event with zero arguments
+	 *
+	 * @param eventKey key of the event
+	 * @param listener function to call when event fires
+	 */
+	public void addListener(EventKey eventKey, EventListener0 listener) {
+		registerListener(eventKey, listener);
+	}
+
+	/**
+	 * Add a listener to an event with one argument
+	 *
+	 * @param eventKey key of the event
+	 * @param listener function to call when event fires
+	 * @param <T>      argument type
+	 */
+	public <T> void addListener(EventKey eventKey, EventListener1<T> listener) {
+		registerListener(eventKey, listener);
+	}
+
+	/**
+	 * Add a listener to an event with two arguments
+	 *
+	 * @param eventKey key of the event
+	 * @param listener function to call when event fires
+	 * @param <T0>     Type of arg 0
+	 * @param <T1>     Type of arg 1
+	 */
+	public <T0, T1> void addListener(EventKey eventKey, EventListener2<T0, T1> listener) {
+		registerListener(eventKey, listener);
+	}
+
+	/**
+	 * Add a listener to an event with three arguments
+	 *
+	 * @param eventKey key of the event
+	 * @param listener function to call when event fires
+	 * @param <T0>     Type of arg 0
+	 * @param <T1>     Type of arg 1
+	 * @param <T2>     Type of arg 2
+	 */
+	public <T0, T1, T2> void addListener(EventKey eventKey, EventListener3<T0, T1, T2> listener) {
+		registerListener(eventKey, listener);
 	}
 
 	/**
@@ -91,7 +154,10 @@ public class EventHandler {
 	 */
 	public void trigger(String eventName) {
 		logTrigger(eventName);
-		forEachListener(eventName, (EventListener listener) -> ((EventListener0) listener).handle());
+		EventKey eventKey = EventKey.find(eventName);
+		if (eventKey != null) {
+			trigger(eventKey);
+		}
 	}
 
 	/**
@@ -101,11 +167,12 @@ public class EventHandler {
 	 * @param arg0      arg to pass to event
 	 * @param <T>       argument type
 	 */
-	@SuppressWarnings("unchecked")
 	public <T> void trigger(String eventName, T arg0) {
 		logTrigger(eventName);
-		forEachListener(
-				eventName, (EventListener listener) -> ((EventListener1<T>) listener).handle(arg0));
+		EventKey eventKey = EventKey.find(eventName);
+		if (eventKey != null) {
+			trigger(eventKey, arg0);
+		}
 	}
 
 	/**
@@ -117,12 +184,12 @@ public class EventHandler {
 	 * @param <T0>      Type of arg 0
 	 * @param <T1>      Type of arg 1
 	 */
-	@SuppressWarnings("unchecked")
 	public <T0, T1> void trigger(String eventName, T0 arg0, T1 arg1) {
 		logTrigger(eventName);
-		forEachListener(
-				eventName,
-				(EventListener listener) -> ((EventListener2<T0, T1>) listener).handle(arg0, arg1));
+		EventKey eventKey = EventKey.find(eventName);
+		if (eventKey != null) {
+			trigger(eventKey, arg0, arg1);
+		}
 	}
 
 	/**
@@ -136,13 +203,87 @@ public class EventHandler {
 	 * @param <T1>      Type of arg 1
 	 * @param <T2>      Type of arg 2
 	 */
-	@SuppressWarnings("unchecked")
 	public <T0, T1, T2> void trigger(String eventName, T0 arg0, T1 arg1, T2 arg2) {
 		logTrigger(eventName);
-		forEachListener(
-				eventName,
-				(EventListener listener) ->
-						((EventListener3<T0, T1, T2>) listener).handle(arg0, arg1, arg2));
+		EventKey eventKey = EventKey.find(eventName);
+		if (eventKey != null) {
+			trigger(eventKey, arg0, arg1, arg2);
+		}
+	}
+
+	/**
+	 * Trigger an event with no arguments
+	 *
+	 * @param eventKey key of the event
+	 */
+	public void trigger(EventKey eventKey) {
+		Array<EventListener> eventListeners = listeners.get(eventKey.getId());
+		if (eventListeners == null) {
+			return;
+		}
+		for (int i = 0; i < eventListeners.size; i++) {
+			((EventListener0) eventListeners.get(i)).handle();
+		}
+	}
+
+	/**
+	 * Trigger an event with one argument
+	 *
+	 * @param eventKey key of the event
+	 * @param arg0     arg to pass to event
+	 * @param <T>      argument type
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> void trigger(EventKey eventKey, T arg0) {
+		Array<EventListener> eventListeners = listeners.get(eventKey.getId());
+		if (eventListeners == null) {
+			return;
+		}
+		for (int i = 0; i < eventListeners.size; i++) {
+			((EventListener1<T>) eventListeners.get(i)).handle(arg0);
+		}
+	}
+
+	/**
+	 * Trigger an event with two arguments
+	 *
+	 * @param eventKey key of the event
+	 * @param arg0     arg 0 to pass to event
+	 * @param arg1     arg 1 to pass to event
+	 * @param <T0>     Type of arg 0
+	 * @param <T1>     Type of arg 1
+	 */
+	@SuppressWarnings("unchecked")
+	public <T0, T1> void trigger(EventKey eventKey, T0 arg0, T1 arg1) {
+		Array<EventListener> eventListeners = listeners.get(eventKey.getId());
+		if (eventListeners == null) {
+			return;
+		}
+		for (int i = 0; i < eventListeners.size; i++) {
+			((EventListener2<T0, T1>) eventListeners.get(i)).handle(arg0, arg1);
+		}
+	}
+
+	/**
+	 * Trigger an event with three arguments
+	 *
+	 * @param eventKey key of the event
+	 * @param arg0     arg 0 to pass to event
+	 * @param arg1     arg 1 to pass to event
+	 * @param arg2     arg 2 to pass to event
+	 * @param <T0>     Type of arg 0
+	 * @param <T1>     Type of arg 1
+	 * @param <T2>     Type of arg 2
+	 */
+	@SuppressWarnings("unchecked")
+	public <T0, T1, T2> void trigger(EventKey eventKey, T0 arg0, T1 arg1, T2 arg2) {
+		Array<EventListener> eventListeners = listeners.get(eventKey.getId());
+		if (eventListeners == null) {
+			return;
+		}
+		for (int i = 0; i < eventListeners.size; i++) {
+			((EventListener3<T0, T1, T2>) eventListeners.get(i)).handle(arg0, arg1, arg2);
+		}
 	}
 
 	/**
@@ -160,8 +301,8 @@ public class EventHandler {
 
 		long endTime = timeSource.getTime() + (int) (delay * 1000);
 
-		ScheduledEvent scheduledEvent = new ScheduledEvent(eventName, Collections.emptyList(), endTime);
-		scheduledEvents.add(scheduledEvent);
+		ScheduledEvent scheduledEvent = new ScheduledEvent(eventName, Collections.emptyList(), endTime, nextSequence++);
+		addScheduledEvent(scheduledEvent);
 
 		return scheduledEvent;
 	}
@@ -186,8 +327,8 @@ public class EventHandler {
 		ArrayList<Object> args = new ArrayList<>();
 		args.add(arg0);
 
-		ScheduledEvent scheduledEvent = new ScheduledEvent(eventName, args, endTime);
-		scheduledEvents.add(scheduledEvent);
+		ScheduledEvent scheduledEvent = new ScheduledEvent(eventName, args, endTime, nextSequence++);
+		addScheduledEvent(scheduledEvent);
 		return scheduledEvent;
 	}
 
@@ -214,8 +355,8 @@ public class EventHandler {
 		args.add(arg0);
 		args.add(arg1);
 
-		ScheduledEvent scheduledEvent = new ScheduledEvent(eventName, args, endTime);
-		scheduledEvents.add(scheduledEvent);
+		ScheduledEvent scheduledEvent = new ScheduledEvent(eventName, args, endTime, nextSequence++);
+		addScheduledEvent(scheduledEvent);
 
 		return scheduledEvent;
 	}
@@ -246,8 +387,8 @@ public class EventHandler {
 		args.add(arg1);
 		args.add(arg2);
 
-		ScheduledEvent scheduledEvent = new ScheduledEvent(eventName, args, endTime);
-		scheduledEvents.add(scheduledEvent);
+		ScheduledEvent scheduledEvent = new ScheduledEvent(eventName, args, endTime, nextSequence++);
+		addScheduledEvent(scheduledEvent);
 
 		return scheduledEvent;
 	}
@@ -278,17 +419,24 @@ public class EventHandler {
 	 * <p>If there is no instance of {@link GameTime} available, this method does nothing.
 	 */
 	public void update() {
-		if (timeSource == null) {
+		if (timeSource == null || scheduledEvents == null || scheduledEvents.isEmpty()) {
 			return;
 		}
 
-		List<ScheduledEvent> eventsToTrigger = new ArrayList<>(scheduledEvents);
-		eventsToTrigger.removeIf(event -> (timeSource.getTime() < event.endTime()));
-
-		eventsToTrigger.forEach(this::triggerScheduledEvent);
+		long time = timeSource.getTime();
+		if (time < scheduledEvents.peek().endTime()) {
+			return;
+		}
 
-		// remove in separate loop to avoid concurrent modification error
-		scheduledEvents.removeIf(eventsToTrigger::contains);
+		// Take every due event off the queue before triggering, so events scheduled by listeners
+		// wait until the next update
+		while (!scheduledEvents.isEmpty() && time >= scheduledEvents.peek().endTime()) {
+			dueEvents.add(scheduledEvents.poll());
+		}
+		for (int i = 0; i < dueEvents.size(); i++) {
+			triggerScheduledEvent(dueEvents.get(i));
+		}
+		dueEvents.clear();
 	}
 
 	/**
@@ -297,31 +445,36 @@ public class EventHandler {
 	 * @param event event to cancel
 	 */
 	public void cancelEvent(ScheduledEvent event) {
-		scheduledEvents.remove(event);
+		if (scheduledEvents != null) {
+			scheduledEvents.remove(event);
+		}
 	}
 
 	/**
 	 * Cancels all scheduled events for an entity.
 	 */
 	public void cancelAllEvents() {
-		scheduledEvents.clear();
+		if (scheduledEvents != null) {
+			scheduledEvents.clear();
+		}
 	}
 
-	private void registerListener(String eventName, EventListener listener) {
-		logger.debug("Adding listener {} to event {}", listener, eventName);
-		Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
-		if (eventListeners == null) {
-			eventListeners = new Array<>(1);
-			listeners.put(eventName, eventListeners);
+	private void addScheduledEvent(ScheduledEvent scheduledEvent) {
+		if (scheduledEvents == null) {
+			scheduledEvents = new PriorityQueue<>(BY_END_TIME);
+			dueEvents = new ArrayList<>();
 		}
-		eventListeners.add(listener);
+		scheduledEvents.add(scheduledEvent);
 	}
 
-	private void forEachListener(String eventName, Consumer<EventListener> func) {
-		Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
-		if (eventListeners != null) {
-			eventListeners.forEach(func);
+	private void registerListener(EventKey eventKey, EventListener listener) {
+		logger.debug("Adding listener {} to event {}", listener, eventKey);
+		Array<EventListener> eventListeners = listeners.get(eventKey.getId());
+		if (eventListeners == null) {
+			eventListeners = new Array<>(1);
+			listeners.put(eventKey.getId(), eventListeners);
 		}
+		eventListeners.add(listener);
 	}
 
 	private static void logTrigger(String eventName) {
@@ -329,6 +482,6 @@ public class EventHandler {
 	}
 
 	public Integer getScheduledEventsSize() {
-		return scheduledEvents.size();
+		return scheduledEvents == null ? 0 : scheduledEvents.size();
 	}
 }
@@ -0,0 +1,78 @@
+package com.csse3200.game.events;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An interned event name. Each distinct event name maps to a single EventKey with a dense integer
+ * id, so an {@link EventHandler} can look up listeners by id instead of hashing the name on every
+ * trigger.
+ *
+ * <p>Hot events should keep their key in a constant and use the EventKey overloads of
+ * {@link EventHandler#addListener} and {@link EventHandler#trigger}:
+ *
+ * <pre>
+ * private static final EventKey MINUTE_UPDATE = EventKey.of("minuteUpdate");
+ * ...
+ * events.trigger(MINUTE_UPDATE);
+ * </pre>
+ *
+ * <p>Listeners added with the String API share the same key, so both APIs can be mixed freely.
+ */
+public final class EventKey {
+	private static final Map<String, EventKey> keys = new ConcurrentHashMap<>();
+	private static final AtomicInteger nextId = new AtomicInteger();
+
+	private final String name;
+	private final int id;
+
+	private EventKey(String name, int id) {
+		this.name = name;
+		this.id = id;
+	}
+
+	/**
+	 * Get the key for an event name, creating it if this is the first time the name has been seen.
+	 *
+	 * @param name name of the event
+	 * @return the unique key for that name
+	 */
+	public static EventKey of(String name) {
+		EventKey key = keys.get(name);
+		if (key == null) {
+			key = keys.computeIfAbsent(name, eventName -> new EventKey(eventName, nextId.getAndIncrement()));
+		}
+		return key;
+	}
+
+	/**
+	 * Get the key for an event name without creating one. An event with no key has never had a
+	 * listener added, so triggering it can be skipped.
+	 *
+	 * @param name name of the event
+	 * @return the key for that name, or null if it has not been created
+	 */
+	public static EventKey find(String name) {
+		return name == null ? null : keys.get(name);
+	}
+
+	/**
+	 * @return name of the event
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return dense integer id of the event, unique per event name
+	 */
+	public int getId() {
+		return id;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
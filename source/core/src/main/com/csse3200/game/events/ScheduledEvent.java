@@ -11,6 +11,8 @@ import java.util.List;
  * @param eventName The name of the event.
  * @param args      A list of arguments to be passed when the event is triggered.
  * @param endTime   The time at which the event is scheduled to be triggered.
+ * @param sequence  The order the event was scheduled in, so events due at the same time are triggered
+ *                  in the order they were scheduled.
  */
-public record ScheduledEvent(String eventName, List<Object> args, long endTime) {
+public record ScheduledEvent(String eventName, List<Object> args, long endTime, long sequence) {
 }
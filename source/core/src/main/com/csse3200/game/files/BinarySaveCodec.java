@@ -0,0 +1,316 @@
+package com.csse3200.game.files;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.UBJsonReader;
+import com.badlogic.gdx.utils.UBJsonWriter;
+import com.csse3200.game.areas.weather.ClimateController;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.files.SaveGame.GameState;
+import com.csse3200.game.missions.MissionManager;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads and writes a {@link GameState} in a compact binary format, streamed straight to a
+ * {@link FileChannel} instead of being built up as one JSON string first.
+ *
+ * <p>A binary save is a header followed by sections:
+ * <pre>
+ * int    MAGIC
+ * int    VERSION
+ * repeated:
+ *   byte   section id
+ *   int    payload length in bytes
+ *   byte[] payload, in Universal Binary JSON
+ * </pre>
+ * Each payload is exactly what {@link Json} would write for that part of the game state, so
+ * entities and components save and load through their existing write/read methods. Loading joins
+ * the sections back into one JSON tree, which is read the same way as a JSON save. The length
+ * prefixes let a reader skip sections it does not know about.
+ */
+public class BinarySaveCodec {
+	/**
+	 * "GOTG" in ASCII, used to tell binary saves apart from JSON saves
+	 */
+	static final int MAGIC = 0x474F5447;
+	static final int VERSION = 1;
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int SECTION_HEADER_SIZE = 5;
+
+	/**
+	 * The parts of a game state that are written as separate sections
+	 */
+	enum Section {
+		/**
+		 * Time and oxygen level, whose fields are joined back into the top of the game state
+		 */
+		HEADER(null),
+		PLAYER("player"),
+		TRACTOR("tractor"),
+		TILES("tiles"),
+		PLACEABLES("placeables"),
+		NPCS("entities"),
+		MISSIONS("missions"),
+		CLIMATE("climate");
+
+		private final String field;
+
+		Section(String field) {
+			this.field = field;
+		}
+	}
+
+	private BinarySaveCodec() {
+		throw new IllegalStateException("Util class");
+	}
+
+	/**
+	 * Check whether a file is a binary save, by looking for the header.
+	 *
+	 * @param file file to check
+	 * @return true if the file exists and starts with the binary save header
+	 */
+	public static boolean isBinarySave(FileHandle file) {
+		if (file == null || !file.exists() || file.isDirectory() || file.length() < Integer.BYTES) {
+			return false;
+		}
+		try (DataInputStream input = new DataInputStream(file.read())) {
+			return input.readInt() == MAGIC;
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Write a game state to a file, replacing anything already there.
+	 *
+	 * @param state game state to write
+	 * @param file  file to write to
+	 * @throws IOException if the file could not be written
+	 */
+	public static void write(GameState state, FileHandle file) throws IOException {
+		FileHandle parent = file.parent();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		try (FileChannel channel = FileChannel.open(file.file().toPath(),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		     DataOutputStream output = new DataOutputStream(
+				     new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE))) {
+			SectionWriter writer = new SectionWriter(channel, output);
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+
+			writer.beginSection(Section.HEADER);
+			writer.binary.object();
+			writer.binary.name("day").value(state.getDay());
+			writer.binary.name("hour").value(state.getHour());
+			writer.binary.name("minute").value(state.getMinute());
+			writer.binary.name("oxygenLevel").value(state.getOxygenLevel());
+			writer.binary.pop();
+			writer.endSection();
+
+			writer.writeSection(Section.PLAYER, state.getPlayer(), Entity.class, null);
+			writer.writeSection(Section.TRACTOR, state.getTractor(), Entity.class, null);
+			writer.writeSection(Section.TILES, state.getTiles(), Array.class, Entity.class);
+			writer.writeSection(Section.PLACEABLES, state.getPlaceables(), Array.class, Entity.class);
+			writer.writeSection(Section.NPCS, state.getEntities(), Array.class, Entity.class);
+			writer.writeSection(Section.MISSIONS, state.getMissions(), MissionManager.class, null);
+			writer.writeSection(Section.CLIMATE, state.getClimate(), ClimateController.class, null);
+		}
+	}
+
+	/**
+	 * Read a game state from a binary save.
+	 *
+	 * @param file file to read from
+	 * @param json json used to read entities and components from each section
+	 * @return the game state in the file
+	 * @throws IOException if the file could not be read or is not a binary save
+	 */
+	public static GameState read(FileHandle file, Json json) throws IOException {
+		JsonValue root = new JsonValue(JsonValue.ValueType.object);
+		Section[] sections = Section.values();
+		UBJsonReader reader = new UBJsonReader();
+
+		try (DataInputStream input = new DataInputStream(file.read(BUFFER_SIZE))) {
+			if (input.readInt() != MAGIC) {
+				throw new IOException("Not a binary save file: " + file.path());
+			}
+			int version = input.readInt();
+			if (version > VERSION) {
+				throw new IOException("Save file version " + version + " is newer than " + VERSION);
+			}
+
+			int id;
+			while ((id = input.read()) != -1) {
+				byte[] payload = new byte[input.readInt()];
+				input.readFully(payload);
+				if (id >= sections.length) {
+					// Written by a newer version, skip it
+					continue;
+				}
+				JsonValue value = reader.parse((InputStream) new ByteArrayInputStream(payload));
+				addSection(root, sections[id], value);
+			}
+		}
+		return json.readValue(GameState.class, root);
+	}
+
+	private static void addSection(JsonValue root, Section section, JsonValue value) {
+		if (section.field != null) {
+			value.setName(section.field);
+			root.addChild(value);
+			return;
+		}
+		JsonValue child = value.child;
+		while (child != null) {
+			JsonValue next = child.next;
+			root.addChild(child);
+			child = next;
+		}
+	}
+
+	/**
+	 * Writes length-prefixed sections, going back to fill in each length once the section's payload
+	 * has been streamed out.
+	 */
+	private static class SectionWriter {
+		private final FileChannel channel;
+		private final DataOutputStream output;
+		private final UBJsonWriter binary;
+		private final Json json = new Json();
+		private final ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+		private long sectionStart;
+
+		SectionWriter(FileChannel channel, DataOutputStream output) {
+			this.channel = channel;
+			this.output = output;
+			this.binary = new UBJsonWriter(output);
+			json.setWriter(new BinaryJsonWriter(binary));
+		}
+
+		void writeSection(Section section, Object value, Class<?> knownType, Class<?> elementType)
+				throws IOException {
+			beginSection(section);
+			json.writeValue(value, knownType, elementType);
+			endSection();
+		}
+
+		void beginSection(Section section) throws IOException {
+			output.flush();
+			sectionStart = channel.position();
+			output.writeByte(section.ordinal());
+			// Filled in by endSection
+			output.writeInt(0);
+		}
+
+		void endSection() throws IOException {
+			binary.flush();
+			output.flush();
+			long length = channel.position() - sectionStart - SECTION_HEADER_SIZE;
+			lengthBuffer.clear();
+			lengthBuffer.putInt((int) length).flip();
+			channel.write(lengthBuffer, sectionStart + 1);
+		}
+	}
+
+	/**
+	 * Lets {@link Json} write through a {@link UBJsonWriter}, so entities and components can be
+	 * written to binary with their existing write methods.
+	 */
+	private static class BinaryJsonWriter extends JsonWriter {
+		private final UBJsonWriter binary;
+
+		BinaryJsonWriter(UBJsonWriter binary) {
+			super(new StringWriter());
+			this.binary = binary;
+		}
+
+		@Override
+		public JsonWriter name(String name) throws IOException {
+			binary.name(name);
+			return this;
+		}
+
+		@Override
+		public JsonWriter object() throws IOException {
+			binary.object();
+			return this;
+		}
+
+		@Override
+		public JsonWriter array() throws IOException {
+			binary.array();
+			return this;
+		}
+
+		@Override
+		public JsonWriter value(Object value) throws IOException {
+			binary.value(value);
+			return this;
+		}
+
+		@Override
+		public JsonWriter json(String json) throws IOException {
+			if (json == null) {
+				binary.value((Object) null);
+			} else {
+				binary.value(new JsonReader().parse(json));
+			}
+			return this;
+		}
+
+		@Override
+		public JsonWriter object(String name) throws IOException {
+			return name(name).object();
+		}
+
+		@Override
+		public JsonWriter array(String name) throws IOException {
+			return name(name).array();
+		}
+
+		@Override
+		public JsonWriter set(String name, Object value) throws IOException {
+			return name(name).value(value);
+		}
+
+		@Override
+		public JsonWriter json(String name, String json) throws IOException {
+			return name(name).json(json);
+		}
+
+		@Override
+		public JsonWriter pop() throws IOException {
+			binary.pop();
+			return this;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			binary.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			// The file stays open for the next section, and is closed once the save is written
+			binary.flush();
+		}
+	}
+}
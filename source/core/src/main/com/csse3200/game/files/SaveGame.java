@@ -1,14 +1,17 @@
 package com.csse3200.game.files;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.areas.weather.ClimateController;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityType;
 import com.csse3200.game.files.FileLoader.Location;
 import com.csse3200.game.missions.MissionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.io.IOException;
 
 /**
  * Reading, Writing, and applying user settings in the game.
@@ -19,31 +22,78 @@ public class SaveGame {
 		throw new IllegalStateException("Util class");
 	}
 
+	private static final Logger logger = LoggerFactory.getLogger(SaveGame.class);
 	private static final String ROOT_DIR = "saves";
 	private static final String SAVE_FILE = "saveFile.json";
+	private static final String JSON_EXTENSION = ".json";
 
 	/**
-	 * Get the stored save file
+	 * Get the stored save file. Both binary and JSON saves can be read, whatever the file is named.
 	 *
 	 * @return Copy of the saved game state
 	 */
 	public static GameState get(String path) {
+		FileHandle file = Gdx.files.local(path);
+		if (BinarySaveCodec.isBinarySave(file)) {
+			try {
+				return BinarySaveCodec.read(file, FileLoader.json);
+			} catch (Exception e) {
+				logger.error("Failed to read binary save {}", path, e);
+				return null;
+			}
+		}
 		return FileLoader.readClass(GameState.class, path, Location.LOCAL);
 	}
 
 	/**
-	 * Set the current game state
+	 * Set the current game state. Paths ending in .json are written as JSON, anything else is
+	 * written in the binary save format.
 	 *
 	 * @param gameState The gameState to store
 	 */
 	public static void set(GameState gameState, String path) {
-		FileLoader.writeClass(gameState, path, Location.LOCAL);
+		if (path.endsWith(JSON_EXTENSION)) {
+			FileLoader.writeClass(gameState, path, Location.LOCAL);
+			return;
+		}
+		try {
+			BinarySaveCodec.write(gameState, Gdx.files.local(path));
+		} catch (IOException e) {
+			logger.error("Failed to write binary save {}", path, e);
+		}
+	}
+
+	/**
+	 * Check whether a save file exists
+	 *
+	 * @param path path of the save file
+	 * @return true if the file exists
+	 */
+	public static boolean exists(String path) {
+		FileHandle file = Gdx.files.local(path);
+		return file != null && file.exists();
 	}
 
 	/**
 	 * Stores game state. Can be serialised/deserialised.
 	 */
 	public static class GameState {
+		/**
+		 * Types of NPC entities that are saved and remade from the NPC factory
+		 */
+		public static final EntityType[] NPC_TYPES = {EntityType.ASTROLOTL, EntityType.CHICKEN, EntityType.COW,
+				EntityType.OXYGEN_EATER, EntityType.SHIP_DEBRIS, EntityType.FIRE_FLIES, EntityType.SHIP,
+				EntityType.SHIP_EATER};
+		/**
+		 * Types of tile entities that are saved
+		 */
+		public static final EntityType[] TILE_TYPES = {EntityType.TILE, EntityType.SHIP_PART_TILE};
+		/**
+		 * Types of placeable entities that are saved and remade from the placeable factory
+		 */
+		public static final EntityType[] PLACEABLE_TYPES = {EntityType.CHEST, EntityType.LIGHT, EntityType.FENCE,
+				EntityType.GATE, EntityType.SPRINKLER, EntityType.PUMP, EntityType.GOLDEN_STATUE};
+
 		private int day;
 		private int hour;
 		private int minute;
@@ -163,17 +213,7 @@ public class SaveGame {
 		 * @return the entities filtered in Array<Entity> for use in SaveLoadService.
 		 */
 		private Array<Entity> filterEntities(Array<Entity> entities) {
-			// If you edit this original array you edit what is in the ResourceService
-			Array<Entity> tmp = new Array<>();
-			for (Entity e : entities) {
-				if (e.getType() == EntityType.ASTROLOTL || e.getType() == EntityType.CHICKEN ||
-						e.getType() == EntityType.COW || e.getType() == EntityType.OXYGEN_EATER ||
-						e.getType() == EntityType.SHIP_DEBRIS || e.getType() == EntityType.FIRE_FLIES ||
-						e.getType() == EntityType.SHIP || e.getType() == EntityType.SHIP_EATER) {
-					tmp.add(e);
-				}
-			}
-			return tmp;
+			return filterTypes(entities, NPC_TYPES);
 		}
 
 		/**
@@ -212,17 +252,7 @@ public class SaveGame {
 		 * @return the entities filtered in Array<Entity> for use in SaveLoadService.
 		 */
 		private Array<Entity> filterTiles(Array<Entity> entities) {
-			// If you edit this original array you edit what is in the ResourceService
-			Array<Entity> tiles = new Array<>(entities);
-			for (int i = 0; i < tiles.size; i++) {
-				if (tiles.get(i).getType() != EntityType.TILE && tiles.get(i).getType() != EntityType.SHIP_PART_TILE) {
-					tiles.removeIndex(i);
-					// Moves the indexing down when removed so keep index same
-					i--;
-
-				}
-			}
-			return tiles;
+			return filterTypes(entities, TILE_TYPES);
 		}
 
 		/**
@@ -315,17 +345,29 @@ public class SaveGame {
 		 * @return the entities filtered in Array<Entity> for use in SaveLoadService.
 		 */
 		private Array<Entity> filterPlaceables(Array<Entity> entities) {
-			Array<Entity> returnValue = new Array<>(entities);
-			ArrayList<EntityType> placeableTypes = new ArrayList<>(Arrays.asList(EntityType.CHEST, EntityType.LIGHT,
-					EntityType.FENCE, EntityType.GATE, EntityType.SPRINKLER, EntityType.PUMP, EntityType.GOLDEN_STATUE));
-			for (int i = 0; i < returnValue.size; i++) {
-				if (!placeableTypes.contains(returnValue.get(i).getType())) {
-					returnValue.removeIndex(i);
-					// Moves the indexing down when removed so keep index same
-					i--;
+			return filterTypes(entities, PLACEABLE_TYPES);
+		}
+
+		/**
+		 * Copies the entities that have one of the given types into a new Array, so the original
+		 * Array (usually owned by the EntityService) is never modified.
+		 *
+		 * @param entities the entities to filter in Array<Entity>
+		 * @param types    the entity types to keep
+		 * @return the entities filtered in Array<Entity>
+		 */
+		private static Array<Entity> filterTypes(Array<Entity> entities, EntityType[] types) {
+			Array<Entity> filtered = new Array<>();
+			for (int i = 0; i < entities.size; i++) {
+				Entity e = entities.get(i);
+				for (EntityType type : types) {
+					if (e.getType() == type) {
+						filtered.add(e);
+						break;
+					}
 				}
 			}
-			return returnValue;
+			return filtered;
 		}
 	}
-}
\ No newline at end of file
+}
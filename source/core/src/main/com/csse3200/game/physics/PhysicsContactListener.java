@@ -1,6 +1,7 @@
 package com.csse3200.game.physics;
 
 import com.badlogic.gdx.physics.box2d.*;
+import com.csse3200.game.events.EventKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,17 +17,19 @@ import org.slf4j.LoggerFactory;
  */
 public class PhysicsContactListener implements ContactListener {
 	private static final Logger logger = LoggerFactory.getLogger(PhysicsContactListener.class);
+	private static final EventKey COLLISION_START = EventKey.of("collisionStart");
+	private static final EventKey COLLISION_END = EventKey.of("collisionEnd");
 
 	@Override
 	public void beginContact(Contact contact) {
-		triggerEventOn(contact.getFixtureA(), "collisionStart", contact.getFixtureB());
-		triggerEventOn(contact.getFixtureB(), "collisionStart", contact.getFixtureA());
+		triggerEventOn(contact.getFixtureA(), COLLISION_START, contact.getFixtureB());
+		triggerEventOn(contact.getFixtureB(), COLLISION_START, contact.getFixtureA());
 	}
 
 	@Override
 	public void endContact(Contact contact) {
-		triggerEventOn(contact.getFixtureA(), "collisionEnd", contact.getFixtureB());
-		triggerEventOn(contact.getFixtureB(), "collisionEnd", contact.getFixtureA());
+		triggerEventOn(contact.getFixtureA(), COLLISION_END, contact.getFixtureB());
+		triggerEventOn(contact.getFixtureB(), COLLISION_END, contact.getFixtureA());
 	}
 
 	@Override
@@ -39,7 +42,7 @@ public class PhysicsContactListener implements ContactListener {
 		// Nothing to do after resolving contact
 	}
 
-	private void triggerEventOn(Fixture fixture, String evt, Fixture otherFixture) {
+	private void triggerEventOn(Fixture fixture, EventKey evt, Fixture otherFixture) {
 		BodyUserData userData = (BodyUserData) fixture.getBody().getUserData();
 		if (userData != null && userData.entity != null) {
 			logger.debug("{} on entity {}", evt, userData.entity);
@@ -6,7 +6,9 @@ import com.csse3200.game.ai.movement.MovementController;
 import com.csse3200.game.areas.terrain.GameMap;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.combat.StunComponent;
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityType;
+import com.csse3200.game.services.PathfindingService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.utils.math.Vector2Utils;
 import org.slf4j.Logger;
@@ -23,8 +25,11 @@ public class PhysicsMovementComponent extends Component implements MovementContr
 	private Vector2 maxSpeed = Vector2Utils.ONE;
 	private PhysicsComponent physicsComponent;
 	private Vector2 targetPosition;
+	private Entity pathGoal;
 	private boolean movementEnabled = true;
 	private final GameMap gameMap = ServiceLocator.getGameArea().getMap();
+	private final Vector2 positionScratch = new Vector2();
+	private final Vector2 desiredVelocity = new Vector2();
 
 	private static final Set<EntityType> flyingEntitiesHashSet = new HashSet<>(
 			Set.of(
@@ -90,6 +95,23 @@ public class PhysicsMovementComponent extends Component implements MovementContr
 		this.targetPosition = target;
 	}
 
+	/**
+	 * Set an entity that the target belongs to, so the entity finds its way around obstacles towards
+	 * it using the {@link PathfindingService}. Flying entities still move in a straight line.
+	 *
+	 * @param goal entity being moved towards, or null to move in a straight line to the target
+	 */
+	public void setPathGoal(Entity goal) {
+		this.pathGoal = goal;
+	}
+
+	/**
+	 * @return entity being moved towards around obstacles, or null if moving in a straight line
+	 */
+	public Entity getPathGoal() {
+		return pathGoal;
+	}
+
 	private void updateSpeed() {
 		Body body = physicsComponent.getBody();
 		Vector2 velocity = body.getLinearVelocity();
@@ -100,15 +122,20 @@ public class PhysicsMovementComponent extends Component implements MovementContr
 		body.applyLinearImpulse(impulse, body.getWorldCenter(), true);
 	}
 
+	/**
+	 * Calculates the velocity the entity should be moving at to head towards its target
+	 *
+	 * @return desired velocity, reused between calls
+	 */
 	public Vector2 calculateVelocityVector() {
-		Vector2 desiredVelocity = getDirection().scl(maxSpeed);
+		getDirection(desiredVelocity).scl(maxSpeed);
 
 		if (!flyingEntitiesHashSet.contains(entity.getType())) {
-			Vector2 entityCenterPosVector = this.entity.getCenterPosition();
-			Vector2 entityBottomLeftPosVector = this.entity.getPosition();
-			Vector2 entityCenterBottomPosVector = new Vector2(entityCenterPosVector.x, entityBottomLeftPosVector.y);
+			// Speed modifier of the tile under the centre bottom of the entity
+			float centerX = this.entity.getCenterPosition(positionScratch).x;
+			float bottomY = this.entity.getPosition(positionScratch).y;
 
-			float terrainSpeedModifier = gameMap.getTile(entityCenterBottomPosVector).getSpeedModifier();
+			float terrainSpeedModifier = gameMap.getSpeedModifier(centerX, bottomY);
 			desiredVelocity.scl(terrainSpeedModifier);
 		}
 
@@ -136,8 +163,14 @@ public class PhysicsMovementComponent extends Component implements MovementContr
 		return stunComponent.isStunned();
 	}
 
-	private Vector2 getDirection() {
+	private Vector2 getDirection(Vector2 out) {
+		PathfindingService pathfindingService = ServiceLocator.getPathfindingService();
+		// Find the way from the centre of the entity, so its whole body follows the path
+		if (pathGoal != null && pathfindingService != null && !flyingEntitiesHashSet.contains(entity.getType())
+				&& pathfindingService.getDirection(pathGoal, entity.getCenterPosition(positionScratch), out)) {
+			return out;
+		}
 		// Move towards targetPosition based on our current position
-		return targetPosition.cpy().sub(entity.getPosition()).nor();
+		return out.set(targetPosition).sub(entity.getX(), entity.getY()).nor();
 	}
 }
\ No newline at end of file
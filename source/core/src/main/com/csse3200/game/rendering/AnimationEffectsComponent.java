@@ -3,6 +3,7 @@ package com.csse3200.game.rendering;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.utils.math.Vector2Utils;
 
@@ -60,13 +61,24 @@ public class AnimationEffectsComponent extends AnimationRenderComponent {
 		}
 
 		TextureRegion region = currentAnimation.getKeyFrame(animationPlayTime);
-		Vector2 pos = entity.getPosition().add(offset);
-
-		batch.draw(region, pos.x, pos.y, scale.x, scale.y);
+		batch.draw(region, getRenderX() + offset.x, getRenderY() + offset.y, scale.x, scale.y);
 
 		animationPlayTime += timeSource.getDeltaTime();
 	}
 
+	@Override
+	public void renderCulled() {
+		if (currentAnimation != null) {
+			animationPlayTime += timeSource.getDeltaTime();
+		}
+	}
+
+	@Override
+	public boolean getWorldBounds(Rectangle out) {
+		out.set(entity.getX() + offset.x, entity.getY() + offset.y, scale.x, scale.y);
+		return true;
+	}
+
 	/**
 	 * Gets the scale used for rendering the animation.
 	 *
@@ -5,10 +5,7 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
@@ -98,7 +95,8 @@ public class AnimationRenderComponent extends RenderComponent {
 	}
 
 	/**
-	 * Register an animation from the texture atlas.
+	 * Register an animation from the texture atlas. Animations are shared with every other animator
+	 * using the same atlas, see {@link AnimationSet}.
 	 *
 	 * @param name          Name of the animation. Must match the name of this animation inside the texture
 	 *                      atlas.
@@ -107,8 +105,8 @@ public class AnimationRenderComponent extends RenderComponent {
 	 * @return true if added successfully, false otherwise
 	 */
 	public boolean addAnimation(String name, float frameDuration, PlayMode playMode) {
-		Array<AtlasRegion> regions = atlas.findRegions(name);
-		if (regions == null || regions.size == 0) {
+		Animation<TextureRegion> animation = AnimationSet.of(atlas).get(atlas, name, frameDuration, playMode);
+		if (animation == null) {
 			logger.warn("Animation {} not found in texture atlas", name);
 			return false;
 		} else if (animations.containsKey(name)) {
@@ -118,7 +116,6 @@ public class AnimationRenderComponent extends RenderComponent {
 			return false;
 		}
 
-		Animation<TextureRegion> animation = new Animation<>(frameDuration, regions, playMode);
 		animations.put(name, animation);
 		logger.debug("Adding animation {}", name);
 		return true;
@@ -226,23 +223,40 @@ public class AnimationRenderComponent extends RenderComponent {
 			return;
 		}
 		TextureRegion region = currentAnimation.getKeyFrame(animationPlayTime);
-		Vector2 pos = entity.getPosition();
-		entity.setScale(
-				region.getRegionWidth() / this.scaleFactor,
-				region.getRegionHeight() / this.scaleFactor
-		);
-		Vector2 scale = entity.getScale();
+		updateEntityScale(region);
 
 		if (blinkComponent != null && blinkComponent.isBlinking()) {
 			batch.setColor(blinkComponent.getColor());
 		}
 
-		batch.draw(region, pos.x, pos.y, scale.x, scale.y);
-		batch.setColor(Color.WHITE.cpy());
+		batch.draw(region, getRenderX(), getRenderY(), entity.getScaleX(), entity.getScaleY());
+		batch.setColor(Color.WHITE);
 
 		animationPlayTime += timeSource.getDeltaTime();
 	}
 
+	/**
+	 * Keeps the animation playing and the entity sized to the current frame while it is off screen,
+	 * so that code waiting on {@link #isFinished()} or the entity's scale is not affected by culling.
+	 */
+	@Override
+	public void renderCulled() {
+		if (currentAnimation == null) {
+			return;
+		}
+		updateEntityScale(currentAnimation.getKeyFrame(animationPlayTime));
+		animationPlayTime += timeSource.getDeltaTime();
+	}
+
+	private void updateEntityScale(TextureRegion region) {
+		float width = region.getRegionWidth() / this.scaleFactor;
+		float height = region.getRegionHeight() / this.scaleFactor;
+		// Most frames are the same size, so only move the entity in the spatial index when they aren't
+		if (width != entity.getScaleX() || height != entity.getScaleY()) {
+			entity.setScale(width, height);
+		}
+	}
+
 	@Override
 	public int getLayer() {
 		return DEFAULT_LAYER;
@@ -0,0 +1,81 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The animations that have been built from a single texture atlas, shared between every
+ * {@link AnimationRenderComponent} using that atlas. Entities of the same kind add the same
+ * animations, so 50 chickens only look up their frames in the atlas and build each
+ * {@link Animation} once, rather than once per chicken.
+ * <p>
+ * Animations are looked up by name, frame duration and play mode. The animations handed out are
+ * shared, so they must not be changed after they have been built. Sets are only weakly held by their
+ * atlas, so they are thrown away once the atlas is unloaded. Nothing in a set may refer back to its
+ * atlas, otherwise the atlas would never be released, so the atlas is passed in when building.
+ */
+final class AnimationSet {
+	private static final Map<TextureAtlas, AnimationSet> sets = new WeakHashMap<>();
+
+	/**
+	 * Every animation built from the atlas, grouped by name. There are rarely more than one for each
+	 * name, so they are searched through for a matching frame duration and play mode.
+	 */
+	private final Map<String, Array<Animation<TextureRegion>>> animations = new HashMap<>();
+
+	private AnimationSet() {
+	}
+
+	/**
+	 * Get the shared animation set for an atlas, creating it if this is the first time the atlas has
+	 * been used.
+	 *
+	 * @param atlas texture atlas the animations are built from
+	 * @return animation set for the atlas
+	 */
+	static AnimationSet of(TextureAtlas atlas) {
+		return sets.computeIfAbsent(atlas, key -> new AnimationSet());
+	}
+
+	/**
+	 * Get an animation from the atlas, building it if no animation with the same name, frame duration
+	 * and play mode has been asked for before.
+	 *
+	 * @param atlas         texture atlas the set belongs to
+	 * @param name          name of the animation inside the texture atlas
+	 * @param frameDuration how long, in seconds, each frame is shown for
+	 * @param playMode      how the animation is played
+	 * @return the shared animation, or null if the atlas has no regions with that name
+	 */
+	Animation<TextureRegion> get(TextureAtlas atlas, String name, float frameDuration, PlayMode playMode) {
+		Array<Animation<TextureRegion>> named = animations.get(name);
+		if (named != null) {
+			for (int i = 0; i < named.size; i++) {
+				Animation<TextureRegion> animation = named.get(i);
+				if (animation.getFrameDuration() == frameDuration && animation.getPlayMode() == playMode) {
+					return animation;
+				}
+			}
+		}
+
+		Array<AtlasRegion> regions = atlas.findRegions(name);
+		if (regions == null || regions.size == 0) {
+			return null;
+		}
+		if (named == null) {
+			named = new Array<>(false, 1);
+			animations.put(name, named);
+		}
+		Animation<TextureRegion> animation = new Animation<>(frameDuration, regions, playMode);
+		named.add(animation);
+		return animation;
+	}
+}
@@ -1,6 +1,7 @@
 package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Disposable;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.services.ServiceLocator;
@@ -40,7 +41,38 @@ public abstract class RenderComponent extends Component implements Renderable, D
 	@Override
 	public float getZIndex() {
 		// The smaller the Y value, the higher the Z index, so that closer entities are drawn in front
-		return -entity.getPosition().y;
+		return -entity.getY();
+	}
+
+	@Override
+	public boolean getWorldBounds(Rectangle out) {
+		out.set(entity.getX(), entity.getY(), entity.getScaleX(), entity.getScaleY());
+		return true;
+	}
+
+	/**
+	 * Get the x coordinate to draw the entity at, interpolated between the last two simulation ticks.
+	 *
+	 * @return x position to draw at
+	 */
+	protected float getRenderX() {
+		float alpha = getInterpolationAlpha();
+		return alpha >= 1f ? entity.getX() : entity.getRenderX(alpha);
+	}
+
+	/**
+	 * Get the y coordinate to draw the entity at, interpolated between the last two simulation ticks.
+	 *
+	 * @return y position to draw at
+	 */
+	protected float getRenderY() {
+		float alpha = getInterpolationAlpha();
+		return alpha >= 1f ? entity.getY() : entity.getRenderY(alpha);
+	}
+
+	private static float getInterpolationAlpha() {
+		RenderService renderService = ServiceLocator.getRenderService();
+		return renderService == null ? 1f : renderService.getInterpolationAlpha();
 	}
 
 	/**
@@ -0,0 +1,181 @@
+package com.csse3200.game.rendering;
+
+import java.util.Arrays;
+
+/**
+ * The renderables in a single layer, kept in z index order for the render service.
+ * <p>
+ * Each renderable's z index is cached alongside it. On every sort the z indexes are read once and
+ * compared to the cache, so only renderables that have moved since the last frame are re-ordered.
+ * Most renderables (crops, tiles, placeables) never move, so in a typical frame the queue is either
+ * already in order or only needs a short insertion sort. A full sort is only done when many
+ * renderables have moved at once, such as after a level is loaded.
+ */
+class RenderQueue {
+	/**
+	 * Insertion sort is used while at most this many renderables (or one eighth of the queue, if
+	 * larger) have moved since the last sort.
+	 */
+	private static final int MIN_INSERTION_SORT_MOVES = 8;
+
+	private Renderable[] renderables;
+	private float[] zIndexes;
+	private int size;
+	private int added;
+
+	/**
+	 * Scratch arrays for full sorts, grown as needed
+	 */
+	private long[] sortKeys = new long[0];
+	private Renderable[] sortScratch = new Renderable[0];
+	private float[] zIndexScratch = new float[0];
+
+	/**
+	 * Create an empty queue with the given capacity
+	 *
+	 * @param capacity initial capacity
+	 */
+	RenderQueue(int capacity) {
+		renderables = new Renderable[capacity];
+		zIndexes = new float[capacity];
+	}
+
+	/**
+	 * Add a renderable to the end of the queue. It is moved into order on the next sort.
+	 *
+	 * @param renderable renderable to add
+	 */
+	void add(Renderable renderable) {
+		if (size == renderables.length) {
+			int capacity = Math.max(8, size * 2);
+			renderables = Arrays.copyOf(renderables, capacity);
+			zIndexes = Arrays.copyOf(zIndexes, capacity);
+		}
+		renderables[size] = renderable;
+		zIndexes[size] = renderable.getZIndex();
+		size++;
+		added++;
+	}
+
+	/**
+	 * Remove a renderable from the queue, keeping the order of the rest.
+	 *
+	 * @param renderable renderable to remove, compared by identity
+	 * @return true if the renderable was in the queue
+	 */
+	boolean remove(Renderable renderable) {
+		for (int i = 0; i < size; i++) {
+			if (renderables[i] == renderable) {
+				int moved = size - i - 1;
+				System.arraycopy(renderables, i + 1, renderables, i, moved);
+				System.arraycopy(zIndexes, i + 1, zIndexes, i, moved);
+				renderables[--size] = null;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param index index in rendering order
+	 * @return renderable at that index
+	 */
+	Renderable get(int index) {
+		return renderables[index];
+	}
+
+	/**
+	 * @return number of renderables in the queue
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Remove every renderable from the queue
+	 */
+	void clear() {
+		Arrays.fill(renderables, 0, size, null);
+		size = 0;
+		added = 0;
+	}
+
+	/**
+	 * Put the queue into z index order, lowest first. Renderables with equal z indexes keep their
+	 * current relative order.
+	 */
+	void sort() {
+		int moved = added;
+		added = 0;
+		for (int i = 0; i < size; i++) {
+			float zIndex = renderables[i].getZIndex();
+			if (Float.compare(zIndex, zIndexes[i]) != 0) {
+				zIndexes[i] = zIndex;
+				moved++;
+			}
+		}
+
+		if (moved == 0) {
+			return;
+		}
+		if (moved <= Math.max(MIN_INSERTION_SORT_MOVES, size >> 3)) {
+			insertionSort();
+		} else {
+			fullSort();
+		}
+	}
+
+	/**
+	 * Linear when the queue is nearly sorted, which is the case when only a few renderables moved.
+	 */
+	private void insertionSort() {
+		for (int i = 1; i < size; i++) {
+			float zIndex = zIndexes[i];
+			if (Float.compare(zIndexes[i - 1], zIndex) <= 0) {
+				continue;
+			}
+			Renderable renderable = renderables[i];
+			int j = i - 1;
+			while (j >= 0 && Float.compare(zIndexes[j], zIndex) > 0) {
+				zIndexes[j + 1] = zIndexes[j];
+				renderables[j + 1] = renderables[j];
+				j--;
+			}
+			zIndexes[j + 1] = zIndex;
+			renderables[j + 1] = renderable;
+		}
+	}
+
+	/**
+	 * Sorts without boxing or comparators by packing each z index and its current position into a
+	 * long. The position in the low bits keeps the sort stable.
+	 */
+	private void fullSort() {
+		if (sortKeys.length < size) {
+			sortKeys = new long[renderables.length];
+			sortScratch = new Renderable[renderables.length];
+			zIndexScratch = new float[renderables.length];
+		}
+		for (int i = 0; i < size; i++) {
+			sortKeys[i] = ((long) toSortableBits(zIndexes[i]) << 32) | i;
+		}
+		Arrays.sort(sortKeys, 0, size);
+
+		System.arraycopy(renderables, 0, sortScratch, 0, size);
+		System.arraycopy(zIndexes, 0, zIndexScratch, 0, size);
+		for (int i = 0; i < size; i++) {
+			int from = (int) sortKeys[i];
+			renderables[i] = sortScratch[from];
+			zIndexes[i] = zIndexScratch[from];
+		}
+		Arrays.fill(sortScratch, 0, size, null);
+	}
+
+	/**
+	 * Map a float to an int with the same ordering as {@link Float#compare(float, float)}.
+	 */
+	private static int toSortableBits(float value) {
+		int bits = Float.floatToIntBits(value);
+		return bits ^ ((bits >> 31) & 0x7FFFFFFF);
+	}
+}
@@ -1,25 +1,37 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.csse3200.game.utils.SortedIntMap;
 
 /**
  * Globally accessible service for registering renderable components. Any renderable registered with
- * this service has render() called once per frame.
+ * this service has render() called once per frame, unless a camera has been set and the renderable
+ * is outside its view, in which case renderCulled() is called instead.
  */
 public class RenderService implements Disposable {
 	private static final int INITIAL_LAYER_CAPACITY = 4;
 	private static final int INITIAL_CAPACITY = 4;
+	/**
+	 * Extra world units around each renderable's bounds, so sprites whose size changes between
+	 * frames are not culled while partially visible.
+	 */
+	private static final float CULL_MARGIN = 0.5f;
 	private Stage stage;
 	private DebugRenderer debugRenderer;
+	private Camera camera;
+	private final Rectangle bounds = new Rectangle();
+	private int culledCount;
+	private float interpolationAlpha = 1f;
 
 	/**
 	 * Map from layer to list of renderables, allows us to render each layer in the correct order
 	 */
-	private final SortedIntMap<Array<Renderable>> renderables =
+	private final SortedIntMap<RenderQueue> renderables =
 			new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
 
 	/**
@@ -30,9 +42,9 @@ public class RenderService implements Disposable {
 	public void register(Renderable renderable) {
 		int layerIndex = renderable.getLayer();
 		if (!renderables.containsKey(layerIndex)) {
-			renderables.put(layerIndex, new Array<>(INITIAL_CAPACITY));
+			renderables.put(layerIndex, new RenderQueue(INITIAL_CAPACITY));
 		}
-		Array<Renderable> layer = renderables.get(layerIndex);
+		RenderQueue layer = renderables.get(layerIndex);
 		layer.add(renderable);
 	}
 
@@ -42,9 +54,9 @@ public class RenderService implements Disposable {
 	 * @param renderable renderable to unregister.
 	 */
 	public void unregister(Renderable renderable) {
-		Array<Renderable> layer = renderables.get(renderable.getLayer());
+		RenderQueue layer = renderables.get(renderable.getLayer());
 		if (layer != null) {
-			layer.removeValue(renderable, true);
+			layer.remove(renderable);
 		}
 	}
 
@@ -54,16 +66,73 @@ public class RenderService implements Disposable {
 	 * @param batch batch to render to.
 	 */
 	public void render(SpriteBatch batch) {
-		for (Array<Renderable> layer : renderables) {
-			// Sort into rendering order
+		Frustum frustum = camera == null ? null : camera.frustum;
+		culledCount = 0;
+
+		for (RenderQueue layer : renderables) {
+			// Sort into rendering order, only re-ordering renderables that moved since last frame
 			layer.sort();
 
-			for (Renderable renderable : layer) {
-				renderable.render(batch);
+			for (int i = 0; i < layer.size(); i++) {
+				Renderable renderable = layer.get(i);
+				if (frustum != null && isCulled(renderable, frustum)) {
+					renderable.renderCulled();
+					culledCount++;
+				} else {
+					renderable.render(batch);
+				}
 			}
 		}
 	}
 
+	private boolean isCulled(Renderable renderable, Frustum frustum) {
+		if (!renderable.getWorldBounds(bounds)) {
+			return false;
+		}
+		float halfWidth = Math.abs(bounds.width) / 2f;
+		float halfHeight = Math.abs(bounds.height) / 2f;
+		return !frustum.boundsInFrustum(
+				bounds.x + bounds.width / 2f, bounds.y + bounds.height / 2f, 0f,
+				halfWidth + CULL_MARGIN, halfHeight + CULL_MARGIN, 0f);
+	}
+
+	/**
+	 * Set the camera whose view is used to cull renderables. With no camera, everything is rendered.
+	 *
+	 * @param camera camera the batch is being rendered with, or null to disable culling
+	 */
+	public void setCamera(Camera camera) {
+		this.camera = camera;
+	}
+
+	public Camera getCamera() {
+		return camera;
+	}
+
+	/**
+	 * Set how far the current frame is between the last two simulation ticks. Render components
+	 * draw their entity at its position interpolated by this amount.
+	 *
+	 * @param interpolationAlpha 0 to draw at the state before the last tick, 1 to draw at the
+	 *                           latest state
+	 */
+	public void setInterpolationAlpha(float interpolationAlpha) {
+		this.interpolationAlpha = interpolationAlpha;
+	}
+
+	public float getInterpolationAlpha() {
+		return interpolationAlpha;
+	}
+
+	/**
+	 * Get the number of renderables skipped in the last call to render()
+	 *
+	 * @return number of culled renderables
+	 */
+	public int getCulledCount() {
+		return culledCount;
+	}
+
 	public void setStage(Stage stage) {
 		this.stage = stage;
 	}
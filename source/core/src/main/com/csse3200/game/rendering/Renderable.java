@@ -1,6 +1,7 @@
 package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 
 /**
  * Can be rendered onto the screen given a Sprite batch.
@@ -26,4 +27,23 @@ public interface Renderable extends Comparable<Renderable> {
 	 * @return layer
 	 */
 	int getLayer();
+
+	/**
+	 * Area of the world this renderable draws to, used by the render service to skip renderables
+	 * that are outside the camera's view. Renderables that draw in screen space or must always be
+	 * drawn should return false.
+	 *
+	 * @param out rectangle to write the world bounds into
+	 * @return true if out was set and the renderable can be culled, false otherwise
+	 */
+	default boolean getWorldBounds(Rectangle out) {
+		return false;
+	}
+
+	/**
+	 * Called instead of render() on frames where the renderable has been culled. Renderables with
+	 * per-frame state, such as animation time, should advance it here.
+	 */
+	default void renderCulled() {
+	}
 }
@@ -84,6 +84,7 @@ public class Renderer implements Disposable {
 
 		renderService.setStage(stage);
 		renderService.setDebug(debugRenderer);
+		renderService.setCamera(camera.getCamera());
 		resizeCamera(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
 	}
@@ -96,6 +97,7 @@ public class Renderer implements Disposable {
 	 * Render everything to the render service.
 	 */
 	public void render() {
+		camera.interpolate(renderService.getInterpolationAlpha());
 		Matrix4 projMatrix = camera.getProjectionMatrix();
 		batch.setProjectionMatrix(projMatrix);
 		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
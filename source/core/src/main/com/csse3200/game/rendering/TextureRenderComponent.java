@@ -2,7 +2,6 @@ package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
@@ -36,8 +35,6 @@ public class TextureRenderComponent extends RenderComponent {
 
 	@Override
 	protected void draw(SpriteBatch batch) {
-		Vector2 position = entity.getPosition();
-		Vector2 scale = entity.getScale();
-		batch.draw(texture, position.x, position.y, scale.x, scale.y);
+		batch.draw(texture, getRenderX(), getRenderY(), entity.getScaleX(), entity.getScaleY());
 	}
 }
@@ -4,12 +4,15 @@ import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.csse3200.game.GdxGame;
+import com.csse3200.game.ai.tasks.AIScheduler;
 import com.csse3200.game.areas.SpaceGameArea;
 import com.csse3200.game.areas.terrain.TerrainFactory;
 import com.csse3200.game.components.gamearea.PerformanceDisplay;
 import com.csse3200.game.components.losescreen.LoseScreenDisplay;
 import com.csse3200.game.components.maingame.MainGameActions;
 import com.csse3200.game.components.maingame.PauseMenuActions;
+import com.csse3200.game.components.placeables.IrrigationSystem;
+import com.csse3200.game.components.plants.PlantGrowthSystem;
 import com.csse3200.game.components.plants.PlantInfoDisplayComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityService;
@@ -87,6 +90,7 @@ public class MainGameScreen extends ScreenAdapter {
 	private Entity entity;
 	private final Renderer renderer;
 	private final PhysicsEngine physicsEngine;
+	private final GameLoop gameLoop = new GameLoop();
 
 	public enum ScreenType {
 		MAIN_GAME,
@@ -111,6 +115,9 @@ public class MainGameScreen extends ScreenAdapter {
 		ServiceLocator.registerResourceService(new ResourceService());
 
 		ServiceLocator.registerEntityService(new EntityService());
+		ServiceLocator.registerAIScheduler(new AIScheduler());
+		ServiceLocator.registerLineOfSightService(new LineOfSightService());
+		ServiceLocator.registerPathfindingService(new PathfindingService());
 		ServiceLocator.registerRenderService(new RenderService());
 		ServiceLocator.registerTimeService(new TimeService());
 		ServiceLocator.registerPlanetOxygenService(new PlanetOxygenService());
@@ -119,6 +126,8 @@ public class MainGameScreen extends ScreenAdapter {
 		ServiceLocator.registerPlayerHungerService(new PlayerHungerService());
 		ServiceLocator.registerPlayerMapService(new PlayerMapService());
 		ServiceLocator.registerPlantInfoService(new PlantInfoService());
+		ServiceLocator.registerPlantGrowthSystem(new PlantGrowthSystem());
+		ServiceLocator.registerIrrigationSystem(new IrrigationSystem());
 
 		ServiceLocator.registerUIService(new UIService());
 		ServiceLocator.registerSoundService(new SoundService());
@@ -183,14 +192,32 @@ public class MainGameScreen extends ScreenAdapter {
 		currentScreenType = ScreenType.WIN;
 	}
 
+	/**
+	 * Run as many fixed simulation ticks as have passed since the last frame, then tell the renderer
+	 * how far between the last two ticks this frame is.
+	 */
+	private void updateSimulation() {
+		GameTime timeSource = ServiceLocator.getTimeSource();
+		int ticks = gameLoop.advance(timeSource.getRawDeltaTime());
+		for (int i = 0; i < ticks; i++) {
+			timeSource.beginTick(gameLoop.getTickTime());
+			physicsEngine.update();
+			ServiceLocator.getAIScheduler().beginTick();
+			ServiceLocator.getEntityService().update();
+			ServiceLocator.getGameArea().getClimateController().updateClimate();
+			timeSource.endTick();
+		}
+		ServiceLocator.getRenderService().setInterpolationAlpha(gameLoop.getAlpha());
+	}
+
 	@Override
 	public void render(float delta) {
 		switch (currentScreenType) {
 			case MAIN_GAME -> {
 				if (!ServiceLocator.getTimeService().isPaused()) {
-					physicsEngine.update();
-					ServiceLocator.getEntityService().update();
-					ServiceLocator.getGameArea().getClimateController().updateClimate();
+					updateSimulation();
+				} else {
+					ServiceLocator.getRenderService().setInterpolationAlpha(1f);
 				}
 				ServiceLocator.getTimeService().update();
 				renderer.render();
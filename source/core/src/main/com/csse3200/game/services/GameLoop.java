@@ -0,0 +1,80 @@
+package com.csse3200.game.services;
+
+/**
+ * Drives the simulation at a fixed tick rate, independent of the render rate. Each frame the time
+ * since the last frame is added to an accumulator and turned into a whole number of ticks to run,
+ * with the remainder kept as an interpolation factor for rendering between the last two ticks.
+ * See: https://gafferongames.com/post/fix_your_timestep/
+ * <p>
+ * To stop a slow frame from snowballing into ever longer frames, at most
+ * {@link #MAX_TICKS_PER_FRAME} ticks are run per frame and any further backlog is dropped.
+ */
+public class GameLoop {
+	/**
+	 * Simulation ticks per second
+	 */
+	public static final int TICK_RATE = 60;
+	public static final float TICK_TIME = 1f / TICK_RATE;
+	private static final int MAX_TICKS_PER_FRAME = 5;
+	private static final float MAX_FRAME_TIME = 0.25f;
+
+	private final float tickTime;
+	private final int maxTicksPerFrame;
+	private float accumulator;
+	private float alpha = 1f;
+
+	/**
+	 * Create a game loop running at {@link #TICK_RATE} ticks per second
+	 */
+	public GameLoop() {
+		this(TICK_TIME, MAX_TICKS_PER_FRAME);
+	}
+
+	/**
+	 * Create a game loop with a custom tick length
+	 *
+	 * @param tickTime         length of a tick in seconds
+	 * @param maxTicksPerFrame most ticks to run in a single frame before dropping the backlog
+	 */
+	public GameLoop(float tickTime, int maxTicksPerFrame) {
+		this.tickTime = tickTime;
+		this.maxTicksPerFrame = maxTicksPerFrame;
+	}
+
+	/**
+	 * Advance the loop by a frame.
+	 *
+	 * @param frameTime real time since the last frame in seconds
+	 * @return number of ticks the simulation should run this frame
+	 */
+	public int advance(float frameTime) {
+		accumulator += Math.min(Math.max(frameTime, 0f), MAX_FRAME_TIME);
+		int ticks = (int) (accumulator / tickTime);
+		if (ticks > maxTicksPerFrame) {
+			// Too far behind to catch up, so drop the whole ticks of backlog and carry on from here
+			ticks = maxTicksPerFrame;
+			accumulator %= tickTime;
+		} else {
+			accumulator -= ticks * tickTime;
+		}
+		alpha = Math.min(accumulator / tickTime, 1f);
+		return ticks;
+	}
+
+	/**
+	 * How far the current frame is between the last tick and the next, used to interpolate rendering
+	 * between the last two simulation states.
+	 *
+	 * @return interpolation factor from 0 (last tick's previous state) to 1 (last tick's state)
+	 */
+	public float getAlpha() {
+		return alpha;
+	}
+
+	/**
+	 * @return length of a tick in seconds
+	 */
+	public float getTickTime() {
+		return tickTime;
+	}
+}
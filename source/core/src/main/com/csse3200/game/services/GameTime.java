@@ -12,6 +12,8 @@ public class GameTime {
 	private static Logger logger = LoggerFactory.getLogger(GameTime.class);
 	private final long startTime;
 	private float timeScale = 1f;
+	private boolean inTick;
+	private float tickTime;
 
 	public GameTime() {
 		startTime = TimeUtils.millis();
@@ -29,17 +31,37 @@ public class GameTime {
 	}
 
 	/**
-	 * @return time passed since the last frame in seconds, scaled by time scale.
+	 * Start a fixed simulation tick. Until {@link #endTick()} is called, delta times report the
+	 * length of the tick instead of the time since the last frame.
+	 *
+	 * @param tickTime length of the tick in seconds, before time scale is applied
+	 */
+	public void beginTick(float tickTime) {
+		this.inTick = true;
+		this.tickTime = tickTime;
+	}
+
+	/**
+	 * End the current simulation tick, so delta times report the time since the last frame again.
+	 */
+	public void endTick() {
+		inTick = false;
+	}
+
+	/**
+	 * @return time passed since the last frame (or the length of the current tick) in seconds,
+	 * scaled by time scale.
 	 */
 	public float getDeltaTime() {
-		return Gdx.graphics.getDeltaTime() * timeScale;
+		return getRawDeltaTime() * timeScale;
 	}
 
 	/**
-	 * @return time passed since the last frame in seconds, not affected by time scale.
+	 * @return time passed since the last frame (or the length of the current tick) in seconds, not
+	 * affected by time scale.
 	 */
 	public float getRawDeltaTime() {
-		return Gdx.graphics.getDeltaTime();
+		return inTick ? tickTime : Gdx.graphics.getDeltaTime();
 	}
 
 	/**
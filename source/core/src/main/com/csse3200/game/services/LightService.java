@@ -1,11 +1,49 @@
 package com.csse3200.game.services;
 
+import box2dLight.Light;
 import box2dLight.RayHandler;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 
+import java.util.Comparator;
+
+/**
+ * Renders the game's lights and the ambient light for the time of day.
+ * <p>
+ * Lights added with {@link #addLight(Light, int, boolean)} are managed each frame before rendering.
+ * Lights that are switched on are only enabled in the ray handler if they reach within a margin of the
+ * camera's view, and at most {@link #getMaxLights()} are enabled at once. When there are more lights
+ * in view than that, those with a higher priority are kept first, then those closest to the middle of
+ * the view. Disabled lights are left out of the ray handler's updates entirely.
+ */
 public class LightService {
+	/**
+	 * Priority of most lights
+	 */
+	public static final int DEFAULT_PRIORITY = 1;
+	/**
+	 * Priority of decorative lights, which are the first to be left out when there are too many
+	 */
+	public static final int LOW_PRIORITY = 0;
+	/**
+	 * Default most lights enabled at once
+	 */
+	public static final int DEFAULT_MAX_LIGHTS = 32;
+	/**
+	 * Default distance in world units outside the camera's view that lights are still enabled
+	 */
+	public static final float DEFAULT_CULL_MARGIN = 2f;
+
+	/**
+	 * Higher priorities first, then closest to the camera first
+	 */
+	private static final Comparator<ManagedLight> LIGHT_ORDER = (a, b) -> a.priority != b.priority
+			? Integer.compare(b.priority, a.priority)
+			: Float.compare(a.cameraDistance2, b.cameraDistance2);
+
 	/**
 	 * Box2dLights ray handler that handles all of the rendering of the lights
 	 */
@@ -19,6 +57,15 @@ public class LightService {
 	private Color colourOffset;
 	private float brightnessMultiplier;
 
+	private final ObjectMap<Light, ManagedLight> managedLights = new ObjectMap<>();
+	private final Array<ManagedLight> lights = new Array<>(false, 16);
+	private final Array<ManagedLight> visibleLights = new Array<>(false, 16);
+	private int maxLights = DEFAULT_MAX_LIGHTS;
+	private float cullMargin = DEFAULT_CULL_MARGIN;
+	private int renderedCount;
+	private int culledCount;
+	private int overBudgetCount;
+
 	/**
 	 * Creates a LightService which is accessed via the ServiceLocator and used to create lights
 	 */
@@ -42,9 +89,155 @@ public class LightService {
 		float time = ServiceLocator.getTimeService().getHour() + (float) ServiceLocator.getTimeService().getMinute() / 60;
 		rayHandler.setAmbientLight(getAmbientLight(time));
 		rayHandler.setCombinedMatrix(camera);
+		if (lights.size > 0) {
+			cullLights();
+		}
 		rayHandler.updateAndRender();
 	}
 
+	/**
+	 * Start managing a light, so it is only enabled when it is near the camera's view and within the
+	 * budget of lights
+	 *
+	 * @param light    light to manage
+	 * @param priority how important the light is, lights with a higher priority are kept first
+	 * @param on       whether the light is switched on
+	 */
+	public void addLight(Light light, int priority, boolean on) {
+		ManagedLight managedLight = managedLights.get(light);
+		if (managedLight == null) {
+			managedLight = new ManagedLight(light);
+			managedLights.put(light, managedLight);
+			lights.add(managedLight);
+		}
+		managedLight.priority = priority;
+		managedLight.on = on;
+	}
+
+	/**
+	 * Switch a managed light on or off. Lights that are switched on may still be disabled while they are
+	 * out of view or over budget.
+	 *
+	 * @param light light to switch, ignored if it is not managed
+	 * @param on    whether the light is switched on
+	 */
+	public void setLightOn(Light light, boolean on) {
+		ManagedLight managedLight = managedLights.get(light);
+		if (managedLight != null) {
+			managedLight.on = on;
+		}
+	}
+
+	/**
+	 * Stop managing a light, such as when it is removed
+	 *
+	 * @param light light to stop managing
+	 */
+	public void removeLight(Light light) {
+		ManagedLight managedLight = managedLights.remove(light);
+		if (managedLight != null) {
+			lights.removeValue(managedLight, true);
+		}
+	}
+
+	/**
+	 * Set the most managed lights that are enabled at once
+	 *
+	 * @param maxLights number of lights, must be positive
+	 */
+	public void setMaxLights(int maxLights) {
+		if (maxLights <= 0) {
+			throw new IllegalArgumentException("Max lights must be positive");
+		}
+		this.maxLights = maxLights;
+	}
+
+	/**
+	 * @return most managed lights that are enabled at once
+	 */
+	public int getMaxLights() {
+		return maxLights;
+	}
+
+	/**
+	 * Set how far outside the camera's view a light can reach and still be enabled, so lights don't pop
+	 * in at the edges of the screen as the camera moves
+	 *
+	 * @param cullMargin distance in world units
+	 */
+	public void setCullMargin(float cullMargin) {
+		this.cullMargin = cullMargin;
+	}
+
+	/**
+	 * @return number of managed lights
+	 */
+	public int getLightCount() {
+		return lights.size;
+	}
+
+	/**
+	 * @return number of managed lights enabled in the last frame
+	 */
+	public int getRenderedCount() {
+		return renderedCount;
+	}
+
+	/**
+	 * @return number of switched on lights disabled in the last frame because they were out of view
+	 */
+	public int getCulledCount() {
+		return culledCount;
+	}
+
+	/**
+	 * @return number of switched on lights in view disabled in the last frame because there were too many
+	 */
+	public int getOverBudgetCount() {
+		return overBudgetCount;
+	}
+
+	/**
+	 * Enable the switched on lights that reach into the camera's view, up to the budget of lights, and
+	 * disable the rest
+	 */
+	private void cullLights() {
+		float halfWidth = camera.viewportWidth * camera.zoom / 2 + cullMargin;
+		float halfHeight = camera.viewportHeight * camera.zoom / 2 + cullMargin;
+		float cameraX = camera.position.x;
+		float cameraY = camera.position.y;
+
+		visibleLights.clear();
+		culledCount = 0;
+		for (int i = 0; i < lights.size; i++) {
+			ManagedLight managedLight = lights.get(i);
+			if (!managedLight.on) {
+				continue;
+			}
+			Light light = managedLight.light;
+			float dx = light.getX() - cameraX;
+			float dy = light.getY() - cameraY;
+			float distance = light.getDistance();
+			if (Math.abs(dx) > halfWidth + distance || Math.abs(dy) > halfHeight + distance) {
+				light.setActive(false);
+				culledCount++;
+			} else {
+				managedLight.cameraDistance2 = dx * dx + dy * dy;
+				visibleLights.add(managedLight);
+			}
+		}
+
+		// Only order the lights when some have to be left out
+		if (visibleLights.size > maxLights) {
+			visibleLights.sort(LIGHT_ORDER);
+		}
+		renderedCount = Math.min(visibleLights.size, maxLights);
+		overBudgetCount = visibleLights.size - renderedCount;
+		for (int i = 0; i < visibleLights.size; i++) {
+			visibleLights.get(i).light.setActive(i < maxLights);
+		}
+	}
+
 	/**
 	 * Getter method for the ray handler
 	 *
@@ -88,4 +281,17 @@ public class LightService {
 				1.0f + colourOffset.a);
 	}
 
+	/**
+	 * A light managed by the service, with the state set by whatever owns it
+	 */
+	private static final class ManagedLight {
+		private final Light light;
+		private int priority;
+		private boolean on;
+		private float cameraDistance2;
+
+		private ManagedLight(Light light) {
+			this.light = light;
+		}
+	}
 }
@@ -0,0 +1,186 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.LongMap;
+import com.csse3200.game.areas.GameArea;
+import com.csse3200.game.areas.terrain.GameMap;
+import com.csse3200.game.areas.terrain.TerrainTile;
+import com.csse3200.game.areas.terrain.TileGrid;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.components.ColliderComponent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Answers whether one point on the map can be seen from another, without casting rays through the
+ * physics engine.
+ * <p>
+ * Sight is blocked by the same things that make up the map's static obstacles: non-traversable
+ * terrain, and tiles occupied by an entity with a collider on the {@link PhysicsLayer#OBSTACLE}
+ * layer (fences, gates and other placeables). These are copied out of the map's {@link TileGrid}
+ * into a grid of blocked tiles, which is only rebuilt when a tile changes.
+ * <p>
+ * Visibility is worked out between the tiles the two points are in, by walking every tile the line
+ * between their centres passes through. Since this only depends on the two tiles, results are cached
+ * for each pair of tiles, so NPCs standing near each other looking at the same target share one
+ * answer. The cache is cleared whenever the blocked tiles change.
+ */
+public class LineOfSightService {
+	private static final Logger logger = LoggerFactory.getLogger(LineOfSightService.class);
+	/**
+	 * Most pairs of tiles cached before the cache is cleared, to bound its memory use
+	 */
+	private static final int MAX_CACHED = 4096;
+
+	private final LongMap<Boolean> cache = new LongMap<>();
+	private TileGrid grid;
+	private int gridVersion;
+	private boolean[] blocked = new boolean[0];
+	private int cacheHits;
+	private int cacheMisses;
+
+	/**
+	 * Check whether there is a clear line of sight between two points in the current game area
+	 *
+	 * @param from point in world units to look from
+	 * @param to   point in world units to look at
+	 * @return false if an obstacle is in the way, true otherwise (including when no map is loaded)
+	 */
+	public boolean isVisible(Vector2 from, Vector2 to) {
+		GameArea gameArea = ServiceLocator.getGameArea();
+		GameMap map = gameArea == null ? null : gameArea.getMap();
+		TileGrid tileGrid = map == null ? null : map.getTileGrid();
+		if (tileGrid == null) {
+			return true;
+		}
+		return isVisible(tileGrid, map.worldToTileX(from.x), map.worldToTileY(from.y),
+				map.worldToTileX(to.x), map.worldToTileY(to.y));
+	}
+
+	/**
+	 * Check whether there is a clear line of sight between two tiles. The tiles themselves never
+	 * block sight, only the tiles between them.
+	 *
+	 * @param tileGrid grid of the map's tiles
+	 * @param fromX    x coordinate of the tile to look from
+	 * @param fromY    y coordinate of the tile to look from
+	 * @param toX      x coordinate of the tile to look at
+	 * @param toY      y coordinate of the tile to look at
+	 * @return false if an obstacle is in the way, true otherwise
+	 */
+	public boolean isVisible(TileGrid tileGrid, int fromX, int fromY, int toX, int toY) {
+		if (tileGrid != grid || tileGrid.getVersion() != gridVersion) {
+			rebuild(tileGrid);
+		}
+		if (!tileGrid.isInBounds(fromX, fromY) || !tileGrid.isInBounds(toX, toY)) {
+			return true;
+		}
+
+		int width = tileGrid.getWidth();
+		int fromIndex = fromY * width + fromX;
+		int toIndex = toY * width + toX;
+		// Sight is symmetrical, so order the pair to share the cached result both ways
+		long key = fromIndex < toIndex
+				? ((long) fromIndex << 32) | toIndex
+				: ((long) toIndex << 32) | fromIndex;
+		Boolean cached = cache.get(key);
+		if (cached != null) {
+			cacheHits++;
+			return cached;
+		}
+
+		cacheMisses++;
+		boolean visible = fromIndex < toIndex
+				? walk(width, fromX, fromY, toX, toY)
+				: walk(width, toX, toY, fromX, fromY);
+		if (cache.size >= MAX_CACHED) {
+			cache.clear();
+		}
+		cache.put(key, visible ? Boolean.TRUE : Boolean.FALSE);
+		return visible;
+	}
+
+	/**
+	 * @return number of visibility checks answered from the cache
+	 */
+	public int getCacheHits() {
+		return cacheHits;
+	}
+
+	/**
+	 * @return number of visibility checks that had to walk the grid
+	 */
+	public int getCacheMisses() {
+		return cacheMisses;
+	}
+
+	/**
+	 * Walk the tiles between two tiles, stepping one tile horizontally or vertically at a time in the
+	 * order the line between their centres crosses into them. Only uses integer arithmetic.
+	 *
+	 * @return true if none of the tiles between them are blocked
+	 */
+	private boolean walk(int width, int fromX, int fromY, int toX, int toY) {
+		int dx = toX - fromX;
+		int dy = toY - fromY;
+		int nx = Math.abs(dx);
+		int ny = Math.abs(dy);
+		int stepX = Integer.signum(dx);
+		int stepY = Integer.signum(dy);
+		int x = fromX;
+		int y = fromY;
+		int ix = 0;
+		int iy = 0;
+		while (ix < nx || iy < ny) {
+			// Compare where the line next crosses a vertical and a horizontal tile edge
+			long decision = (1L + 2L * ix) * ny - (1L + 2L * iy) * nx;
+			if (decision == 0) {
+				// Passes exactly through a corner, so step diagonally
+				x += stepX;
+				y += stepY;
+				ix++;
+				iy++;
+			} else if (decision < 0) {
+				x += stepX;
+				ix++;
+			} else {
+				y += stepY;
+				iy++;
+			}
+			if ((x != toX || y != toY) && blocked[y * width + x]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void rebuild(TileGrid tileGrid) {
+		logger.debug("Rebuilding line of sight grid");
+		int width = tileGrid.getWidth();
+		int height = tileGrid.getHeight();
+		if (blocked.length != width * height) {
+			blocked = new boolean[width * height];
+		}
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				blocked[y * width + x] = blocksSight(tileGrid.getTile(x, y));
+			}
+		}
+		grid = tileGrid;
+		gridVersion = tileGrid.getVersion();
+		cache.clear();
+	}
+
+	private static boolean blocksSight(TerrainTile tile) {
+		if (tile == null) {
+			return false;
+		}
+		if (!tile.isTraversable()) {
+			return true;
+		}
+		Entity occupant = tile.getOccupant();
+		ColliderComponent collider = occupant == null ? null : occupant.getComponent(ColliderComponent.class);
+		return collider != null && (collider.getLayer() & PhysicsLayer.OBSTACLE) != 0;
+	}
+}
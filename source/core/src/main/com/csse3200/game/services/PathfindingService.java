@@ -0,0 +1,89 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.movement.FlowField;
+import com.csse3200.game.areas.GameArea;
+import com.csse3200.game.areas.terrain.GameMap;
+import com.csse3200.game.areas.terrain.TileGrid;
+import com.csse3200.game.entities.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Finds the way around obstacles for NPCs moving towards another entity, such as the player, the
+ * ship or a plant.
+ * <p>
+ * Each goal entity has one {@link FlowField}, shared by every NPC heading for it, so a herd of
+ * animals following the player costs one search rather than one each. A field is only worked out
+ * again when its goal moves into another tile or the map's tiles change. Fields are kept for the
+ * goals used most recently, up to {@link #MAX_FIELDS}.
+ */
+public class PathfindingService {
+	private static final Logger logger = LoggerFactory.getLogger(PathfindingService.class);
+	/**
+	 * Most goals that have a flow field kept at once
+	 */
+	public static final int MAX_FIELDS = 16;
+	/**
+	 * Highest cost of getting to a goal that a flow field is worked out to, roughly the number of
+	 * tiles away from it. NPCs further than this from their goal move straight towards it.
+	 */
+	public static final float MAX_COST = 48f;
+
+	private final Map<Entity, FlowField> fields = new LinkedHashMap<>(MAX_FIELDS, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Entity, FlowField> eldest) {
+			return size() > MAX_FIELDS;
+		}
+	};
+	private final GridPoint2 nextTile = new GridPoint2();
+	private int searches;
+
+	/**
+	 * Find the direction to move in from a position to get closer to a goal entity in the current game
+	 * area, going around any non-traversable tiles and preferring faster terrain.
+	 *
+	 * @param goal entity to move towards
+	 * @param from position in world units to move from, usually the centre of the moving entity
+	 * @param out  set to the direction to move in, with a length of 1
+	 * @return true if a direction was found, false if there is no map, the position is in the same
+	 * tile as the goal, or there is no way to the goal within {@link #MAX_COST}
+	 */
+	public boolean getDirection(Entity goal, Vector2 from, Vector2 out) {
+		GameArea gameArea = ServiceLocator.getGameArea();
+		GameMap map = gameArea == null ? null : gameArea.getMap();
+		TileGrid tileGrid = map == null ? null : map.getTileGrid();
+		if (tileGrid == null) {
+			return false;
+		}
+
+		FlowField field = fields.get(goal);
+		if (field == null) {
+			field = new FlowField(MAX_COST);
+			fields.put(goal, field);
+		}
+		if (field.update(tileGrid, map.worldToTileX(goal.getCenterX()), map.worldToTileY(goal.getCenterY()))) {
+			logger.trace("Worked out flow field towards {}", goal);
+			searches++;
+		}
+
+		if (!field.getNextTile(map.worldToTileX(from.x), map.worldToTileY(from.y), nextTile)) {
+			return false;
+		}
+		// Head for the centre of the next tile
+		float tileSize = map.getTerrainComponent().getTileSize();
+		out.set((nextTile.x + 0.5f) * tileSize - from.x, (nextTile.y + 0.5f) * tileSize - from.y).nor();
+		return true;
+	}
+
+	/**
+	 * @return number of flow fields that have been worked out since the service was created
+	 */
+	public int getSearchCount() {
+		return searches;
+	}
+}
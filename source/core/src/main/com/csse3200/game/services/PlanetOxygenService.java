@@ -1,7 +1,5 @@
 package com.csse3200.game.services;
 
-import com.csse3200.game.entities.Entity;
-import com.csse3200.game.entities.EntityType;
 import com.csse3200.game.events.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -132,34 +130,23 @@ public class PlanetOxygenService implements OxygenLevel {
 	}
 
 	/**
-	 * Iterate through the existing entity array and matches up each entity with
-	 * its corresponding oxygen value acquired from the EntityType enum. Then sums
-	 * the hourly oxygen rate of all existing entities to provide the hourly delta.
+	 * Gets the change in oxygen that will be applied at the next hour, based on the entities that
+	 * currently exist. Cheap enough to be shown live in the UI.
+	 *
+	 * @return kilograms of oxygen produced per hour, negative if more is consumed than produced
+	 */
+	public float getHourlyDelta() {
+		return calculateDelta();
+	}
+
+	/**
+	 * Sums the hourly oxygen rate of all existing entities to provide the hourly delta. The entity
+	 * service keeps its entities indexed by type, so this only looks at each entity type once rather
+	 * than every entity.
 	 *
 	 * @return The calculated oxygen change for the hour.
 	 */
 	private float calculateDelta() {
-		// Calculated change in oxygen for the hour
-		float calculatedDelta = 0;
-		EntityType type;
-		// Loop through existing entities in the game to sum their oxygen values.
-		for (Entity entity : ServiceLocator.getEntityService().getEntities()) {
-			logger.debug("Getting the entity type in delta calculation");
-			type = entity.getType();
-			if (type != null) {
-				// Loop through registered entity types for a matching type.
-				for (EntityType enumType : EntityType.values()) {
-					if (type.equals(enumType)) {
-						logger.debug("Adding entity type {}'s oxygen value to the " +
-								"hourly delta", type);
-						calculatedDelta += entity.getType().getOxygenRate();
-						// Break from inner loop after first match as an entity
-						// should only have one type.
-						break;
-					}
-				}
-			}
-		}
-		return calculatedDelta;
+		return ServiceLocator.getEntityService().getOxygenRate();
 	}
 }
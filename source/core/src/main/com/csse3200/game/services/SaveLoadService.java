@@ -8,6 +8,7 @@ import com.csse3200.game.components.player.InventoryComponent;
 import com.csse3200.game.components.player.PlayerActions;
 import com.csse3200.game.components.tractor.TractorActions;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityType;
 import com.csse3200.game.files.SaveGame;
 import com.csse3200.game.files.SaveGame.GameState;
 import org.slf4j.Logger;
@@ -26,7 +27,11 @@ import java.util.HashMap;
 public class SaveLoadService {
 	private static final Logger logger = LoggerFactory.getLogger(SaveLoadService.class);
 	private static final String ROOT_DIR = "saves";
-	private static final String SAVE_FILE = "saveFile.json";
+	private static final String SAVE_FILE = "saveFile.sav";
+	/**
+	 * Saves from before the binary format, still loaded if there is no binary save
+	 */
+	private static final String JSON_SAVE_FILE = "saveFile.json";
 
 	/**
 	 * Saves the current state of the game into a GameState
@@ -47,20 +52,56 @@ public class SaveLoadService {
 		state.setPlayer(ServiceLocator.getGameArea().getPlayer());
 		state.setTractor(ServiceLocator.getGameArea().getTractor());
 
-		state.setEntities(ServiceLocator.getEntityService().getEntities());
-		state.setTiles(ServiceLocator.getEntityService().getEntities());
-		state.setPlaceables(ServiceLocator.getEntityService().getEntities());
+		state.setEntities(getEntitiesOfTypes(GameState.NPC_TYPES));
+		state.setTiles(getEntitiesOfTypes(GameState.TILE_TYPES));
+		state.setPlaceables(getEntitiesOfTypes(GameState.PLACEABLE_TYPES));
 
 		// Write the state to a file
 		SaveGame.set(state, path);
 
-		logger.debug("The current game state has been saved to the file assets/saves/saveFile.json");
+		logger.debug("The current game state has been saved to the file {}", path);
 	}
 
 	public void save() {
 		save(ROOT_DIR + File.separator + SAVE_FILE);
 	}
 
+	/**
+	 * Check whether there is a save file to continue from, in either the binary or JSON format.
+	 *
+	 * @return true if a save file exists
+	 */
+	public static boolean saveFileExists() {
+		return SaveGame.exists(ROOT_DIR + File.separator + SAVE_FILE)
+				|| SaveGame.exists(ROOT_DIR + File.separator + JSON_SAVE_FILE);
+	}
+
+	/**
+	 * Path of the save file to load by default, preferring the binary save over an older JSON one.
+	 *
+	 * @return path of the default save file
+	 */
+	private static String getDefaultSavePath() {
+		String binaryPath = ROOT_DIR + File.separator + SAVE_FILE;
+		String jsonPath = ROOT_DIR + File.separator + JSON_SAVE_FILE;
+		return !SaveGame.exists(binaryPath) && SaveGame.exists(jsonPath) ? jsonPath : binaryPath;
+	}
+
+	/**
+	 * Collects the registered entities of the given types from the EntityService's type index,
+	 * so saving only touches entities that will actually be written.
+	 *
+	 * @param types the entity types to collect
+	 * @return a new Array containing every registered entity of the given types
+	 */
+	private Array<Entity> getEntitiesOfTypes(EntityType[] types) {
+		Array<Entity> entities = new Array<>();
+		for (EntityType type : types) {
+			entities.addAll(ServiceLocator.getEntityService().getEntitiesOfType(type));
+		}
+		return entities;
+	}
+
 	/**
 	 * Load function which based on contents in saveFile.json
 	 * Makes the game state match saveFile.json
@@ -74,16 +115,16 @@ public class SaveLoadService {
 
 		SaveGame.GameState state = SaveGame.get(path);
 		if (state == null) {
-			logger.error("Couldn't read the file assets/saves/saveFile.json");
+			logger.error("Couldn't read the file {}", path);
 			return;
 		}
 
 		updateGame(state);
-		logger.debug("The game state has been loaded from the file assets/saves/saveFile.json");
+		logger.debug("The game state has been loaded from the file {}", path);
 	}
 
 	public void load() {
-		load(ROOT_DIR + File.separator + SAVE_FILE);
+		load(getDefaultSavePath());
 	}
 
 	/**
@@ -93,7 +134,7 @@ public class SaveLoadService {
 	 * @return true if there exists a valid save file, false otherwise
 	 */
 	public boolean validSaveFile() {
-		return validSaveFile(ROOT_DIR + File.separator + SAVE_FILE);
+		return validSaveFile(getDefaultSavePath());
 	}
 
 	public boolean validSaveFile(String path) {
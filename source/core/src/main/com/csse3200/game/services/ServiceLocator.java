@@ -5,6 +5,9 @@ import com.csse3200.game.areas.GameArea;
 import com.csse3200.game.components.CameraComponent;
 import com.csse3200.game.components.gamearea.GameAreaDisplay;
 import com.csse3200.game.components.inventory.InventoryDisplayManager;
+import com.csse3200.game.ai.tasks.AIScheduler;
+import com.csse3200.game.components.placeables.IrrigationSystem;
+import com.csse3200.game.components.plants.PlantGrowthSystem;
 import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.input.InputService;
 import com.csse3200.game.missions.MissionManager;
@@ -53,6 +56,11 @@ public class ServiceLocator {
 	private static PlayerMapService playerMapService;
 
 	private static PlantInfoService plantInfoService;
+	private static PlantGrowthSystem plantGrowthSystem;
+	private static IrrigationSystem irrigationSystem;
+	private static AIScheduler aiScheduler;
+	private static LineOfSightService lineOfSightService;
+	private static PathfindingService pathfindingService;
 	private static boolean cutSceneRunning; // true for running and false otherwise
 
 	private static ParticleService particleService;
@@ -65,6 +73,26 @@ public class ServiceLocator {
 		return plantInfoService;
 	}
 
+	public static PlantGrowthSystem getPlantGrowthSystem() {
+		return plantGrowthSystem;
+	}
+
+	public static IrrigationSystem getIrrigationSystem() {
+		return irrigationSystem;
+	}
+
+	public static AIScheduler getAIScheduler() {
+		return aiScheduler;
+	}
+
+	public static LineOfSightService getLineOfSightService() {
+		return lineOfSightService;
+	}
+
+	public static PathfindingService getPathfindingService() {
+		return pathfindingService;
+	}
+
 	public static boolean god = false;
 
 	public static GameArea getGameArea() {
@@ -238,6 +266,31 @@ public class ServiceLocator {
 		plantInfoService = source;
 	}
 
+	public static void registerPlantGrowthSystem(PlantGrowthSystem source) {
+		logger.debug("Registering plant growth system {}", source);
+		plantGrowthSystem = source;
+	}
+
+	public static void registerIrrigationSystem(IrrigationSystem source) {
+		logger.debug("Registering irrigation system {}", source);
+		irrigationSystem = source;
+	}
+
+	public static void registerAIScheduler(AIScheduler source) {
+		logger.debug("Registering AI scheduler {}", source);
+		aiScheduler = source;
+	}
+
+	public static void registerLineOfSightService(LineOfSightService source) {
+		logger.debug("Registering line of sight service {}", source);
+		lineOfSightService = source;
+	}
+
+	public static void registerPathfindingService(PathfindingService source) {
+		logger.debug("Registering pathfinding service {}", source);
+		pathfindingService = source;
+	}
+
 	public static void registerLightService(LightService source) {
 		logger.debug("Registering light service {}", source);
 		lightService = source;
@@ -283,6 +336,11 @@ public class ServiceLocator {
 		lightService = null;
 		particleService = null;
 		timeService = null;
+		plantGrowthSystem = null;
+		irrigationSystem = null;
+		aiScheduler = null;
+		lineOfSightService = null;
+		pathfindingService = null;
 		uiService = null;
 	}
 
@@ -1,6 +1,7 @@
 package com.csse3200.game.services;
 
 import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.EventKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -9,6 +10,12 @@ public class TimeService {
 	private static final int MS_IN_MINUTE = 500;
 	private static final int MORNING_HOUR = 6;
 	private static final int NIGHT_HOUR = 20;
+	private static final int MINUTES_IN_HOUR = 60;
+	private static final int MINUTES_IN_DAY = 24 * MINUTES_IN_HOUR;
+	/**
+	 * Seconds of game time that pass in each in-game minute, given to fastForward listeners
+	 */
+	private static final float SECONDS_IN_MINUTE = MS_IN_MINUTE / 1000f;
 
 	private int minute;
 	private int hour;
@@ -18,11 +25,13 @@ public class TimeService {
 	private boolean paused;
 	private final EventHandler events;
 
-	private static final String DAY_UPDATE = "dayUpdate";
+	private static final EventKey DAY_UPDATE = EventKey.of("dayUpdate");
+
+	private static final EventKey MINUTE_UPDATE = EventKey.of("minuteUpdate");
 
-	private static final String MINUTE_UPDATE = "minuteUpdate";
+	private static final EventKey HOUR_UPDATE = EventKey.of("hourUpdate");
 
-	private static final String HOUR_UPDATE = "hourUpdate";
+	private static final EventKey FAST_FORWARD = EventKey.of("fastForward");
 
 
 	/**
@@ -261,6 +270,74 @@ public class TimeService {
 		events.trigger(DAY_UPDATE);
 	}
 
+	/**
+	 * Skips forward to the next time the clock reaches the given hour, see {@link #fastForward(int)}.
+	 *
+	 * @param hour in-game hour to skip to, rounded to 0 minutes
+	 */
+	public void fastForwardTo(int hour) {
+		if (hour < 0 || hour > 23) {
+			logger.warn("Incorrect hour value given: {}", hour);
+			return;
+		}
+		int minutes = Math.floorMod(hour * MINUTES_IN_HOUR - (this.hour * MINUTES_IN_HOUR + minute), MINUTES_IN_DAY);
+		fastForward(minutes == 0 ? MINUTES_IN_DAY : minutes);
+	}
+
+	/**
+	 * Skips forward to the next morning, see {@link #fastForward(int)}.
+	 */
+	public void fastForwardToMorning() {
+		fastForwardTo(MORNING_HOUR);
+	}
+
+	/**
+	 * Advances the in-game time by a number of minutes straight away, rather than over many frames
+	 * with a large time scale.
+	 * <p>
+	 * Every minute, hour and day event is triggered in order, one minute at a time, so time based
+	 * systems such as plant growth, oxygen, hunger, weather and quests behave as if the time had
+	 * passed normally. Before each minute, a fastForward event is triggered with the seconds of game
+	 * time that minute covers, for systems that are normally advanced by the frame's delta time, so
+	 * anything reading them on a minute event (such as plants reading their tile's water) sees them
+	 * up to date. Physics, AI and rendering do not run for the skipped time.
+	 *
+	 * @param minutes number of in-game minutes to skip
+	 */
+	public void fastForward(int minutes) {
+		if (minutes <= 0) {
+			return;
+		}
+		logger.debug("Fast forwarding {} minutes", minutes);
+		for (int i = 0; i < minutes; i++) {
+			events.trigger(FAST_FORWARD, SECONDS_IN_MINUTE);
+			advanceMinute();
+		}
+		timeBuffer = 0;
+	}
+
+	/**
+	 * Move the time on by a single minute, triggering the same events as {@link #update()}.
+	 */
+	private void advanceMinute() {
+		minute++;
+		if (minute < MINUTES_IN_HOUR) {
+			events.trigger(MINUTE_UPDATE);
+			return;
+		}
+		minute = 0;
+		hour++;
+		events.trigger(MINUTE_UPDATE);
+		if (hour < 24) {
+			triggerHourEvents();
+			return;
+		}
+		hour = 0;
+		day++;
+		triggerHourEvents();
+		events.trigger(DAY_UPDATE);
+	}
+
 	public void loadTime(int day, int hour, int minute) {
 		setDay(day);
 		setHour(hour);
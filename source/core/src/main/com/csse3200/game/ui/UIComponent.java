@@ -1,6 +1,7 @@
 package com.csse3200.game.ui;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.csse3200.game.rendering.RenderComponent;
@@ -31,4 +32,10 @@ public abstract class UIComponent extends RenderComponent implements Renderable
 	public float getZIndex() {
 		return 1f;
 	}
+
+	@Override
+	public boolean getWorldBounds(Rectangle out) {
+		// UI is drawn in screen space, so is never outside the camera's view
+		return false;
+	}
 }
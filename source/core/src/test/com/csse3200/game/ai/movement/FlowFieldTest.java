@@ -0,0 +1,124 @@
+package com.csse3200.game.ai.movement;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.csse3200.game.areas.terrain.TileGrid;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class FlowFieldTest {
+	private static final int WIDTH = 8;
+	private static final int HEIGHT = 8;
+	private boolean[] traversable;
+	private float[] speedModifiers;
+	private TileGrid grid;
+
+	@BeforeEach
+	void setUp() {
+		traversable = new boolean[WIDTH * HEIGHT];
+		Arrays.fill(traversable, true);
+		speedModifiers = new float[WIDTH * HEIGHT];
+		Arrays.fill(speedModifiers, 1f);
+		grid = mock(TileGrid.class);
+		when(grid.getWidth()).thenReturn(WIDTH);
+		when(grid.getHeight()).thenReturn(HEIGHT);
+		when(grid.isInBounds(anyInt(), anyInt())).thenAnswer(
+				invocation -> inBounds(invocation.getArgument(0), invocation.getArgument(1)));
+		when(grid.isTraversable(anyInt(), anyInt())).thenAnswer(invocation -> {
+			int x = invocation.getArgument(0);
+			int y = invocation.getArgument(1);
+			return inBounds(x, y) && traversable[y * WIDTH + x];
+		});
+		when(grid.getSpeedModifier(anyInt(), anyInt())).thenAnswer(
+				invocation -> speedModifiers[invocation.<Integer>getArgument(1) * WIDTH + invocation.<Integer>getArgument(0)]);
+	}
+
+	@Test
+	void shouldLeadStraightToGoalOverOpenGround() {
+		FlowField field = new FlowField(48f);
+		field.update(grid, 4, 4);
+		GridPoint2 next = new GridPoint2();
+
+		assertEquals(0f, field.getCost(4, 4));
+		assertEquals(2f, field.getCost(6, 4), 0.001f);
+		assertTrue(field.getNextTile(6, 4, next));
+		assertEquals(new GridPoint2(5, 4), next);
+		assertTrue(field.getNextTile(2, 2, next));
+		assertEquals(new GridPoint2(3, 3), next);
+		assertFalse(field.getNextTile(4, 4, next));
+	}
+
+	@Test
+	void shouldLeadAroundWalls() {
+		// Wall along x = 3 from y = 0 to y = 6, with a gap at the top
+		for (int y = 0; y < 7; y++) {
+			traversable[y * WIDTH + 3] = false;
+		}
+		FlowField field = new FlowField(48f);
+		field.update(grid, 6, 0);
+		GridPoint2 next = new GridPoint2(0, 0);
+
+		assertEquals(Float.POSITIVE_INFINITY, field.getCost(3, 2));
+		int steps = 0;
+		while (field.getNextTile(next.x, next.y, next)) {
+			assertTrue(traversable[next.y * WIDTH + next.x]);
+			steps++;
+		}
+		assertEquals(new GridPoint2(6, 0), next);
+		assertTrue(steps > 6);
+	}
+
+	@Test
+	void shouldPreferFasterTerrain() {
+		// Slow row between the start and goal, so going around it is quicker
+		for (int x = 0; x < WIDTH; x++) {
+			speedModifiers[2 * WIDTH + x] = 0.1f;
+		}
+		speedModifiers[2 * WIDTH + 7] = 1f;
+		FlowField field = new FlowField(48f);
+		field.update(grid, 6, 4);
+		GridPoint2 next = new GridPoint2();
+
+		assertTrue(field.getNextTile(6, 0, next));
+		assertEquals(new GridPoint2(7, 1), next);
+	}
+
+	@Test
+	void shouldNotReachTilesBeyondMaxCost() {
+		FlowField field = new FlowField(3f);
+		field.update(grid, 0, 0);
+
+		assertEquals(3f, field.getCost(3, 0), 0.001f);
+		assertEquals(Float.POSITIVE_INFINITY, field.getCost(4, 0));
+		assertFalse(field.getNextTile(7, 7, new GridPoint2()));
+	}
+
+	@Test
+	void shouldOnlyUpdateWhenGoalOrGridChanges() {
+		FlowField field = new FlowField(48f);
+
+		assertTrue(field.update(grid, 2, 2));
+		assertFalse(field.update(grid, 2, 2));
+		assertTrue(field.update(grid, 3, 2));
+
+		traversable[2 * WIDTH + 4] = false;
+		when(grid.getVersion()).thenReturn(1);
+		assertTrue(field.update(grid, 3, 2));
+		assertEquals(Float.POSITIVE_INFINITY, field.getCost(4, 2));
+		// Goes around the new wall rather than keeping the old cost
+		assertEquals(4f, field.getCost(5, 2), 0.001f);
+	}
+
+	private static boolean inBounds(int x, int y) {
+		return x >= 0 && y >= 0 && x < WIDTH && y < HEIGHT;
+	}
+}
@@ -1,9 +1,12 @@
 package com.csse3200.game.ai.tasks;
 
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -76,4 +79,89 @@ class AITaskComponentTest {
 
 		verify(task).stop();
 	}
+
+	@Test
+	void shouldOnlyReEvaluateAtSchedulerRate() {
+		registerScheduler(new AIScheduler(10f, Long.MAX_VALUE));
+		AITaskComponent taskComponent = new AITaskComponent();
+		PriorityTask lowPriorityTask = mockTask(1);
+		PriorityTask highPriorityTask = mockTask(-1);
+		taskComponent.addTask(lowPriorityTask);
+		taskComponent.addTask(highPriorityTask);
+
+		taskComponent.update();
+		verify(lowPriorityTask).start();
+
+		// Not re-evaluated on the next frame, but the current task keeps updating
+		when(highPriorityTask.getPriority()).thenReturn(2);
+		taskComponent.update();
+		verify(highPriorityTask, never()).start();
+		verify(lowPriorityTask, times(2)).update();
+
+		// Re-evaluated within an interval of 0.1 seconds
+		for (int i = 0; i < 5; i++) {
+			taskComponent.update();
+		}
+		verify(highPriorityTask).start();
+		verify(lowPriorityTask).stop();
+	}
+
+	@Test
+	void shouldReEvaluateWhenCurrentTaskStops() {
+		registerScheduler(new AIScheduler(1f, Long.MAX_VALUE));
+		AITaskComponent taskComponent = new AITaskComponent();
+		PriorityTask timedTask = mockTask(2);
+		PriorityTask wanderTask = mockTask(1);
+		taskComponent.addTask(timedTask);
+		taskComponent.addTask(wanderTask);
+		taskComponent.update();
+		verify(timedTask).start();
+
+		when(timedTask.getPriority()).thenReturn(-1);
+		when(timedTask.getStatus()).thenReturn(Task.Status.INACTIVE);
+		taskComponent.update();
+
+		verify(wanderTask).start();
+		verify(wanderTask).update();
+	}
+
+	@Test
+	void shouldDeferEvaluationsOverBudget() {
+		AIScheduler scheduler = new AIScheduler(10f, 1L);
+		registerScheduler(scheduler);
+		AITaskComponent taskComponent = new AITaskComponent();
+		PriorityTask task = mockTask(1);
+		taskComponent.addTask(task);
+		taskComponent.update();
+
+		// Use up the budget for each frame before the component is due
+		for (int i = 0; i < 10; i++) {
+			scheduler.beginTick();
+			scheduler.recordEvaluation(1L);
+			taskComponent.update();
+		}
+		scheduler.beginTick();
+
+		verify(task, times(1)).getPriority();
+		assertEquals(1, scheduler.getDeferredCount());
+		assertEquals(7, scheduler.getTotalDeferredCount());
+
+		// Evaluated once there is budget again
+		taskComponent.update();
+		verify(task, times(2)).getPriority();
+	}
+
+	private static void registerScheduler(AIScheduler scheduler) {
+		GameTime gameTime = mock(GameTime.class);
+		when(gameTime.getDeltaTime()).thenReturn(0.02f);
+		ServiceLocator.registerTimeSource(gameTime);
+		ServiceLocator.registerAIScheduler(scheduler);
+	}
+
+	private static PriorityTask mockTask(int priority) {
+		PriorityTask task = mock(PriorityTask.class);
+		when(task.getPriority()).thenReturn(priority);
+		when(task.getStatus()).thenReturn(Task.Status.ACTIVE);
+		return task;
+	}
 }
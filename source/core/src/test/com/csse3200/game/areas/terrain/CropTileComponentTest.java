@@ -136,14 +136,9 @@ class CropTileComponentTest {
 		GameTime gameTime = mock(GameTime.class);
 		ServiceLocator.registerTimeSource(gameTime);
 		when(gameTime.getDeltaTime()).thenReturn(4000f / 1000);
+		CropWaterClock waterClock = ServiceLocator.getGameArea().getClimateController().getCropWaterClock();
 		for (int i = 0; i < 10; i++) {
-			cropTile1.update();
-			cropTile2.update();
-			cropTile3.update();
-			cropTile4.update();
-			cropTile5.update();
-			cropTile6.update();
-			cropTile7.update();
+			waterClock.update(gameTime.getDeltaTime());
 		}
 		assertEquals(0.49958, cropTile1.getComponent(CropTileComponent.class).getGrowthRate(), 0.00001);
 		assertEquals(0.26197, cropTile2.getComponent(CropTileComponent.class).getGrowthRate(), 0.00001);
@@ -161,13 +156,7 @@ class CropTileComponentTest {
 		cropTile7.getEvents().trigger("fertilise");
 		//tests whether getTexturePath() goes down the correct way
 		for (int i = 0; i < 10; i++) {
-			cropTile1.update();
-			cropTile2.update();
-			cropTile3.update();
-			cropTile4.update();
-			cropTile5.update();
-			cropTile6.update();
-			cropTile7.update();
+			waterClock.update(gameTime.getDeltaTime());
 		}
 		assertEquals(0.99663, cropTile1.getComponent(CropTileComponent.class).getGrowthRate(), 0.00001);
 		assertEquals(0.49378, cropTile2.getComponent(CropTileComponent.class).getGrowthRate(), 0.00001);
@@ -178,6 +167,68 @@ class CropTileComponentTest {
 		assertEquals(-1, cropTile7.getComponent(CropTileComponent.class).getGrowthRate(), 0.0f);
 	}
 
+	@Test
+	void shouldOnlyChangeTextureWhenThresholdCrossed() {
+		DynamicTextureRenderComponent texture = mock(DynamicTextureRenderComponent.class);
+		CropTileComponent cropTileComponent = new CropTileComponent(0.6f, 1.0f);
+		Entity cropTile = new Entity().addComponent(cropTileComponent).addComponent(texture);
+		cropTile.create();
+		verify(texture).setTexture("images/watered_cropTile.png");
+
+		// Loses 0.05 water per update
+		CropWaterClock waterClock = ServiceLocator.getGameArea().getClimateController().getCropWaterClock();
+		waterClock.update(100f);
+		assertEquals(0.55f, cropTileComponent.getWaterContent(), 0.0001f);
+		verify(texture, times(1)).setTexture(anyString());
+
+		waterClock.update(100f);
+		waterClock.update(100f);
+		assertEquals(0.45f, cropTileComponent.getWaterContent(), 0.0001f);
+		verify(texture).setTexture("images/cropTile.png");
+
+		waterClock.update(100f);
+		verify(texture, times(2)).setTexture(anyString());
+	}
+
+	@Test
+	void shouldFillUpWhenWeatherAddsWater() {
+		CropTileComponent cropTileComponent = cropTile1.getComponent(CropTileComponent.class);
+		ClimateController climateController = ServiceLocator.getGameArea().getClimateController();
+		CropWaterClock waterClock = climateController.getCropWaterClock();
+
+		climateController.getEvents().trigger("startWaterLevelEffect", -0.01f);
+		waterClock.update(50f);
+		assertEquals(1.5f, cropTileComponent.getWaterContent(), 0.0001f);
+		waterClock.update(100f);
+		assertEquals(2f, cropTileComponent.getWaterContent(), 0.0001f);
+
+		climateController.getEvents().trigger("stopWaterLevelEffect");
+		waterClock.update(100f);
+		assertEquals(1.95f, cropTileComponent.getWaterContent(), 0.0001f);
+	}
+
+	@Test
+	void shouldRunDryPartwayThroughSkippedTime() {
+		ClimateController climateController = ServiceLocator.getGameArea().getClimateController();
+		climateController.initialiseEvents();
+		TimeService timeService = ServiceLocator.getTimeService();
+		Entity cropTile = new Entity().addComponent(new CropTileComponent(0.0096f, 0.5f));
+		cropTile.create();
+		CropTileComponent cropTileComponent = cropTile.getComponent(CropTileComponent.class);
+		int[] dryMinute = {-1};
+		timeService.getEvents().addListener("minuteUpdate", () -> {
+			if (dryMinute[0] < 0 && cropTileComponent.getWaterContent() == 0) {
+				dryMinute[0] = timeService.getMinute();
+			}
+		});
+
+		// Each skipped minute dries the tile by 0.00025, so it is dry 39 minutes in
+		timeService.fastForward(50);
+
+		assertEquals(39, dryMinute[0]);
+		assertEquals(-1.0, cropTileComponent.getGrowthRate(), 0.0f);
+	}
+
 	@Test
 	void testSetUnoccupiedWhenUnoccupied() {
 		EntityService mockEntityService = mock(EntityService.class);
@@ -5,6 +5,7 @@ import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.areas.TestGameArea;
 import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
@@ -15,9 +16,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.ArrayList;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
@@ -181,6 +187,72 @@ class GameMapTest {
 		assertEquals(nonTraversableTilesList, arrayList);
 	}
 
+	@Test
+	void testTileGridMatchesTiles() {
+		TileGrid grid = gameMap.getTileGrid();
+		assertEquals(4, grid.getWidth());
+		assertEquals(4, grid.getHeight());
+		for (int x = 0; x < grid.getWidth(); x++) {
+			for (int y = 0; y < grid.getHeight(); y++) {
+				TerrainTile tile = gameMap.getTile(new GridPoint2(x, y));
+				assertSame(tile, gameMap.getTile(x, y));
+				assertEquals(tile.getTerrainCategory(), grid.getTerrainCategory(x, y));
+				assertEquals(tile.isTraversable(), grid.isTraversable(x, y));
+				assertEquals(tile.isTillable(), grid.isTillable(x, y));
+				assertEquals(tile.getSpeedModifier(), grid.getSpeedModifier(x, y));
+			}
+		}
+	}
+
+	@Test
+	void testGetTileOutOfBounds() {
+		assertNull(gameMap.getTile(-1, 0));
+		assertNull(gameMap.getTile(0, 4));
+		assertNull(gameMap.getTile(new Vector2(4.5f, 0)));
+		assertFalse(gameMap.getTileGrid().isTraversable(4, 0));
+		assertEquals(1f, gameMap.getSpeedModifier(-0.5f, 0f));
+	}
+
+	@Test
+	void testTileGridTracksOccupant() {
+		Entity occupant = new Entity();
+		TerrainTile tile = gameMap.getTile(1, 2);
+		TileGrid grid = gameMap.getTileGrid();
+
+		tile.setOccupant(occupant);
+		assertTrue(grid.isOccupied(1, 2));
+		assertEquals(occupant.getId(), grid.getOccupantId(1, 2));
+
+		tile.removeOccupant();
+		assertFalse(grid.isOccupied(1, 2));
+		assertEquals(TileGrid.NO_OCCUPANT, grid.getOccupantId(1, 2));
+	}
+
+	@Test
+	void testRandomSpawnableTileIsTraversableAndUnoccupied() {
+		TileGrid grid = gameMap.getTileGrid();
+		assertEquals(traversableTilesList.size(), grid.getSpawnableTileCount());
+
+		// Occupy every traversable tile but one
+		Entity occupant = new Entity();
+		GridPoint2 free = traversableTilesList.get(3);
+		for (GridPoint2 tile : traversableTilesList) {
+			if (!tile.equals(free)) {
+				gameMap.getTile(tile).setOccupant(occupant);
+			}
+		}
+		assertEquals(1, grid.getSpawnableTileCount());
+		Random random = new Random(0);
+		for (int i = 0; i < 10; i++) {
+			assertEquals(free, gameMap.getRandomSpawnableTile(random));
+		}
+
+		for (GridPoint2 tile : traversableTilesList) {
+			gameMap.getTile(tile).removeOccupant();
+		}
+		assertEquals(traversableTilesList.size(), grid.getSpawnableTileCount());
+	}
+
 	@AfterEach
 	void cleanUp() {
 		// Clears all loaded services
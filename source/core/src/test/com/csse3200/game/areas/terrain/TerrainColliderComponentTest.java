@@ -0,0 +1,133 @@
+package com.csse3200.game.areas.terrain;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.physics.box2d.World;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.factories.ObstacleFactory;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class TerrainColliderComponentTest {
+	@Test
+	void shouldMergeBlockedAreaIntoOneRectangle() {
+		boolean[] blocked = grid(4, 3,
+				"....",
+				".##.",
+				".##.");
+
+		List<Rectangle> merged = merge(blocked, 4, 3);
+
+		assertEquals(1, merged.size());
+		assertEquals(new Rectangle(1, 0, 2, 2), merged.get(0));
+	}
+
+	@Test
+	void shouldCoverEveryBlockedTileExactlyOnce() {
+		int width = 6;
+		int height = 5;
+		boolean[] blocked = grid(width, height,
+				"######",
+				"#....#",
+				"#.##.#",
+				"#....#",
+				"######");
+
+		List<Rectangle> merged = merge(blocked, width, height);
+
+		int[] coverage = new int[width * height];
+		for (Rectangle rectangle : merged) {
+			for (int y = (int) rectangle.y; y < rectangle.y + rectangle.height; y++) {
+				for (int x = (int) rectangle.x; x < rectangle.x + rectangle.width; x++) {
+					coverage[y * width + x]++;
+				}
+			}
+		}
+		for (int i = 0; i < blocked.length; i++) {
+			assertEquals(blocked[i] ? 1 : 0, coverage[i]);
+		}
+		// Bottom and top rows, two side columns and the middle block
+		assertEquals(5, merged.size());
+	}
+
+	@Test
+	void shouldOnlyMergeWithinRegion() {
+		boolean[] blocked = grid(4, 1, "####");
+		boolean[] used = new boolean[blocked.length];
+		List<Rectangle> merged = new ArrayList<>();
+
+		TerrainColliderComponent.mergeRectangles(blocked, used, 4, 0, 0, 2, 1, merged);
+		TerrainColliderComponent.mergeRectangles(blocked, used, 4, 2, 0, 4, 1, merged);
+
+		assertEquals(2, merged.size());
+		assertEquals(new Rectangle(0, 0, 2, 1), merged.get(0));
+		assertEquals(new Rectangle(2, 0, 2, 1), merged.get(1));
+		for (boolean tileUsed : used) {
+			assertFalse(tileUsed);
+		}
+	}
+
+	@Test
+	void shouldMergeNothingWhenAllTraversable() {
+		assertTrue(merge(new boolean[9], 3, 3).isEmpty());
+	}
+
+	@Test
+	void shouldDisposeWholeColliderEntity() {
+		ServiceLocator.registerPhysicsService(new PhysicsService());
+		World world = ServiceLocator.getPhysicsService().getPhysics().getWorld();
+		// Deep water down the left of the map, over two chunks
+		GameMap gameMap = mock(GameMap.class);
+		when(gameMap.getMapSize()).thenReturn(new GridPoint2(20, 20));
+		when(gameMap.getTile(any(GridPoint2.class))).thenAnswer(invocation -> {
+			GridPoint2 tile = invocation.getArgument(0);
+			return new TerrainTile(null, tile.x < 4
+					? TerrainTile.TerrainCategory.DEEPWATER : TerrainTile.TerrainCategory.DIRT);
+		});
+		Entity entity = ObstacleFactory.createTerrainCollider(gameMap, 1f);
+		entity.create();
+		TerrainColliderComponent collider = entity.getComponent(TerrainColliderComponent.class);
+		assertEquals(2, collider.getFixtureCount());
+		assertEquals(1, world.getBodyCount());
+
+		// The physics component frees the fixtures with the body, whichever is disposed first
+		entity.dispose();
+
+		assertEquals(0, world.getBodyCount());
+		assertEquals(0, collider.getFixtureCount());
+		collider.refreshTile(new GridPoint2(0, 0));
+	}
+
+	private static List<Rectangle> merge(boolean[] blocked, int width, int height) {
+		List<Rectangle> merged = new ArrayList<>();
+		TerrainColliderComponent.mergeRectangles(
+				blocked, new boolean[blocked.length], width, 0, 0, width, height, merged);
+		return merged;
+	}
+
+	/**
+	 * Build a grid from rows of text, top row first, where '#' is a blocked tile
+	 */
+	private static boolean[] grid(int width, int height, String... rows) {
+		boolean[] blocked = new boolean[width * height];
+		for (int row = 0; row < height; row++) {
+			int y = height - 1 - row;
+			for (int x = 0; x < width; x++) {
+				blocked[y * width + x] = rows[row].charAt(x) == '#';
+			}
+		}
+		return blocked;
+	}
+}
@@ -3,7 +3,6 @@ package com.csse3200.game.components;
 import box2dLight.ConeLight;
 import box2dLight.RayHandler;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.services.LightService;
@@ -103,14 +102,14 @@ class ConeLightComponentTest {
 			ConeLightComponent component = entity.getComponent(ConeLightComponent.class);
 			light = mock.constructed().get(0);
 
-			Vector2 position = new Vector2(0, 0);
-			Vector2 centrePosition = new Vector2(0.5f, 0.5f);
-
-			entity.setPosition(position);
+			entity.setPosition(0, 0);
+			component.update();
+			entity.setPosition(1, 2);
 			component.update();
 
-			// Once on create, once on update
-			verify(light, times(2)).setPosition(centrePosition);
+			// Only moved when created and when the entity moves
+			verify(light, times(1)).setPosition(0.5f, 0.5f);
+			verify(light, times(1)).setPosition(1.5f, 2.5f);
 		}
 	}
 
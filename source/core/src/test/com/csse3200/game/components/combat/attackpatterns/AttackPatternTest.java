@@ -7,6 +7,7 @@ import com.csse3200.game.components.InteractionDetector;
 import com.csse3200.game.components.combat.CombatStatsComponent;
 import com.csse3200.game.components.combat.ProjectileComponent;
 import com.csse3200.game.components.plants.PlantComponent;
+import com.csse3200.game.components.plants.PlantGrowthSystem;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityType;
 import com.csse3200.game.extensions.GameExtension;
@@ -62,6 +63,7 @@ class AttackPatternTest {
 
 		// Plant stuff
 		ServiceLocator.registerTimeService(new TimeService());
+		ServiceLocator.registerPlantGrowthSystem(new PlantGrowthSystem());
 		ServiceLocator.registerPlantCommandService(new PlantCommandService());
 		ServiceLocator.registerPlantInfoService(mock(PlantInfoService.class));
 
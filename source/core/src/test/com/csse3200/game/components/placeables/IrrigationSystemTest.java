@@ -0,0 +1,139 @@
+package com.csse3200.game.components.placeables;
+
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.areas.GameArea;
+import com.csse3200.game.areas.terrain.CropTileComponent;
+import com.csse3200.game.areas.terrain.GameMap;
+import com.csse3200.game.areas.terrain.TerrainTile;
+import com.csse3200.game.areas.terrain.TileGrid;
+import com.csse3200.game.areas.weather.ClimateController;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityType;
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.rendering.DynamicTextureRenderComponent;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class IrrigationSystemTest {
+	private static final int WIDTH = 7;
+	private static final int HEIGHT = 5;
+	private TerrainTile[] tiles;
+	private IrrigationSystem irrigationSystem;
+
+	@BeforeEach
+	void setup() {
+		GameArea gameArea = mock(GameArea.class);
+		GameMap gameMap = mock(GameMap.class);
+		TileGrid tileGrid = mock(TileGrid.class);
+		when(gameArea.getMap()).thenReturn(gameMap);
+		when(gameMap.getTileGrid()).thenReturn(tileGrid);
+		TimeService timeService = mock(TimeService.class);
+		when(timeService.getEvents()).thenReturn(new EventHandler());
+		ServiceLocator.registerGameArea(gameArea);
+		ServiceLocator.registerTimeService(timeService);
+		ClimateController climateController = new ClimateController();
+		when(gameArea.getClimateController()).thenReturn(climateController);
+		irrigationSystem = new IrrigationSystem();
+		ServiceLocator.registerIrrigationSystem(irrigationSystem);
+
+		// A 7x5 map of dirt, with one tile per world unit
+		tiles = new TerrainTile[WIDTH * HEIGHT];
+		for (int i = 0; i < tiles.length; i++) {
+			tiles[i] = new TerrainTile(null, TerrainTile.TerrainCategory.DIRT);
+		}
+		when(gameMap.worldToTileX(anyFloat())).thenAnswer(invocation -> (int) Math.floor(invocation.<Float>getArgument(0)));
+		when(gameMap.worldToTileY(anyFloat())).thenAnswer(invocation -> (int) Math.floor(invocation.<Float>getArgument(0)));
+		when(gameMap.getTile(any(Vector2.class))).thenAnswer(invocation -> {
+			Vector2 position = invocation.getArgument(0);
+			return tile((int) position.x, (int) position.y);
+		});
+		when(tileGrid.getWidth()).thenReturn(WIDTH);
+		when(tileGrid.isInBounds(anyInt(), anyInt())).thenAnswer(invocation -> {
+			int x = invocation.getArgument(0);
+			int y = invocation.getArgument(1);
+			return x >= 0 && y >= 0 && x < WIDTH && y < HEIGHT;
+		});
+		when(tileGrid.getTile(anyInt(), anyInt())).thenAnswer(
+				invocation -> tile(invocation.getArgument(0), invocation.getArgument(1)));
+	}
+
+	@Test
+	void shouldWaterTilesCoveredByPoweredNetwork() {
+		/* P S S with crop tiles above the first sprinkler and to the right of both sprinklers,
+		 * which is covered by both of them */
+		place(createPipe(EntityType.PUMP, true), 2, 2);
+		place(createPipe(EntityType.SPRINKLER, false), 3, 2);
+		place(createPipe(EntityType.SPRINKLER, false), 4, 2);
+		CropTileComponent above = placeCropTile(3, 3);
+		CropTileComponent shared = placeCropTile(5, 2);
+
+		irrigationSystem.sprinkle();
+
+		assertEquals(1, irrigationSystem.getNetworkCount());
+		assertEquals(0.25, above.getWaterContent(), 0.0001);
+		// Only watered once, even though two sprinklers cover it
+		assertEquals(0.25, shared.getWaterContent(), 0.0001);
+	}
+
+	@Test
+	void shouldNotWaterFromUnpoweredNetwork() {
+		place(createPipe(EntityType.SPRINKLER, false), 3, 2);
+		CropTileComponent above = placeCropTile(3, 3);
+
+		irrigationSystem.sprinkle();
+
+		assertEquals(0, above.getWaterContent(), 0.0001);
+	}
+
+	@Test
+	void shouldStopWateringFromRemovedNetwork() {
+		Entity sprinkler = createPipe(EntityType.SPRINKLER, false);
+		place(sprinkler, 3, 2);
+		assertEquals(1, irrigationSystem.getNetworkCount());
+
+		sprinkler.getEvents().trigger("onDestroy");
+
+		assertEquals(0, irrigationSystem.getNetworkCount());
+	}
+
+	private TerrainTile tile(int x, int y) {
+		if (x < 0 || y < 0 || x >= WIDTH || y >= HEIGHT) {
+			return null;
+		}
+		return tiles[y * WIDTH + x];
+	}
+
+	private Entity createPipe(EntityType type, boolean pump) {
+		Entity pipe = new Entity(type)
+				.addComponent(new SprinklerComponent())
+				.addComponent(mock(DynamicTextureRenderComponent.class));
+		if (pump) {
+			pipe.getComponent(SprinklerComponent.class).setPump();
+		}
+		return pipe;
+	}
+
+	private void place(Entity entity, int x, int y) {
+		tile(x, y).setOccupant(entity);
+		entity.setPosition(x, y);
+		entity.create();
+	}
+
+	private CropTileComponent placeCropTile(int x, int y) {
+		CropTileComponent cropTile = new CropTileComponent(0, 0);
+		place(new Entity(EntityType.TILE).addComponent(cropTile), x, y);
+		return cropTile;
+	}
+}
@@ -5,6 +5,7 @@ import com.csse3200.game.areas.GameArea;
 import com.csse3200.game.areas.terrain.CropTileComponent;
 import com.csse3200.game.areas.terrain.GameMap;
 import com.csse3200.game.areas.terrain.TerrainTile;
+import com.csse3200.game.areas.terrain.TileGrid;
 import com.csse3200.game.areas.weather.ClimateController;
 import com.csse3200.game.components.plants.PlantComponent;
 import com.csse3200.game.entities.Entity;
@@ -18,7 +19,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +44,10 @@ class SprinklerComponentTest {
 	private static GameArea gameArea;
 	private static GameMap gameMap;
 	private static TimeService timeService;
+	private static final int WIDTH = 7;
+	private static final int HEIGHT = 5;
+	private static TerrainTile[] tiles;
+	private static IrrigationSystem irrigationSystem;
 
 	@BeforeEach
 	void setup() {
@@ -50,6 +61,8 @@ class SprinklerComponentTest {
 		ServiceLocator.registerTimeService(timeService);
 		ClimateController climateController = new ClimateController();
 		when(gameArea.getClimateController()).thenReturn(climateController);
+		irrigationSystem = new IrrigationSystem();
+		ServiceLocator.registerIrrigationSystem(irrigationSystem);
 
 		// Create tiles for test area
 		/* We get a test area that looks like this:
@@ -59,23 +72,31 @@ class SprinklerComponentTest {
 		 *   x x x x x x x
 		 *   x x x x x x x
 		 * with: x = empty tiles, S = will contain sprinkler, P = will contain pump */
-		p1Tile = new TerrainTile(null, TerrainTile.TerrainCategory.DIRT);
-		s1Tile = new TerrainTile(null, TerrainTile.TerrainCategory.DIRT);
-		s2Tile = new TerrainTile(null, TerrainTile.TerrainCategory.DIRT);
-		for (int x = 0; x <= 6; x++) {
-			for (int y = 0; y <= 4; y++) {
-				Vector2 pos = new Vector2(x, y);
-				if (pos.equals(p1_pos)) {
-					when(gameMap.getTile(pos)).thenReturn(p1Tile);
-				} else if (pos.equals(s1_pos)) {
-					when(gameMap.getTile(pos)).thenReturn(s1Tile);
-				} else if (pos.equals(s2_pos)) {
-					when(gameMap.getTile(pos)).thenReturn(s2Tile);
-				} else {
-					when(gameMap.getTile(pos)).thenReturn(new TerrainTile(null, TerrainTile.TerrainCategory.DIRT));
-				}
-			}
+		tiles = new TerrainTile[WIDTH * HEIGHT];
+		for (int i = 0; i < tiles.length; i++) {
+			tiles[i] = new TerrainTile(null, TerrainTile.TerrainCategory.DIRT);
 		}
+		p1Tile = tile((int) p1_pos.x, (int) p1_pos.y);
+		s1Tile = tile((int) s1_pos.x, (int) s1_pos.y);
+		s2Tile = tile((int) s2_pos.x, (int) s2_pos.y);
+		when(gameMap.getTile(any(Vector2.class))).thenAnswer(invocation -> {
+			Vector2 position = invocation.getArgument(0);
+			return tile((int) position.x, (int) position.y);
+		});
+
+		// The irrigation system looks tiles up by their coordinates, with one tile per world unit
+		TileGrid tileGrid = mock(TileGrid.class);
+		when(gameMap.getTileGrid()).thenReturn(tileGrid);
+		when(gameMap.worldToTileX(anyFloat())).thenAnswer(invocation -> (int) Math.floor(invocation.<Float>getArgument(0)));
+		when(gameMap.worldToTileY(anyFloat())).thenAnswer(invocation -> (int) Math.floor(invocation.<Float>getArgument(0)));
+		when(tileGrid.getWidth()).thenReturn(WIDTH);
+		when(tileGrid.isInBounds(anyInt(), anyInt())).thenAnswer(invocation -> {
+			int x = invocation.getArgument(0);
+			int y = invocation.getArgument(1);
+			return x >= 0 && y >= 0 && x < WIDTH && y < HEIGHT;
+		});
+		when(tileGrid.getTile(anyInt(), anyInt())).thenAnswer(
+				invocation -> tile(invocation.getArgument(0), invocation.getArgument(1)));
 
 		// create sprinkler and pump entities.
 		DynamicTextureRenderComponent dtrc = mock(DynamicTextureRenderComponent.class);
@@ -198,54 +219,117 @@ class SprinklerComponentTest {
 	}
 
 	@Test
-	void sprinklerWatersCropTiles() {
+	void sprinklerJoinsPoweredNetwork() {
+		// place a sprinkler between an unpowered sprinkler and a pump,
+		// both sprinklers should be powered once they are connected
+		p1Tile.setOccupant(p1);
+		s1Tile.setOccupant(s1);
+		s2Tile.setOccupant(s2);
+		p1.setPosition(p1_pos);
+		s1.setPosition(s1_pos);
+		s2.setPosition(s2_pos);
+		s2.create();
+		p1.create();
+		assertFalse(s2.getComponent(SprinklerComponent.class).getPowered());
+		s1.create();
+		assertTrue(s1.getComponent(SprinklerComponent.class).getPowered());
+		assertTrue(s2.getComponent(SprinklerComponent.class).getPowered());
+	}
+
+	@Test
+	void sprinklerKeepsPowerWhenEndRemoved() {
+		// remove the sprinkler at the end of a powered line, the rest should stay powered
+		p1Tile.setOccupant(p1);
 		s1Tile.setOccupant(s1);
+		s2Tile.setOccupant(s2);
+		p1.setPosition(p1_pos);
 		s1.setPosition(s1_pos);
+		s2.setPosition(s2_pos);
+		p1.create();
 		s1.create();
-		// set the sprinkler to powered, so it can sprinkle
-		s1.getComponent(SprinklerComponent.class).setPower(true);
+		s2.create();
+		s2.getEvents().trigger("onDestroy");
+		assertTrue(s1.getComponent(SprinklerComponent.class).getPowered());
+		assertTrue(p1.getComponent(SprinklerComponent.class).getPowered());
+	}
+
+	@Test
+	void sprinklerWatersCropTiles() {
+		// a pump next to the sprinkler powers it, so it can sprinkle
+		placePoweredSprinkler();
 
 		// check that each tile in the sprinklers AOE gets watered
-		for (Vector2 pos : s1.getComponent(SprinklerComponent.class).aoe) {
-			// generate a cropTile for this position
-			CropTileComponent cropComp = new CropTileComponent(0, 0);
-			Entity cropTile = new Entity(EntityType.TILE).addComponent(cropComp);
-			cropTile.create();
-			ServiceLocator.getGameArea().getMap().getTile(pos).setOccupant(cropTile);
+		List<CropTileComponent> cropTiles = placeCropTilesAroundSprinkler();
+		for (CropTileComponent cropComp : cropTiles) {
 			// check initial value is 0 / un-watered.
 			assertEquals(0, cropComp.getWaterContent());
+		}
 
-			// make sprinkler water
-			s1.getComponent(SprinklerComponent.class).sprinkle();
+		irrigationSystem.sprinkle();
+		for (CropTileComponent cropComp : cropTiles) {
 			assertEquals(0.25, cropComp.getWaterContent());
 		}
 	}
 
 	@Test
 	void sprinklerWatersPlants() {
-		s1Tile.setOccupant(s1);
-		s1.setPosition(s1_pos);
-		s1.create();
-		// set the sprinkler to powered, so it can sprinkle
-		s1.getComponent(SprinklerComponent.class).setPower(true);
+		// a pump next to the sprinkler powers it, so it can sprinkle
+		placePoweredSprinkler();
 
 		// check that each tile with a plant in the sprinklers AOE gets watered to the amount the plant requires
-		for (Vector2 pos : s1.getComponent(SprinklerComponent.class).aoe) {
-			// generate a cropTile for this position
-			CropTileComponent cropComp = new CropTileComponent(0, 0);
-			Entity cropTile = new Entity(EntityType.TILE).addComponent(cropComp);
-			cropTile.create();
+		List<CropTileComponent> cropTiles = placeCropTilesAroundSprinkler();
+		List<PlantComponent> plants = new ArrayList<>();
+		for (CropTileComponent cropComp : cropTiles) {
 			// 1 is a reasonable "ideal water level".
 			PlantComponent plant = new PlantComponent(1, "name", "type", "desc", 1, 1, 1, cropComp);
 			Entity plantEntity = new Entity(EntityType.PLANT).addComponent(plant);
 			cropComp.setPlant(plantEntity);
-			ServiceLocator.getGameArea().getMap().getTile(pos).setOccupant(cropTile);
+			plants.add(plant);
 			// check initial value is 0 / un-watered.
 			assertEquals(0, cropComp.getWaterContent());
+		}
+
+		// make sprinkler water the tiles with the plants
+		irrigationSystem.sprinkle();
+		for (int i = 0; i < cropTiles.size(); i++) {
+			assertEquals(plants.get(i).getIdealWaterLevel(), cropTiles.get(i).getWaterContent());
+		}
+	}
+
+	private void placePoweredSprinkler() {
+		p1Tile.setOccupant(p1);
+		s1Tile.setOccupant(s1);
+		p1.setPosition(p1_pos);
+		s1.setPosition(s1_pos);
+		p1.create();
+		s1.create();
+		assertTrue(s1.getComponent(SprinklerComponent.class).getPowered());
+	}
+
+	/**
+	 * Places a crop tile on every empty tile in s1's area-of-effect
+	 */
+	private List<CropTileComponent> placeCropTilesAroundSprinkler() {
+		List<CropTileComponent> cropTiles = new ArrayList<>();
+		for (int i = 0; i < SprinklerComponent.AOE_X.length; i++) {
+			TerrainTile terrainTile = tile((int) s1_pos.x + SprinklerComponent.AOE_X[i],
+					(int) s1_pos.y + SprinklerComponent.AOE_Y[i]);
+			if (terrainTile.isOccupied()) {
+				continue;
+			}
+			CropTileComponent cropComp = new CropTileComponent(0, 0);
+			Entity cropTile = new Entity(EntityType.TILE).addComponent(cropComp);
+			cropTile.create();
+			terrainTile.setOccupant(cropTile);
+			cropTiles.add(cropComp);
+		}
+		return cropTiles;
+	}
 
-			// make sprinkler water the tile with the plant
-			s1.getComponent(SprinklerComponent.class).sprinkle();
-			assertEquals(plant.getIdealWaterLevel(), cropComp.getWaterContent());
+	private static TerrainTile tile(int x, int y) {
+		if (x < 0 || y < 0 || x >= WIDTH || y >= HEIGHT) {
+			return null;
 		}
+		return tiles[y * WIDTH + x];
 	}
 }
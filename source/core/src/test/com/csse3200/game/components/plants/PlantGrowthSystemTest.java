@@ -0,0 +1,168 @@
+package com.csse3200.game.components.plants;
+
+import com.csse3200.game.areas.terrain.CropTileComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.PlanetOxygenService;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimeService;
+import com.csse3200.game.services.plants.PlantInfoService;
+import com.csse3200.game.services.sound.SoundService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for PlantGrowthSystem
+ */
+@ExtendWith(GameExtension.class)
+class PlantGrowthSystemTest {
+	PlanetOxygenService oxygenService;
+	TimeService timeService;
+	PlantGrowthSystem growthSystem;
+
+	@BeforeEach
+	void setUp() {
+		timeService = new TimeService();
+		ServiceLocator.registerTimeService(timeService);
+		oxygenService = mock(PlanetOxygenService.class);
+		ServiceLocator.registerPlanetOxygenService(oxygenService);
+		ServiceLocator.registerPlantInfoService(mock(PlantInfoService.class));
+		ServiceLocator.registerSoundService(mock(SoundService.class, RETURNS_DEEP_STUBS));
+		growthSystem = new PlantGrowthSystem();
+		ServiceLocator.registerPlantGrowthSystem(growthSystem);
+	}
+
+	/**
+	 * Verifies that the oxygen from every plant is applied to the planet in one go.
+	 */
+	@Test
+	void shouldAddOxygenOnceForAllPlants() {
+		for (int i = 0; i < 3; i++) {
+			growthSystem.addPlant(createPlant());
+		}
+
+		timeService.setMinute(20);
+
+		// Seedlings give off 2 oxygen each
+		verify(oxygenService, times(1)).addOxygen(6f);
+		verify(oxygenService, never()).removeOxygen(anyFloat());
+	}
+
+	/**
+	 * Verifies that oxygen only changes every 20 minutes.
+	 */
+	@Test
+	void shouldNotAddOxygenBetweenIntervals() {
+		growthSystem.addPlant(createPlant());
+
+		timeService.setMinute(21);
+
+		verify(oxygenService, never()).addOxygen(anyFloat());
+	}
+
+	/**
+	 * Verifies that adding a plant twice does not advance it twice.
+	 */
+	@Test
+	void shouldIgnoreDuplicatePlants() {
+		PlantComponent plant = createPlant();
+		growthSystem.addPlant(plant);
+		growthSystem.addPlant(plant);
+
+		assertEquals(1, growthSystem.getPlantCount());
+		timeService.setMinute(20);
+		verify(oxygenService).addOxygen(2f);
+	}
+
+	/**
+	 * Verifies that removed plants are no longer advanced, and the remaining plants still are.
+	 */
+	@Test
+	void shouldStopAdvancingRemovedPlants() {
+		PlantComponent removed = createPlant();
+		PlantComponent kept = createPlant();
+		growthSystem.addPlant(removed);
+		growthSystem.addPlant(kept);
+
+		growthSystem.removePlant(removed);
+		growthSystem.removePlant(removed);
+
+		assertEquals(1, growthSystem.getPlantCount());
+		assertEquals(0, kept.getGrowthSlot());
+		assertEquals(PlantComponent.NO_GROWTH_SLOT, removed.getGrowthSlot());
+		timeService.setMinute(20);
+		verify(oxygenService).addOxygen(2f);
+	}
+
+	/**
+	 * Verifies that disposing a plant removes it from the system.
+	 */
+	@Test
+	void shouldRemovePlantOnDispose() {
+		PlantComponent plant = createPlant();
+		growthSystem.addPlant(plant);
+
+		plant.dispose();
+
+		assertEquals(0, growthSystem.getPlantCount());
+	}
+
+	/**
+	 * Verifies that adult plants count the days they have been adults.
+	 */
+	@Test
+	void shouldAdvanceAdultPlantsEachDay() {
+		PlantComponent plant = createPlant();
+		plant.setGrowthStage(PlantComponent.GrowthStage.ADULT.getValue());
+		growthSystem.addPlant(plant);
+
+		timeService.setDay(1);
+		timeService.setDay(2);
+
+		assertEquals(2, plant.getNumOfDaysAsAdult());
+	}
+
+	/**
+	 * Verifies that the system holds a plant's state while advancing it and hands it back when the
+	 * plant is removed, including after the plants are packed.
+	 */
+	@Test
+	void shouldHoldPlantStateWhileAdvancing() {
+		PlantComponent removed = createPlant();
+		PlantComponent kept = createPlant();
+		growthSystem.addPlant(removed);
+		growthSystem.addPlant(kept);
+		kept.setPlantHealth(7);
+		kept.setCurrentGrowthLevel(12);
+		kept.setNumOfDaysAsAdult(3);
+		removed.setPlantHealth(4);
+
+		assertEquals(7, growthSystem.getHealth(1));
+		assertEquals(12, growthSystem.getGrowthLevel(1));
+		assertEquals(3, growthSystem.getDaysAsAdult(1));
+
+		growthSystem.removePlant(removed);
+		assertEquals(4, removed.getPlantHealth());
+		assertEquals(7, growthSystem.getHealth(0));
+		assertEquals(7, kept.getPlantHealth());
+		assertEquals(12, kept.getCurrentGrowthLevel());
+
+		growthSystem.removePlant(kept);
+		kept.setPlantHealth(5);
+		assertEquals(5, kept.getPlantHealth());
+		assertEquals(12, kept.getCurrentGrowthLevel());
+		assertEquals(3, kept.getNumOfDaysAsAdult());
+	}
+
+	private PlantComponent createPlant() {
+		PlantComponent plant = new PlantComponent(10, "testPlant", "DEFENCE", "Test plant", 1,
+				5, 100, mock(CropTileComponent.class));
+		plant.setEntity(mock(Entity.class));
+		return plant;
+	}
+}
@@ -0,0 +1,81 @@
+package com.csse3200.game.components.plants;
+
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TileHealthDeltas
+ */
+@ExtendWith(GameExtension.class)
+class TileHealthDeltasTest {
+	TileHealthDeltas deltas;
+
+	@BeforeEach
+	void setUp() {
+		deltas = new TileHealthDeltas();
+		deltas.resize(5, 5);
+	}
+
+	/**
+	 * Verifies that a change is added to the eight tiles around the centre, but not the centre itself.
+	 */
+	@Test
+	void shouldAddAroundCentreOnly() {
+		deltas.addAround(2, 2, 4);
+
+		for (int y = 0; y < 5; y++) {
+			for (int x = 0; x < 5; x++) {
+				boolean neighbour = Math.abs(x - 2) <= 1 && Math.abs(y - 2) <= 1 && !(x == 2 && y == 2);
+				assertEquals(neighbour ? 4 : 0, deltas.get(x, y));
+			}
+		}
+	}
+
+	/**
+	 * Verifies that overlapping effects are added together.
+	 */
+	@Test
+	void shouldSumOverlappingEffects() {
+		deltas.addAround(1, 2, 4);
+		deltas.addAround(3, 2, -6);
+
+		assertEquals(-2, deltas.get(2, 2));
+		assertEquals(4, deltas.get(0, 2));
+		assertEquals(-6, deltas.get(4, 2));
+	}
+
+	/**
+	 * Verifies that tiles outside the map are ignored.
+	 */
+	@Test
+	void shouldIgnoreTilesOutsideMap() {
+		deltas.addAround(0, 0, 4);
+
+		assertEquals(4, deltas.get(1, 1));
+		assertEquals(0, deltas.get(-1, -1));
+		assertEquals(0, deltas.get(5, 0));
+	}
+
+	/**
+	 * Verifies that clearing resets every changed tile.
+	 */
+	@Test
+	void shouldClearChangedTiles() {
+		deltas.addAround(2, 2, 4);
+		deltas.addAround(4, 4, -4);
+		assertFalse(deltas.isEmpty());
+
+		deltas.clear();
+
+		assertTrue(deltas.isEmpty());
+		for (int y = 0; y < 5; y++) {
+			for (int x = 0; x < 5; x++) {
+				assertEquals(0, deltas.get(x, y));
+			}
+		}
+	}
+}
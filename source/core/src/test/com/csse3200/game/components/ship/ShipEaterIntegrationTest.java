@@ -147,7 +147,7 @@ class ShipEaterIntegrationTest {
 
 		// setup obstacles
 		IntStream.range(7, 13).forEach(x -> {
-			Entity invisibleObstacle = ObstacleFactory.createInvisibleObstacle();
+			Entity invisibleObstacle = ObstacleFactory.createWall(1f, 1f);
 			invisibleObstacle.setPosition(new Vector2(x, 5f));
 			ServiceLocator.getGameArea().spawnEntity(invisibleObstacle);
 			ServiceLocator.getGameArea().getMap().getTile(new Vector2(x, 5f)).setOccupant(invisibleObstacle);
@@ -190,7 +190,7 @@ class ShipEaterIntegrationTest {
 
 		// setup obstacles
 		IntStream.range(7, 13).forEach(x -> {
-			Entity invisibleObstacle = ObstacleFactory.createInvisibleObstacle();
+			Entity invisibleObstacle = ObstacleFactory.createWall(1f, 1f);
 			invisibleObstacle.setPosition(new Vector2(x, 9f));
 			ServiceLocator.getGameArea().spawnEntity(invisibleObstacle);
 			ServiceLocator.getGameArea().getMap().getTile(new Vector2(x, 9f)).setOccupant(invisibleObstacle);
@@ -309,7 +309,7 @@ class ShipEaterIntegrationTest {
 	void digForeverrrrrrrr() {
 		// setup obstacles
 		IntStream.range(2, 6).forEach(y -> {
-			Entity invisibleObstacle = ObstacleFactory.createInvisibleObstacle();
+			Entity invisibleObstacle = ObstacleFactory.createWall(1f, 1f);
 			invisibleObstacle.setPosition(new Vector2(10f, y));
 			ServiceLocator.getGameArea().spawnEntity(invisibleObstacle);
 			ServiceLocator.getGameArea().getMap().getTile(new Vector2(10f, y)).setOccupant(invisibleObstacle);
@@ -18,7 +18,10 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -55,21 +58,19 @@ class ShipTimeSkipComponentTest {
 
 		// not unlocked yet, shouldn't do anything
 		testEntity.getEvents().trigger("timeSkip");
-		verify(mockTimeSource, times(0)).setTimeScale(200f);
+		assertFalse(isMorningHour);
 
 		// unlock the feature
 		testEntity.getEvents().trigger(ShipFactory.events.PROGRESS_UPDATED.name(), 4, new HashSet<>(List.of(ShipProgressComponent.Feature.BED)));
 
-		// should trigger a time change now
+		// should skip straight to the morning, without speeding up the game
 		testEntity.getEvents().trigger("timeSkip");
-		verify(mockTimeSource, times(1)).setTimeScale(200f);
+		assertTrue(isMorningHour);
 
-		while (!isMorningHour) {
-			timeService.update();
-		}
-
-		assertEquals(timeService.getDay(), expectedDay);
-		verify(mockTimeSource, times(1)).setTimeScale(1f);
+		assertEquals(expectedDay, timeService.getDay());
+		assertEquals(6, timeService.getHour());
+		assertEquals(0, timeService.getMinute());
+		verify(mockTimeSource, never()).setTimeScale(anyFloat());
 	}
 
 	private static Stream<Arguments> updatesTimeWhenUnlockedParams() {
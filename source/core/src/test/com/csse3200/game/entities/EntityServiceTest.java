@@ -1,9 +1,12 @@
 package com.csse3200.game.entities;
 
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -46,4 +49,88 @@ class EntityServiceTest {
 		entityService.dispose();
 		verify(entity).dispose();
 	}
-}
\ No newline at end of file
+
+	@Test
+	void shouldQueryRadius() {
+		EntityService entityService = new EntityService();
+		Entity near = new Entity(EntityType.PLANT);
+		near.setPosition(1f, 1f);
+		Entity far = new Entity(EntityType.PLANT);
+		far.setPosition(20f, 20f);
+		Entity other = new Entity(EntityType.COW);
+		other.setPosition(1f, 2f);
+		entityService.register(near);
+		entityService.register(far);
+		entityService.register(other);
+
+		Array<Entity> plants = entityService.queryRadius(new Vector2(1.5f, 1.5f), 3f, EntityType.PLANT);
+		assertEquals(1, plants.size);
+		assertTrue(plants.contains(near, true));
+
+		Array<Entity> all = entityService.queryRadius(new Vector2(1.5f, 1.5f), 3f);
+		assertEquals(2, all.size);
+	}
+
+	@Test
+	void shouldFindNearest() {
+		EntityService entityService = new EntityService();
+		Entity first = new Entity(EntityType.PLANT);
+		first.setPosition(0f, 13f);
+		Entity second = new Entity(EntityType.PLANT);
+		second.setPosition(0f, 5f);
+		entityService.register(first);
+		entityService.register(second);
+
+		assertEquals(first, entityService.nearest(new Vector2(0f, 10f), EntityType.PLANT));
+		assertNull(entityService.nearest(new Vector2(0f, 10f), EntityType.COW));
+
+		entityService.unregister(first);
+		assertEquals(second, entityService.nearest(new Vector2(0f, 10f), EntityType.PLANT));
+	}
+
+	@Test
+	void shouldTrackMovedEntities() {
+		EntityService entityService = new EntityService();
+		Entity entity = new Entity(EntityType.COW);
+		entity.setPosition(0f, 0f);
+		entityService.register(entity);
+
+		entity.setPosition(50f, 50f);
+		assertEquals(0, entityService.queryRadius(new Vector2(0f, 0f), 2f).size);
+		assertEquals(entity, entityService.nearest(new Vector2(49f, 49f), EntityType.COW));
+	}
+
+	@Test
+	void shouldIndexEntitiesByType() {
+		EntityService entityService = new EntityService();
+		Entity plant = new Entity(EntityType.PLANT);
+		Entity cow = new Entity(EntityType.COW);
+		entityService.register(plant);
+		entityService.register(cow);
+
+		assertEquals(1, entityService.getEntitiesOfType(EntityType.PLANT).size);
+		assertTrue(entityService.getEntitiesOfType(EntityType.PLANT).contains(plant, true));
+		assertTrue(entityService.getEntitiesOfType(EntityType.CHICKEN).isEmpty());
+
+		entityService.unregister(plant);
+		entityService.unregister(plant);
+		assertTrue(entityService.getEntitiesOfType(EntityType.PLANT).isEmpty());
+		assertEquals(1, entityService.getEntitiesOfType(EntityType.COW).size);
+	}
+
+	@Test
+	void shouldTrackOxygenRateOfRegisteredEntities() {
+		EntityService entityService = new EntityService();
+		Entity plant = new Entity(EntityType.PLANT);
+		Entity oxygenEater = new Entity(EntityType.OXYGEN_EATER);
+		entityService.register(plant);
+		entityService.register(new Entity(EntityType.PLANT));
+		entityService.register(oxygenEater);
+		entityService.register(new Entity(EntityType.COW));
+		assertEquals(10f, entityService.getOxygenRate());
+
+		entityService.unregister(oxygenEater);
+		entityService.unregister(plant);
+		assertEquals(10f, entityService.getOxygenRate());
+	}
+}
@@ -45,6 +45,54 @@ class EntityTest {
 		assertEquals(new Vector2(-4f, -9f), entity.getCenterPosition());
 	}
 
+	@Test
+	void shouldGetTransformWithoutCopying() {
+		Entity entity = new Entity();
+		entity.setPosition(-5f, -10f);
+		entity.setScale(2f, 4f);
+
+		assertEquals(-5f, entity.getX());
+		assertEquals(-10f, entity.getY());
+		assertEquals(2f, entity.getScaleX());
+		assertEquals(4f, entity.getScaleY());
+		assertEquals(-4f, entity.getCenterX());
+		assertEquals(-8f, entity.getCenterY());
+
+		Vector2 out = new Vector2();
+		assertSame(out, entity.getPosition(out));
+		assertEquals(new Vector2(-5f, -10f), out);
+		assertEquals(new Vector2(2f, 4f), entity.getScale(out));
+		assertEquals(new Vector2(-4f, -8f), entity.getCenterPosition(out));
+	}
+
+	@Test
+	void shouldNotAliasSetPosition() {
+		Entity entity = new Entity();
+		Vector2 pos = new Vector2(1f, 2f);
+		entity.setPosition(pos, false);
+		pos.set(10f, 10f);
+		assertEquals(new Vector2(1f, 2f), entity.getPosition());
+	}
+
+	@Test
+	void shouldInterpolateRenderPosition() {
+		EntityService entityService = new EntityService();
+		Entity entity = new Entity();
+		entity.setPosition(2f, 4f);
+		entityService.register(entity);
+
+		entityService.update();
+		entity.setPosition(4f, 8f);
+		assertEquals(3f, entity.getRenderX(0.5f), 0.001f);
+		assertEquals(6f, entity.getRenderY(0.5f), 0.001f);
+		assertEquals(4f, entity.getRenderX(1f), 0.001f);
+
+		// Not moving during a tick means there is nothing to interpolate between
+		entityService.update();
+		assertEquals(4f, entity.getRenderX(0f), 0.001f);
+		assertEquals(8f, entity.getRenderY(0f), 0.001f);
+	}
+
 	@Test
 	void shouldUpdateComponents() {
 		Entity entity = new Entity();
@@ -42,6 +42,7 @@ class FireflySpawnerTest {
 		doReturn(new GridPoint2(5, 5)).when(mockMap).getMapSize();
 		doReturn(tile).when(mockMap).getTile(any(GridPoint2.class));
 		doReturn(true).when(tile).isTraversable();
+		doReturn(new GridPoint2(1, 1)).when(mockMap).getRandomSpawnableTile(any());
 		FireflySpawner spawner = spy(new FireflySpawner());
 		try {
 			ServiceLocator.getTimeService().getEvents().trigger("nightTime");
@@ -10,8 +10,12 @@ import com.csse3200.game.services.ServiceLocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -59,6 +63,38 @@ class EventHandlerTest {
 		verifyNoMoreInteractions(listener2);
 	}
 
+	@Test
+	void shouldTriggerWithEventKey() {
+		EventKey key = EventKey.of("keyEvent");
+		EventListener2<Integer, Boolean> listener = (EventListener2<Integer, Boolean>) mock(EventListener2.class);
+		handler.addListener(key, listener);
+		handler.trigger(key, 5, true);
+		verify(listener).handle(5, true);
+	}
+
+	@Test
+	void shouldShareListenersBetweenNameAndKey() {
+		EventListener1<String> listener = (EventListener1<String>) mock(EventListener1.class);
+		EventListener1<String> keyListener = (EventListener1<String>) mock(EventListener1.class);
+		handler.addListener("sharedEvent", listener);
+		handler.addListener(EventKey.of("sharedEvent"), keyListener);
+
+		handler.trigger(EventKey.of("sharedEvent"), "first");
+		handler.trigger("sharedEvent", "second");
+
+		verify(listener).handle("first");
+		verify(listener).handle("second");
+		verify(keyListener).handle("first");
+		verify(keyListener).handle("second");
+	}
+
+	@Test
+	void shouldInternEventKeys() {
+		assertSame(EventKey.of("internedEvent"), EventKey.of("internedEvent"));
+		assertNotEquals(EventKey.of("internedEvent").getId(), EventKey.of("otherInternedEvent").getId());
+		assertNull(EventKey.find("neverListenedEvent"));
+	}
+
 	@Test
 	void shouldHandleNoListeners() {
 		handler.trigger("not-real-event");
@@ -272,4 +308,68 @@ class EventHandlerTest {
 		verify(scheduledHandler, times(0)).trigger("event", 1, 2, 3);
 	}
 
-}
\ No newline at end of file
+	@Test
+	void shouldTriggerEventsDueAtTheSameTimeInScheduledOrder() {
+		GameTime gameTime = mock(GameTime.class);
+		when(gameTime.getTime()).thenReturn(0L);
+		ServiceLocator.registerTimeSource(gameTime);
+
+		EventHandler scheduledHandler = new EventHandler();
+		EventListener1<Integer> listener = (EventListener1<Integer>) mock(EventListener1.class);
+		scheduledHandler.addListener("event", listener);
+
+		for (int i = 0; i < 8; i++) {
+			scheduledHandler.scheduleEvent(1f, "event", i);
+		}
+
+		when(gameTime.getTime()).thenReturn(1000L);
+		scheduledHandler.update();
+		InOrder inOrder = inOrder(listener);
+		for (int i = 0; i < 8; i++) {
+			inOrder.verify(listener).handle(i);
+		}
+	}
+
+	@Test
+	void shouldTriggerDueEventsInTimeOrder() {
+		GameTime gameTime = mock(GameTime.class);
+		when(gameTime.getTime()).thenReturn(0L);
+		ServiceLocator.registerTimeSource(gameTime);
+
+		EventHandler scheduledHandler = new EventHandler();
+		EventListener1<Integer> listener = (EventListener1<Integer>) mock(EventListener1.class);
+		scheduledHandler.addListener("event", listener);
+
+		scheduledHandler.scheduleEvent(3f, "event", 3);
+		scheduledHandler.scheduleEvent(1f, "event", 1);
+		scheduledHandler.scheduleEvent(2f, "event", 2);
+
+		when(gameTime.getTime()).thenReturn(2000L);
+		scheduledHandler.update();
+		InOrder inOrder = inOrder(listener);
+		inOrder.verify(listener).handle(1);
+		inOrder.verify(listener).handle(2);
+		verify(listener, times(0)).handle(3);
+		assertEquals(1, scheduledHandler.getScheduledEventsSize());
+	}
+
+	@Test
+	void shouldDelayEventsScheduledByListeners() {
+		GameTime gameTime = mock(GameTime.class);
+		when(gameTime.getTime()).thenReturn(0L);
+		ServiceLocator.registerTimeSource(gameTime);
+
+		EventHandler scheduledHandler = new EventHandler();
+		EventListener0 listener = mock(EventListener0.class);
+		scheduledHandler.addListener("event", listener);
+		scheduledHandler.addListener("reschedule", () -> scheduledHandler.scheduleEvent(0f, "event"));
+
+		scheduledHandler.scheduleEvent(0f, "reschedule");
+		scheduledHandler.update();
+		verify(listener, times(0)).handle();
+
+		scheduledHandler.update();
+		verify(listener, times(1)).handle();
+		assertEquals(0, scheduledHandler.getScheduledEventsSize());
+	}
+}
@@ -0,0 +1,56 @@
+package com.csse3200.game.files;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Json;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityType;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.files.SaveGame.GameState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class BinarySaveCodecTest {
+	@TempDir
+	File tempDir;
+
+	@Test
+	void shouldRoundTripGameState() throws IOException {
+		GameState state = new GameState();
+		state.setDay(3);
+		state.setHour(14);
+		state.setMinute(25);
+		state.setOxygenLevel(0.75f);
+		Entity tractor = new Entity(EntityType.DUMMY);
+		tractor.setPosition(4f, 6f);
+		state.setTractor(tractor);
+
+		FileHandle file = new FileHandle(new File(tempDir, "saves/save.sav"));
+		BinarySaveCodec.write(state, file);
+		assertTrue(BinarySaveCodec.isBinarySave(file));
+
+		GameState loaded = BinarySaveCodec.read(file, new Json());
+		assertEquals(3, loaded.getDay());
+		assertEquals(14, loaded.getHour());
+		assertEquals(25, loaded.getMinute());
+		assertEquals(0.75f, loaded.getOxygenLevel());
+		assertNull(loaded.getPlayer());
+		assertEquals(EntityType.DUMMY, loaded.getTractor().getType());
+		assertEquals(4f, loaded.getTractor().getX());
+		assertEquals(6f, loaded.getTractor().getY());
+	}
+
+	@Test
+	void shouldNotTreatJsonAsBinary() {
+		FileHandle file = new FileHandle(new File(tempDir, "save.json"));
+		file.writeString("{\"day\":1}", false);
+		assertFalse(BinarySaveCodec.isBinarySave(file));
+		assertFalse(BinarySaveCodec.isBinarySave(new FileHandle(new File(tempDir, "missing.sav"))));
+	}
+}
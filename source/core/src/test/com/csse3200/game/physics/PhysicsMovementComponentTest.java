@@ -12,6 +12,7 @@ import com.csse3200.game.entities.EntityType;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
+import com.csse3200.game.services.PathfindingService;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import org.junit.jupiter.api.AfterEach;
@@ -21,8 +22,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(GameExtension.class)
 class PhysicsMovementComponentTest {
@@ -64,6 +68,34 @@ class PhysicsMovementComponentTest {
 		ServiceLocator.registerGameArea(gameArea);
 	}
 
+	@Test
+	void shouldFollowPathFromEntityCentre() {
+		Entity goal = new Entity();
+		Vector2 from = new Vector2();
+		PathfindingService pathfindingService = mock(PathfindingService.class);
+		when(pathfindingService.getDirection(eq(goal), any(Vector2.class), any(Vector2.class))).thenAnswer(invocation -> {
+			from.set(invocation.<Vector2>getArgument(1));
+			invocation.<Vector2>getArgument(2).set(0, 1);
+			return true;
+		});
+		ServiceLocator.registerPathfindingService(pathfindingService);
+
+		nonFlyingEntity = new Entity(EntityType.DUMMY);
+		nonFlyingEntity.addComponent(new PhysicsComponent());
+		nonFlyingEntity.addComponent(new PhysicsMovementComponent());
+		gameArea.spawnEntity(nonFlyingEntity);
+		PhysicsMovementComponent physicsMovementComponent = nonFlyingEntity.getComponent(
+				PhysicsMovementComponent.class);
+
+		nonFlyingEntity.setPosition(new Vector2(1, 18));
+		physicsMovementComponent.setTarget(new Vector2(5, 18));
+		physicsMovementComponent.setPathGoal(goal);
+
+		// Heads along the path rather than straight at the target, on dirt with a modifier of 1
+		assertEquals(new Vector2(0, 1), physicsMovementComponent.calculateVelocityVector());
+		assertEquals(new Vector2(1.5f, 18.5f), from);
+	}
+
 	@Test
 	void nonFlyingEntitiesMovementModifiersTest() {
 		nonFlyingEntity = new Entity(EntityType.DUMMY);
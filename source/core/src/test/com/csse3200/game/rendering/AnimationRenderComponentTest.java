@@ -1,5 +1,6 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
@@ -126,6 +127,26 @@ class AnimationRenderComponentTest {
 		assertNull(animator.getCurrentAnimation());
 	}
 
+	@Test
+	void shouldShareAnimationsBetweenAnimators() {
+		TextureAtlas atlas = createMockAtlas("test_name", 2);
+		AnimationRenderComponent first = new AnimationRenderComponent(atlas);
+		AnimationRenderComponent second = new AnimationRenderComponent(atlas);
+		AnimationRenderComponent slower = new AnimationRenderComponent(atlas);
+
+		assertTrue(first.addAnimation("test_name", 0.1f, Animation.PlayMode.LOOP));
+		assertTrue(second.addAnimation("test_name", 0.1f, Animation.PlayMode.LOOP));
+		assertTrue(slower.addAnimation("test_name", 0.5f, Animation.PlayMode.LOOP));
+		first.startAnimation("test_name");
+		second.startAnimation("test_name");
+		slower.startAnimation("test_name");
+
+		assertSame(first.currentAnimation, second.currentAnimation);
+		assertNotSame(first.currentAnimation, slower.currentAnimation);
+		// The frames are only looked up in the atlas the first time each spec is built
+		verify(atlas, times(2)).findRegions("test_name");
+	}
+
 	static TextureAtlas createMockAtlas(String animationName, int numRegions) {
 		TextureAtlas atlas = mock(TextureAtlas.class);
 		Array<AtlasRegion> regions = new Array<>(numRegions);
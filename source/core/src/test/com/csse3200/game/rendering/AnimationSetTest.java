@@ -0,0 +1,47 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(GameExtension.class)
+class AnimationSetTest {
+	@Test
+	void shouldShareAnimationsForAnAtlas() {
+		TextureAtlas atlas = createAtlas();
+
+		Animation<TextureRegion> animation = AnimationSet.of(atlas).get(atlas, "idle", 0.1f, Animation.PlayMode.LOOP);
+		assertNotNull(animation);
+		assertSame(animation, AnimationSet.of(atlas).get(atlas, "idle", 0.1f, Animation.PlayMode.LOOP));
+		assertNull(AnimationSet.of(atlas).get(atlas, "missing", 0.1f, Animation.PlayMode.LOOP));
+	}
+
+	/**
+	 * Sets are only weakly held by their atlas, so a set must have nowhere to keep the atlas itself.
+	 */
+	@Test
+	void shouldHaveNoFieldThatCanHoldItsAtlas() {
+		for (Field field : AnimationSet.class.getDeclaredFields()) {
+			if (!Modifier.isStatic(field.getModifiers())) {
+				assertFalse(field.getType().isAssignableFrom(TextureAtlas.class), field.getName());
+			}
+		}
+	}
+
+	private static TextureAtlas createAtlas() {
+		TextureAtlas atlas = new TextureAtlas();
+		Texture texture = mock(Texture.class);
+		atlas.addRegion("idle", texture, 0, 0, 16, 16);
+		return atlas;
+	}
+}
@@ -0,0 +1,83 @@
+package com.csse3200.game.rendering;
+
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class RenderQueueTest {
+	@Test
+	void shouldSortByZIndex() {
+		RenderQueue queue = new RenderQueue(2);
+		Renderable front = makeRenderable(2f);
+		Renderable middle = makeRenderable(1f);
+		Renderable back = makeRenderable(0f);
+		queue.add(front);
+		queue.add(middle);
+		queue.add(back);
+
+		queue.sort();
+		assertEquals(3, queue.size());
+		assertSame(back, queue.get(0));
+		assertSame(middle, queue.get(1));
+		assertSame(front, queue.get(2));
+	}
+
+	@Test
+	void shouldReorderMovedRenderables() {
+		RenderQueue queue = new RenderQueue(4);
+		Renderable first = makeRenderable(0f);
+		Renderable second = makeRenderable(1f);
+		queue.add(first);
+		queue.add(second);
+		queue.sort();
+
+		when(first.getZIndex()).thenReturn(5f);
+		queue.sort();
+		assertSame(second, queue.get(0));
+		assertSame(first, queue.get(1));
+	}
+
+	@Test
+	void shouldKeepOrderOfEqualZIndexes() {
+		RenderQueue queue = new RenderQueue(4);
+		Renderable[] renderables = new Renderable[40];
+		for (int i = 0; i < renderables.length; i++) {
+			// Enough renderables to use the full sort, in reverse order of z index
+			renderables[i] = makeRenderable((renderables.length - 1 - i) / 2);
+			queue.add(renderables[i]);
+		}
+		queue.sort();
+
+		for (int i = 1; i < queue.size(); i++) {
+			assertTrue(queue.get(i - 1).getZIndex() <= queue.get(i).getZIndex());
+		}
+		// Pairs with equal z index keep the order they were added in
+		assertSame(renderables[38], queue.get(0));
+		assertSame(renderables[39], queue.get(1));
+	}
+
+	@Test
+	void shouldRemove() {
+		RenderQueue queue = new RenderQueue(4);
+		Renderable first = makeRenderable(0f);
+		Renderable second = makeRenderable(1f);
+		queue.add(first);
+		queue.add(second);
+
+		assertTrue(queue.remove(first));
+		assertFalse(queue.remove(first));
+		assertEquals(1, queue.size());
+		assertSame(second, queue.get(0));
+	}
+
+	private static Renderable makeRenderable(float zIndex) {
+		Renderable renderable = mock(Renderable.class);
+		when(renderable.getZIndex()).thenReturn(zIndex);
+		return renderable;
+	}
+}
@@ -1,12 +1,15 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -45,8 +48,8 @@ class RenderServiceTest {
 		// Same layer, renderable2 is in front
 		when(renderable1.getLayer()).thenReturn(1);
 		when(renderable2.getLayer()).thenReturn(1);
-		when(renderable1.compareTo(any())).thenReturn(1);
-		when(renderable2.compareTo(any())).thenReturn(-1);
+		when(renderable1.getZIndex()).thenReturn(1f);
+		when(renderable2.getZIndex()).thenReturn(0f);
 
 		renderService.register(renderable1);
 		renderService.register(renderable2);
@@ -77,4 +80,42 @@ class RenderServiceTest {
 		inOrder.verify(renderable1).render(any());
 		inOrder.verify(renderable2).render(any());
 	}
+
+	@Test
+	void shouldCullRenderablesOutsideCamera() {
+		RenderService renderService = new RenderService();
+		SpriteBatch spriteBatch = mock(SpriteBatch.class);
+		OrthographicCamera camera = new OrthographicCamera(10, 10);
+		camera.update();
+		renderService.setCamera(camera);
+
+		Renderable inView = makeRenderable(new Rectangle(1f, 1f, 1f, 1f));
+		Renderable outOfView = makeRenderable(new Rectangle(20f, 20f, 1f, 1f));
+		Renderable unbounded = mock(Renderable.class);
+		renderService.register(inView);
+		renderService.register(outOfView);
+		renderService.register(unbounded);
+
+		renderService.render(spriteBatch);
+		verify(inView).render(spriteBatch);
+		verify(outOfView, never()).render(any());
+		verify(outOfView).renderCulled();
+		verify(unbounded).render(spriteBatch);
+		assertEquals(1, renderService.getCulledCount());
+
+		// Everything is rendered once the camera is removed
+		renderService.setCamera(null);
+		renderService.render(spriteBatch);
+		verify(outOfView).render(spriteBatch);
+		assertEquals(0, renderService.getCulledCount());
+	}
+
+	private static Renderable makeRenderable(Rectangle worldBounds) {
+		Renderable renderable = mock(Renderable.class);
+		when(renderable.getWorldBounds(any())).thenAnswer(invocation -> {
+			invocation.<Rectangle>getArgument(0).set(worldBounds);
+			return true;
+		});
+		return renderable;
+	}
 }
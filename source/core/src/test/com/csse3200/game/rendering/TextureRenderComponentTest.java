@@ -2,7 +2,6 @@ package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
@@ -25,8 +24,10 @@ class TextureRenderComponentTest {
 
 	@Test
 	void shouldDrawTexture() {
-		when(entity.getPosition()).thenReturn(new Vector2(2f, 2f));
-		when(entity.getScale()).thenReturn(new Vector2(1f, 1f));
+		when(entity.getX()).thenReturn(2f);
+		when(entity.getY()).thenReturn(2f);
+		when(entity.getScaleX()).thenReturn(1f);
+		when(entity.getScaleY()).thenReturn(1f);
 		TextureRenderComponent component = new TextureRenderComponent(texture);
 		component.setEntity(entity);
 		component.render(spriteBatch);
@@ -0,0 +1,38 @@
+package com.csse3200.game.services;
+
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(GameExtension.class)
+class GameLoopTest {
+	@Test
+	void shouldRunWholeTicks() {
+		GameLoop gameLoop = new GameLoop(0.0625f, 5);
+		assertEquals(0, gameLoop.advance(0.03125f));
+		assertEquals(0.5f, gameLoop.getAlpha(), 0.001f);
+
+		assertEquals(1, gameLoop.advance(0.0625f));
+		assertEquals(0.5f, gameLoop.getAlpha(), 0.001f);
+
+		assertEquals(2, gameLoop.advance(0.09375f));
+		assertEquals(0f, gameLoop.getAlpha(), 0.001f);
+	}
+
+	@Test
+	void shouldLimitCatchUp() {
+		GameLoop gameLoop = new GameLoop(0.0078125f, 5);
+		assertEquals(5, gameLoop.advance(0.25f));
+		// The dropped backlog is not run on later frames
+		assertEquals(0, gameLoop.advance(0.001f));
+	}
+
+	@Test
+	void shouldIgnoreNegativeFrameTime() {
+		GameLoop gameLoop = new GameLoop(0.1f, 5);
+		assertEquals(0, gameLoop.advance(-1f));
+		assertEquals(0f, gameLoop.getAlpha());
+	}
+}
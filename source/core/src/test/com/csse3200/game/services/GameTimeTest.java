@@ -47,6 +47,18 @@ class GameTimeTest {
 		shouldScale(0f, 0f, 10f);
 	}
 
+	@Test
+	void shouldUseTickTimeDuringTick() {
+		gameTime.setTimeScale(2f);
+		gameTime.beginTick(0.5f);
+		assertEquals(1f, gameTime.getDeltaTime());
+		assertEquals(0.5f, gameTime.getRawDeltaTime());
+
+		gameTime.endTick();
+		assertEquals(20f, gameTime.getDeltaTime());
+		assertEquals(10f, gameTime.getRawDeltaTime());
+	}
+
 	private void shouldScale(float scale, float delta, float rawDelta) {
 		gameTime.setTimeScale(scale);
 		assertEquals(delta, gameTime.getDeltaTime());
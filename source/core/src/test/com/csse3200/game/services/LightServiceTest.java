@@ -1,5 +1,6 @@
 package com.csse3200.game.services;
 
+import box2dLight.PointLight;
 import box2dLight.RayHandler;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.csse3200.game.components.CameraComponent;
@@ -14,6 +15,7 @@ import org.mockito.MockedConstruction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -60,6 +62,47 @@ class LightServiceTest {
 		}
 	}
 
+	@Test
+	void testCullsLightsOutOfViewAndOverBudget() {
+		OrthographicCamera camera = new OrthographicCamera();
+		camera.viewportWidth = 20;
+		camera.viewportHeight = 10;
+		CameraComponent cameraComponent = mock(CameraComponent.class);
+		when(cameraComponent.getCamera()).thenReturn(camera);
+		ServiceLocator.registerCameraComponent(cameraComponent);
+
+		try (MockedConstruction<RayHandler> mock = mockConstruction(RayHandler.class)) {
+			LightService lightService = new LightService();
+			lightService.setMaxLights(1);
+			PointLight firefly = createLight(1, 0);
+			PointLight lamp = createLight(5, 3);
+			PointLight farLamp = createLight(40, 0);
+			PointLight offLamp = createLight(0, 0);
+			lightService.addLight(firefly, LightService.LOW_PRIORITY, true);
+			lightService.addLight(lamp, LightService.DEFAULT_PRIORITY, true);
+			lightService.addLight(farLamp, LightService.DEFAULT_PRIORITY, true);
+			lightService.addLight(offLamp, LightService.DEFAULT_PRIORITY, false);
+
+			lightService.renderLight();
+			verify(lamp).setActive(true);
+			verify(firefly).setActive(false);
+			verify(farLamp).setActive(false);
+			verify(offLamp, never()).setActive(anyBoolean());
+			assertEquals(4, lightService.getLightCount());
+			assertEquals(1, lightService.getRenderedCount());
+			assertEquals(1, lightService.getCulledCount());
+			assertEquals(1, lightService.getOverBudgetCount());
+
+			lightService.setLightOn(lamp, false);
+			lightService.removeLight(farLamp);
+			lightService.renderLight();
+			verify(firefly).setActive(true);
+			assertEquals(3, lightService.getLightCount());
+			assertEquals(0, lightService.getCulledCount());
+			assertEquals(0, lightService.getOverBudgetCount());
+		}
+	}
+
 	@Test
 	void testGetRayHandler() {
 		try (MockedConstruction<RayHandler> mock = mockConstruction(RayHandler.class)) {
@@ -69,5 +112,11 @@ class LightServiceTest {
 		}
 	}
 
-
-}
\ No newline at end of file
+	private static PointLight createLight(float x, float y) {
+		PointLight light = mock(PointLight.class);
+		when(light.getX()).thenReturn(x);
+		when(light.getY()).thenReturn(y);
+		when(light.getDistance()).thenReturn(3f);
+		return light;
+	}
+}
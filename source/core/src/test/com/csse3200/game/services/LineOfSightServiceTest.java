@@ -0,0 +1,90 @@
+package com.csse3200.game.services;
+
+import com.csse3200.game.areas.terrain.TerrainTile;
+import com.csse3200.game.areas.terrain.TileGrid;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.components.ColliderComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class LineOfSightServiceTest {
+	private static final int WIDTH = 8;
+	private static final int HEIGHT = 8;
+	private TerrainTile[] tiles;
+	private TileGrid grid;
+	private LineOfSightService lineOfSight;
+
+	@BeforeEach
+	void setUp() {
+		tiles = new TerrainTile[WIDTH * HEIGHT];
+		for (int i = 0; i < tiles.length; i++) {
+			tiles[i] = new TerrainTile(null, TerrainTile.TerrainCategory.GRASS);
+		}
+		grid = mock(TileGrid.class);
+		when(grid.getWidth()).thenReturn(WIDTH);
+		when(grid.getHeight()).thenReturn(HEIGHT);
+		when(grid.isInBounds(anyInt(), anyInt())).thenAnswer(invocation -> {
+			int x = invocation.getArgument(0);
+			int y = invocation.getArgument(1);
+			return x >= 0 && y >= 0 && x < WIDTH && y < HEIGHT;
+		});
+		when(grid.getTile(anyInt(), anyInt())).thenAnswer(
+				invocation -> tiles[invocation.<Integer>getArgument(1) * WIDTH + invocation.<Integer>getArgument(0)]);
+		lineOfSight = new LineOfSightService();
+	}
+
+	@Test
+	void shouldSeeAcrossOpenGround() {
+		assertTrue(lineOfSight.isVisible(grid, 0, 0, 7, 5));
+		assertTrue(lineOfSight.isVisible(grid, 3, 3, 3, 3));
+	}
+
+	@Test
+	void shouldNotSeeThroughNonTraversableTerrain() {
+		setTile(3, 2, TerrainTile.TerrainCategory.ROCK);
+
+		assertFalse(lineOfSight.isVisible(grid, 0, 2, 6, 2));
+		assertFalse(lineOfSight.isVisible(grid, 6, 2, 0, 2));
+		assertTrue(lineOfSight.isVisible(grid, 0, 3, 6, 3));
+		// The tiles at either end never block sight
+		assertTrue(lineOfSight.isVisible(grid, 3, 2, 6, 2));
+	}
+
+	@Test
+	void shouldNotSeeThroughObstacleOccupants() {
+		Entity fence = new Entity().addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE));
+		tiles[4 * WIDTH + 4].setOccupant(fence);
+		Entity cropTile = new Entity();
+		tiles[4 * WIDTH + 2].setOccupant(cropTile);
+
+		assertFalse(lineOfSight.isVisible(grid, 2, 2, 6, 6));
+		assertTrue(lineOfSight.isVisible(grid, 0, 4, 3, 4));
+	}
+
+	@Test
+	void shouldCacheUntilGridChanges() {
+		assertTrue(lineOfSight.isVisible(grid, 0, 0, 5, 0));
+		assertTrue(lineOfSight.isVisible(grid, 5, 0, 0, 0));
+		assertEquals(1, lineOfSight.getCacheMisses());
+		assertEquals(1, lineOfSight.getCacheHits());
+
+		setTile(2, 0, TerrainTile.TerrainCategory.LAVA);
+		when(grid.getVersion()).thenReturn(1);
+
+		assertFalse(lineOfSight.isVisible(grid, 0, 0, 5, 0));
+		assertEquals(2, lineOfSight.getCacheMisses());
+	}
+
+	private void setTile(int x, int y, TerrainTile.TerrainCategory category) {
+		tiles[y * WIDTH + x] = new TerrainTile(null, category);
+	}
+}
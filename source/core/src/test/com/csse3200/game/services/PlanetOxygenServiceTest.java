@@ -1,5 +1,6 @@
 package com.csse3200.game.services;
 
+import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.events.EventHandler;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -83,4 +84,16 @@ class PlanetOxygenServiceTest {
 		assertNotNull(planetOxygenService.getEvents(),
 				"Event handler should not be null");
 	}
-}
\ No newline at end of file
+
+	@Test
+	void updateAppliesEntityOxygenRate() {
+		EntityService entityService = mock(EntityService.class);
+		when(entityService.getOxygenRate()).thenReturn(-30f);
+		ServiceLocator.registerEntityService(entityService);
+
+		assertEquals(-30f, planetOxygenService.getHourlyDelta());
+		eventHandler.trigger("hourUpdate");
+		assertEquals(planetOxygenService.getDefaultInitialOxygen() - 30,
+				planetOxygenService.getOxygen(), "Hourly delta not applied");
+	}
+}
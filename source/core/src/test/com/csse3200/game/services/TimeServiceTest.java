@@ -120,4 +120,38 @@ class TimeServiceTest {
 		assertFalse(timeService.isNight());
 	}
 
-}
\ No newline at end of file
+	@Test
+	void testFastForwardTriggersEveryMinute() {
+		int[] minutes = {0};
+		int[] hours = {0};
+		int[] days = {0};
+		float[] seconds = {0};
+		timeService.getEvents().addListener("minuteUpdate", () -> minutes[0]++);
+		timeService.getEvents().addListener("hourUpdate", () -> hours[0]++);
+		timeService.getEvents().addListener("dayUpdate", () -> days[0]++);
+		timeService.getEvents().addListener("fastForward", (Float skipped) -> seconds[0] += skipped);
+		timeService.setHour(22);
+		hours[0] = 0;
+
+		timeService.fastForwardToMorning();
+
+		assertEquals(0, timeService.getMinute());
+		assertEquals(6, timeService.getHour());
+		assertEquals(1, timeService.getDay());
+		assertEquals(480, minutes[0]);
+		assertEquals(8, hours[0]);
+		assertEquals(1, days[0]);
+		assertEquals(240f, seconds[0], 0.01f);
+	}
+
+	@Test
+	void testFastForwardToSameHourSkipsWholeDay() {
+		timeService.setMinute(0);
+		timeService.fastForwardTo(6);
+		assertEquals(6, timeService.getHour());
+		assertEquals(1, timeService.getDay());
+
+		timeService.fastForwardTo(24);
+		assertEquals(1, timeService.getDay());
+	}
+}